@@ -0,0 +1,68 @@
+package com.chirper.frontend.application.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 20件のタイムラインページを従来形式と正規化形式でデコードする
+ *
+ * 投稿者数を変えて、ペイロードサイズとデコード時間が投稿者数に比例することを確認する。
+ * -Pjmh.profilers=gc の gc.alloc.rate.norm で1ページあたりの割り当てバイト数を比較する。
+ */
+@State(Scope.Benchmark)
+public class TimelineDecodingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"3", "20"})
+    public int authors;
+
+    private final ObjectReader reader = new ObjectMapper().findAndRegisterModules().readerFor(TimelineDto.class);
+    private byte[] legacy;
+    private byte[] normalized;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder legacyJson = new StringBuilder("{\"tweets\":[");
+        StringBuilder normalizedJson = new StringBuilder("{\"users\":[");
+        for (int i = 0; i < authors; i++) {
+            normalizedJson.append(i == 0 ? "" : ",")
+                    .append("{\"userId\":\"00000000-0000-0000-0000-0000000000").append(String.format("%02d", i))
+                    .append("\",\"username\":\"user").append(i).append("\"}");
+        }
+        normalizedJson.append("],\"tweets\":[");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            int author = i % authors;
+            String common = "\"tweetId\":\"tweet-" + i + "\",\"content\":\"今日はいい天気ですね\","
+                    + "\"createdAt\":\"2024-01-01T00:00:00Z\",\"likeCount\":" + i + ",\"retweetCount\":0,"
+                    + "\"likedByCurrentUser\":false,\"retweetedByCurrentUser\":false";
+            legacyJson.append(i == 0 ? "" : ",")
+                    .append("{\"userId\":\"00000000-0000-0000-0000-0000000000").append(String.format("%02d", author))
+                    .append("\",\"username\":\"user").append(author).append("\",").append(common).append('}');
+            normalizedJson.append(i == 0 ? "" : ",")
+                    .append("{\"user\":").append(author).append(',').append(common).append('}');
+        }
+        String page = "],\"currentPage\":0,\"totalPages\":10,\"totalElements\":200}";
+        legacy = legacyJson.append(page).toString().getBytes(StandardCharsets.UTF_8);
+        normalized = normalizedJson.append(page).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public TimelineDto decodeLegacy() throws IOException {
+        return reader.readValue(legacy);
+    }
+
+    @Benchmark
+    public TimelineDto decodeNormalized() throws IOException {
+        return reader.readValue(normalized);
+    }
+}
@@ -0,0 +1,50 @@
+package com.chirper.frontend.domain.valueobject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * 100件のタイムラインのタイムスタンプ表示
+ *
+ * -Pjmh.profilers=gc で、RenderClockを共有した場合の割り当て量がほぼ0であることを確認する。
+ */
+@State(Scope.Benchmark)
+public class DisplayTimestampBenchmark {
+
+    private DisplayTimestamp[] timestamps;
+    private RenderClock clock;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Instant now = Instant.now();
+        clock = new RenderClock(now, ZoneId.of("Asia/Tokyo"));
+        timestamps = new DisplayTimestamp[100];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = new DisplayTimestamp(now.minus(Duration.ofMinutes((long) i * i * 37)));
+        }
+    }
+
+    @Benchmark
+    public void sharedRenderClock(Blackhole blackhole) {
+        for (DisplayTimestamp timestamp : timestamps) {
+            blackhole.consume(timestamp.toRelativeTime(clock));
+            blackhole.consume(timestamp.toAbsoluteTime(clock));
+        }
+    }
+
+    @Benchmark
+    public void systemClockPerTimestamp(Blackhole blackhole) {
+        for (DisplayTimestamp timestamp : timestamps) {
+            blackhole.consume(timestamp.toRelativeTime());
+            blackhole.consume(timestamp.toAbsoluteTime());
+        }
+    }
+}
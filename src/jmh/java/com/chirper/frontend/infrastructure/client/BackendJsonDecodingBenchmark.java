@@ -0,0 +1,57 @@
+package com.chirper.frontend.infrastructure.client;
+
+import com.chirper.frontend.application.dto.TimelineDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 100件のタイムラインページのデコード
+ *
+ * WebClient標準相当（リクエストごとにreaderForし、文字列はすべて新規生成）と
+ * BackendJsonCodec（事前生成したReaderと識別子の正規化）を比較する。
+ * -Pjmh.profilers=gc の gc.alloc.rate.norm で1ページあたりの割り当てバイト数を比較する。
+ */
+@State(Scope.Benchmark)
+public class BackendJsonDecodingBenchmark {
+
+    private final ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final BackendJsonCodec codec = new BackendJsonCodec();
+    private byte[] page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"tweets\":[");
+        for (int i = 0; i < 100; i++) {
+            // 20人の投稿者が5件ずつ投稿したページ
+            int author = i % 20;
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"tweetId\":\"3f1c2a9e-0000-4000-8000-").append(String.format("%012d", i))
+                    .append("\",\"userId\":\"9b7d4e21-0000-4000-8000-").append(String.format("%012d", author))
+                    .append("\",\"username\":\"user").append(author)
+                    .append("\",\"content\":\"今日はいい天気ですね\",\"createdAt\":\"2024-01-01T00:00:00Z\",")
+                    .append("\"likeCount\":").append(i % 13).append(",\"retweetCount\":0,")
+                    .append("\"likedByCurrentUser\":false,\"retweetedByCurrentUser\":false}");
+        }
+        page = json.append("],\"currentPage\":0,\"totalPages\":10,\"totalElements\":1000}")
+                .toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public TimelineDto defaultMapper() throws IOException {
+        return defaultMapper.readerFor(TimelineDto.class).readValue(page);
+    }
+
+    @Benchmark
+    public TimelineDto backendJsonCodec() {
+        return codec.readTimeline(DefaultDataBufferFactory.sharedInstance.wrap(page));
+    }
+}
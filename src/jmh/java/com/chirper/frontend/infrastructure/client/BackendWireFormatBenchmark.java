@@ -0,0 +1,97 @@
+package com.chirper.frontend.infrastructure.client;
+
+import com.chirper.frontend.application.dto.TimelineDto;
+import com.chirper.frontend.application.dto.TweetDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 100件のタイムラインページをJSON/CBOR・無圧縮/gzipの組み合わせでデコードする
+ *
+ * スコアは1ページ（TimelineDto 1件）あたりの展開とデコードの時間。
+ * 転送サイズ（bytes on the wire）はセットアップ時に組み合わせごとに出力し、
+ * 転送量の削減と展開のCPUコストを比較する。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BackendWireFormatBenchmark {
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"identity", "gzip"})
+    public String encoding;
+
+    private final BackendJsonCodec codec = new BackendJsonCodec();
+    private MediaType contentType;
+    private byte[] page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        List<TweetDto> tweets = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            // 20人の投稿者が5件ずつ投稿したページ
+            int author = i % 20;
+            tweets.add(new TweetDto(
+                    "3f1c2a9e-0000-4000-8000-" + String.format("%012d", i),
+                    "9b7d4e21-0000-4000-8000-" + String.format("%012d", author),
+                    "user" + author,
+                    "今日はいい天気ですね。新しいプロジェクトを始めました #chirper",
+                    now.minus(Duration.ofMinutes(i * 7L)),
+                    i * 37,
+                    i % 5,
+                    i % 3 == 0,
+                    false));
+        }
+        TimelineDto timeline = new TimelineDto(tweets, 0, 10, 1000);
+
+        if ("cbor".equals(format)) {
+            contentType = MediaType.APPLICATION_CBOR;
+            page = Jackson2ObjectMapperBuilder.cbor().build().writeValueAsBytes(timeline);
+        } else {
+            contentType = MediaType.APPLICATION_JSON;
+            page = Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(timeline);
+        }
+        if ("gzip".equals(encoding)) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(page);
+            }
+            page = compressed.toByteArray();
+        }
+        System.out.printf("%n%s/%s: %d bytes on the wire per page%n", format, encoding, page.length);
+    }
+
+    @Benchmark
+    public TimelineDto decodePage() {
+        ResponseEntity<DataBuffer> response = ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_ENCODING, encoding)
+                .body(DefaultDataBufferFactory.sharedInstance.wrap(page));
+        return codec.timeline().read(response);
+    }
+}
@@ -0,0 +1,48 @@
+package com.chirper.frontend.infrastructure.service;
+
+import com.chirper.frontend.domain.valueobject.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * クライアント側バリデーションの速度と割り当て量
+ *
+ * -Pjmh.profilers=gc を付けて実行し、正しい入力のベンチマークで gc.alloc.rate.norm が
+ * 0 B/op（割り当てなし）であることを確認する。
+ */
+@State(Scope.Benchmark)
+public class ClientValidationBenchmark {
+
+    private final ClientValidationService service = new ClientValidationService();
+
+    private final String username = "valid_user1";
+    private final String email = "first.last+tag@example.com";
+    private final String password = "password123";
+    private final String tweet = "こんにちは @alice #chirper https://example.com/posts/1 の続きです";
+
+    @Benchmark
+    public ValidationResult validLogin() {
+        return service.validateLoginForm(username, password);
+    }
+
+    @Benchmark
+    public ValidationResult validRegistration() {
+        return service.validateRegistrationForm(username, email, password, password);
+    }
+
+    @Benchmark
+    public ValidationResult validTweet() {
+        return service.validateTweetForm(tweet);
+    }
+
+    @Benchmark
+    public ValidationResult validProfileEdit() {
+        return service.validateProfileEditForm("Alice", "Software Engineer", "https://example.com/a.png");
+    }
+
+    @Benchmark
+    public ValidationResult invalidLogin() {
+        return service.validateLoginForm("a!", "short");
+    }
+}
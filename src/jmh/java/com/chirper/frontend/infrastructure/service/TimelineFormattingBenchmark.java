@@ -0,0 +1,72 @@
+package com.chirper.frontend.infrastructure.service;
+
+import com.chirper.frontend.application.dto.TweetDto;
+import com.chirper.frontend.domain.model.TimelineViewModel;
+import com.chirper.frontend.domain.model.TweetViewModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 100件のタイムラインページのViewModel生成と本文のHTML変換
+ *
+ * 多数のリクエストが同時に描画する状況を想定して8スレッドで実行する。
+ * -Pjmh.profilers=gc の gc.alloc.rate.norm（1ページあたりの割り当てバイト数）で変更前後を比較する。
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class TimelineFormattingBenchmark {
+
+    private static final String[] CONTENTS = {
+            "今日はいい天気ですね",
+            "新しいプロジェクトを始めました。しばらく忙しくなりそうです",
+            "@alice ありがとうございます！",
+            "#chirper のリリースノートを公開しました https://example.com/releases/1",
+            "ランチはカレーでした",
+    };
+
+    private final TimelineFormattingService service = new TimelineFormattingService();
+    private List<TweetDto> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Instant now = Instant.now();
+        page = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            // 20人の投稿者が5件ずつ投稿したページ
+            int author = i % 20;
+            page.add(new TweetDto(
+                    "tweet-" + i,
+                    "user-" + author,
+                    "user" + author,
+                    CONTENTS[i % CONTENTS.length],
+                    now.minus(Duration.ofMinutes(i * 7L)),
+                    i % 13,
+                    i % 5,
+                    i % 3 == 0,
+                    false));
+        }
+    }
+
+    @Benchmark
+    public TimelineViewModel formatPage() {
+        return service.formatTimeline(page, 0, 10);
+    }
+
+    @Benchmark
+    public void formatAndRenderPage(Blackhole blackhole) {
+        for (TweetViewModel tweet : service.formatTimeline(page, 0, 10).getTweets()) {
+            blackhole.consume(tweet.getContent().toHighlightedHtml());
+            blackhole.consume(tweet.getDisplayName());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.chirper.frontend.infrastructure.session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * セッションデータのシリアライズ比較（バイナリコーデック vs Java標準シリアライズ）
+ *
+ * ns/op はJMHの結果、1セッションあたりのバイト数はセットアップ時に標準出力へ出力する。
+ */
+@State(Scope.Benchmark)
+public class SessionDataCodecBenchmark {
+
+    private static final String JWT = "eyJhbGciOiJIUzI1NiJ9"
+            + ".eyJzdWIiOiJ1c2VyMTIzIiwiaWF0IjoxNzAwMDAwMDAwLCJleHAiOjE3MDAwMDM2MDB9"
+            + ".SflKxwRJSMeKKF2QT4fwpMeJf36POk6yJV_adQssw5c";
+
+    private SessionData data;
+    private HashMap<String, Object> attributes;
+    private byte[] encoded;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        data = new SessionData(JWT, "8f14e45f-ceea-467f-a8f5-3c1b5a8d2b1e", "testuser");
+        attributes = new HashMap<>();
+        attributes.put("JWT_TOKEN", data.jwtToken());
+        attributes.put("USER_ID", data.userId());
+        attributes.put("USERNAME", data.username());
+        encoded = SessionDataCodec.encode(data);
+        serialized = javaSerialize(attributes);
+        System.out.printf("%nbytes/session: codec=%d, java-serialization=%d%n", encoded.length, serialized.length);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return SessionDataCodec.encode(data);
+    }
+
+    @Benchmark
+    public SessionData codecDecode() {
+        return SessionDataCodec.decode(encoded);
+    }
+
+    @Benchmark
+    public byte[] javaSerializationEncode() throws IOException {
+        return javaSerialize(attributes);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> javaSerializationDecode() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return (Map<String, Object>) in.readObject();
+        }
+    }
+
+    private static byte[] javaSerialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,15 @@
+package com.chirper.frontend.application.dto;
+
+/**
+ * 新着ツイート件数のレスポンスDTO
+ *
+ * @param count 指定ツイートより新しいツイートの件数
+ * @param cursor 最新のツイートID（次回の問い合わせで since に指定する）
+ * @param hasMore 確認範囲を超える新着がある場合true（件数は下限値）
+ */
+public record NewTweetsResponse(
+        int count,
+        String cursor,
+        boolean hasMore
+) {
+}
@@ -1,9 +1,21 @@
 package com.chirper.frontend.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * タイムラインDTO
+ *
+ * Backendのレスポンスは従来形式（各ツイートがuserId/usernameを持つ）と
+ * 正規化形式（ページ単位のusers表を持ち、各ツイートは{@code user}にその添字を持つ）のどちらも受け付ける。
+ * どちらの形式でも、同じ投稿者のツイートは同一のuserId/username文字列インスタンスを共有する。
  */
 public record TimelineDto(
         List<TweetDto> tweets,
@@ -11,4 +23,77 @@ public record TimelineDto(
         int totalPages,
         long totalElements
 ) {
+
+    /**
+     * JSONからの生成（Jackson用）
+     *
+     * @param tweets ツイート（従来形式・正規化形式の混在も可）
+     * @param users 正規化形式のユーザー表（従来形式の場合はnull）
+     * @throws IllegalArgumentException ユーザー表の範囲外を参照している場合
+     */
+    @JsonCreator
+    public static TimelineDto fromJson(
+            @JsonProperty("tweets") List<TweetEntry> tweets,
+            @JsonProperty("users") List<TimelineUserDto> users,
+            @JsonProperty("currentPage") int currentPage,
+            @JsonProperty("totalPages") int totalPages,
+            @JsonProperty("totalElements") long totalElements
+    ) {
+        return new TimelineDto(resolve(tweets, users), currentPage, totalPages, totalElements);
+    }
+
+    private static List<TweetDto> resolve(List<TweetEntry> entries, List<TimelineUserDto> users) {
+        if (entries == null) {
+            return null;
+        }
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        // 従来形式のツイートも、同じuserIdの投稿者は最初に出現した文字列を共有させる
+        Map<String, TimelineUserDto> canonical = new HashMap<>();
+        List<TweetDto> tweets = new ArrayList<>(entries.size());
+        for (TweetEntry entry : entries) {
+            TimelineUserDto author;
+            if (entry.user() != null) {
+                int index = entry.user();
+                if (users == null || index < 0 || index >= users.size()) {
+                    throw new IllegalArgumentException("ユーザー表の範囲外を参照しています: " + index);
+                }
+                author = users.get(index);
+            } else {
+                author = canonical.get(entry.userId());
+                if (author == null || !Objects.equals(author.username(), entry.username())) {
+                    author = new TimelineUserDto(entry.userId(), entry.username());
+                    canonical.put(entry.userId(), author);
+                }
+            }
+            tweets.add(entry.toTweetDto(author));
+        }
+        return tweets;
+    }
+
+    /**
+     * レスポンス上のツイート要素
+     *
+     * 正規化形式では{@code user}にユーザー表の添字が入り、userId/usernameは省略される。
+     */
+    public record TweetEntry(
+            String tweetId,
+            Integer user,
+            String userId,
+            String username,
+            String content,
+            Instant createdAt,
+            int likeCount,
+            int retweetCount,
+            boolean likedByCurrentUser,
+            boolean retweetedByCurrentUser
+    ) {
+
+        TweetDto toTweetDto(TimelineUserDto author) {
+            return new TweetDto(tweetId, author.userId(), author.username(), content, createdAt,
+                    likeCount, retweetCount, likedByCurrentUser, retweetedByCurrentUser);
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package com.chirper.frontend.application.dto;
+
+/**
+ * 正規化タイムラインのユーザー表の要素DTO
+ *
+ * ページ内の投稿者1人につき1件だけ送られ、ツイートはこの表のインデックスで投稿者を参照する。
+ */
+public record TimelineUserDto(
+        String userId,
+        String username
+) {
+}
@@ -0,0 +1,11 @@
+package com.chirper.frontend.application.dto;
+
+/**
+ * いいね/リツイート操作結果のレスポンスDTO
+ * 操作後の状態のみを返す（Backendの書き込みAPIは件数を返さないため、件数はクライアントが調整する）
+ */
+public record TweetActionResponse(
+        String tweetId,
+        boolean active
+) {
+}
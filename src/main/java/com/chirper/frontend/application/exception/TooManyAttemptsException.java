@@ -0,0 +1,13 @@
+package com.chirper.frontend.application.exception;
+
+/**
+ * 試行回数超過例外
+ *
+ * 総当たり攻撃などで大量に発生するため、スタックトレースを取得しない。
+ */
+public class TooManyAttemptsException extends RuntimeException {
+
+    public TooManyAttemptsException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -2,14 +2,16 @@ package com.chirper.frontend.application.exception;
 
 /**
  * 認証エラー例外
+ *
+ * 未ログイン時の通常の制御フローとして投げられるため、スタックトレースを取得しない。
  */
 public class UnauthorizedException extends RuntimeException {
 
     public UnauthorizedException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public UnauthorizedException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
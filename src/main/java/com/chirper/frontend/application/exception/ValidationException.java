@@ -6,18 +6,20 @@ import java.util.List;
 
 /**
  * バリデーションエラー例外
+ *
+ * 入力誤りの通知に使う通常の制御フローのため、スタックトレースを取得しない。
  */
 public class ValidationException extends RuntimeException {
 
     private final List<FieldError> errors;
 
     public ValidationException(List<FieldError> errors) {
-        super("Validation failed: " + errors.size() + " error(s)");
+        super("Validation failed: " + errors.size() + " error(s)", null, false, false);
         this.errors = List.copyOf(errors); // 防御的コピー + 不変リスト
     }
 
     public ValidationException(String message, List<FieldError> errors) {
-        super(message);
+        super(message, null, false, false);
         this.errors = List.copyOf(errors); // 防御的コピー + 不変リスト
     }
 
@@ -0,0 +1,59 @@
+package com.chirper.frontend.application.usecase;
+
+import com.chirper.frontend.application.dto.NewTweetsResponse;
+import com.chirper.frontend.application.exception.UnauthorizedException;
+import com.chirper.frontend.infrastructure.session.JwtSessionManager;
+import com.chirper.frontend.infrastructure.stream.TimelineHeadCache;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 新着ツイート確認ユースケース
+ */
+@Service
+public class CheckNewTweetsUseCase {
+
+    private final TimelineHeadCache headCache;
+    private final JwtSessionManager sessionManager;
+
+    public CheckNewTweetsUseCase(
+            TimelineHeadCache headCache,
+            JwtSessionManager sessionManager
+    ) {
+        this.headCache = headCache;
+        this.sessionManager = sessionManager;
+    }
+
+    /**
+     * 新着ツイート確認を実行
+     *
+     * @param request HTTPリクエスト
+     * @param sinceTweetId クライアントが表示済みの最新ツイートID（未表示の場合null）
+     * @return 新着件数とカーソル
+     * @throws UnauthorizedException 認証エラー
+     */
+    public NewTweetsResponse execute(HttpServletRequest request, String sinceTweetId) {
+        // 1. JWTトークン取得
+        String jwtToken = sessionManager.getJwtToken(request);
+        if (jwtToken == null || jwtToken.isBlank()) {
+            throw new UnauthorizedException("ログインが必要です");
+        }
+
+        // 2. キャッシュ済みのタイムライン先頭を取得（古い場合のみBackendへ問い合わせる）
+        String userId = sessionManager.getUserId(request);
+        List<String> head = headCache.getHead(userId != null ? userId : jwtToken, jwtToken);
+
+        // 3. 表示済みツイートより新しい件数を数える
+        if (head.isEmpty()) {
+            return new NewTweetsResponse(0, sinceTweetId, false);
+        }
+        int index = sinceTweetId != null ? head.indexOf(sinceTweetId) : -1;
+        if (index >= 0) {
+            return new NewTweetsResponse(index, head.get(0), false);
+        }
+        // 表示済みツイートが確認範囲外: 少なくとも確認範囲全件が新着
+        return new NewTweetsResponse(head.size(), head.get(0), sinceTweetId != null);
+    }
+}
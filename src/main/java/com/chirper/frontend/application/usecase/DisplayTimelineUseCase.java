@@ -6,6 +6,7 @@ import com.chirper.frontend.application.service.ITimelineFormattingService;
 import com.chirper.frontend.domain.model.TimelineViewModel;
 import com.chirper.frontend.domain.repository.IBackendApiRepository;
 import com.chirper.frontend.infrastructure.session.JwtSessionManager;
+import com.chirper.frontend.infrastructure.stream.TimelineHeadCache;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Service;
 
@@ -18,15 +19,18 @@ public class DisplayTimelineUseCase {
     private final IBackendApiRepository apiRepository;
     private final ITimelineFormattingService formattingService;
     private final JwtSessionManager sessionManager;
+    private final TimelineHeadCache headCache;
 
     public DisplayTimelineUseCase(
             IBackendApiRepository apiRepository,
             ITimelineFormattingService formattingService,
-            JwtSessionManager sessionManager
+            JwtSessionManager sessionManager,
+            TimelineHeadCache headCache
     ) {
         this.apiRepository = apiRepository;
         this.formattingService = formattingService;
         this.sessionManager = sessionManager;
+        this.headCache = headCache;
     }
 
     /**
@@ -48,6 +52,12 @@ public class DisplayTimelineUseCase {
         // 2. Backend APIからタイムライン取得
         TimelineDto timelineDto = apiRepository.getTimeline(jwtToken, page, size);
 
+        // 1ページ目は新着確認用のタイムライン先頭として記録する
+        if (page == 0) {
+            String userId = sessionManager.getUserId(request);
+            headCache.update(userId != null ? userId : jwtToken, timelineDto.tweets());
+        }
+
         // 3. ドメインサービスでViewModelに変換
         return formattingService.formatTimeline(
                 timelineDto.tweets(),
@@ -2,6 +2,7 @@ package com.chirper.frontend.application.usecase;
 
 import com.chirper.frontend.application.dto.UserProfileDto;
 import com.chirper.frontend.domain.repository.IBackendApiRepository;
+import com.chirper.frontend.domain.valueobject.FieldProjection;
 import org.springframework.stereotype.Service;
 
 /**
@@ -25,4 +26,15 @@ public class DisplayUserProfileUseCase {
     public UserProfileDto execute(String username) {
         return apiRepository.getUserProfile(username);
     }
+
+    /**
+     * 表示に必要なフィールドだけを取得してユーザープロフィール表示を実行
+     *
+     * @param username ユーザー名
+     * @param fields 取得するフィールド
+     * @return ユーザープロフィールDTO（指定外のフィールドはnull・0・false）
+     */
+    public UserProfileDto execute(String username, FieldProjection fields) {
+        return apiRepository.getUserProfile(username, fields);
+    }
 }
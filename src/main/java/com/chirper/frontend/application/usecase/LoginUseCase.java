@@ -1,11 +1,13 @@
 package com.chirper.frontend.application.usecase;
 
 import com.chirper.frontend.application.dto.LoginResponse;
+import com.chirper.frontend.application.exception.TooManyAttemptsException;
 import com.chirper.frontend.application.exception.UnauthorizedException;
 import com.chirper.frontend.application.exception.ValidationException;
 import com.chirper.frontend.domain.repository.IBackendApiRepository;
 import com.chirper.frontend.domain.service.IClientValidationService;
 import com.chirper.frontend.domain.valueobject.ValidationResult;
+import com.chirper.frontend.infrastructure.ratelimit.LoginAttemptThrottler;
 import com.chirper.frontend.infrastructure.session.JwtSessionManager;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Service;
@@ -19,15 +21,18 @@ public class LoginUseCase {
     private final IBackendApiRepository apiRepository;
     private final IClientValidationService validationService;
     private final JwtSessionManager sessionManager;
+    private final LoginAttemptThrottler throttler;
 
     public LoginUseCase(
             IBackendApiRepository apiRepository,
             IClientValidationService validationService,
-            JwtSessionManager sessionManager
+            JwtSessionManager sessionManager,
+            LoginAttemptThrottler throttler
     ) {
         this.apiRepository = apiRepository;
         this.validationService = validationService;
         this.sessionManager = sessionManager;
+        this.throttler = throttler;
     }
 
     /**
@@ -39,6 +44,7 @@ public class LoginUseCase {
      * @return ログインレスポンス
      * @throws ValidationException    バリデーションエラー
      * @throws UnauthorizedException  認証エラー
+     * @throws TooManyAttemptsException 認証失敗が続いているためログインを拒否した場合
      */
     public LoginResponse execute(HttpServletRequest request, String username, String password) {
         // 1. クライアント側バリデーション
@@ -47,10 +53,28 @@ public class LoginUseCase {
             throw new ValidationException(validation.getErrors());
         }
 
-        // 2. Backend APIでログイン
-        LoginResponse response = apiRepository.login(username, password);
+        // 2. 認証失敗が続いているユーザー名・接続元はBackendへ問い合わせずに拒否（許可した場合は1回分を予約）
+        //    接続元アドレスは信頼するプロキシのX-Forwarded-Forから解決済み（server.forward-headers-strategy）
+        String address = request.getRemoteAddr();
+        if (!throttler.tryAcquire(username, address)) {
+            throw new TooManyAttemptsException("ログインの試行回数が多すぎます。しばらく待ってから再度お試しください");
+        }
+
+        // 3. Backend APIでログイン
+        LoginResponse response;
+        try {
+            response = apiRepository.login(username, password);
+        } catch (UnauthorizedException e) {
+            throttler.recordFailure(username, address);
+            throw e;
+        } catch (RuntimeException e) {
+            // 認証の失敗ではないため予約を取り消す
+            throttler.release(username, address);
+            throw e;
+        }
+        throttler.release(username, address);
 
-        // 3. セッションに保存（ユーザー名も保存）
+        // 4. セッションに保存（ユーザー名も保存）
         sessionManager.saveJwtToken(request, response.jwtToken(), response.userId(), username);
 
         return response;
@@ -6,6 +6,7 @@ import com.chirper.frontend.application.exception.ValidationException;
 import com.chirper.frontend.domain.repository.IBackendApiRepository;
 import com.chirper.frontend.domain.service.IClientValidationService;
 import com.chirper.frontend.domain.valueobject.ValidationResult;
+import com.chirper.frontend.infrastructure.idempotency.SubmissionDeduplicator;
 import com.chirper.frontend.infrastructure.session.JwtSessionManager;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Service;
@@ -19,15 +20,18 @@ public class SubmitTweetUseCase {
     private final IBackendApiRepository apiRepository;
     private final IClientValidationService validationService;
     private final JwtSessionManager sessionManager;
+    private final SubmissionDeduplicator submissionDeduplicator;
 
     public SubmitTweetUseCase(
             IBackendApiRepository apiRepository,
             IClientValidationService validationService,
-            JwtSessionManager sessionManager
+            JwtSessionManager sessionManager,
+            SubmissionDeduplicator submissionDeduplicator
     ) {
         this.apiRepository = apiRepository;
         this.validationService = validationService;
         this.sessionManager = sessionManager;
+        this.submissionDeduplicator = submissionDeduplicator;
     }
 
     /**
@@ -40,6 +44,23 @@ public class SubmitTweetUseCase {
      * @throws UnauthorizedException  認証エラー
      */
     public TweetDto execute(HttpServletRequest request, String content) {
+        return execute(request, content, null);
+    }
+
+    /**
+     * 冪等性キー付きでツイート投稿を実行
+     *
+     * 同じセッション・同じ冪等性キーでの再送（二重送信やブラウザの再試行）には、
+     * Backendを呼ばずに最初の投稿結果を返す。
+     *
+     * @param request HTTPリクエスト
+     * @param content ツイート内容
+     * @param idempotencyKey フォーム表示ごとに発行された冪等性キー（nullの場合は重複判定しない）
+     * @return 作成されたツイートDTO
+     * @throws ValidationException    バリデーションエラー
+     * @throws UnauthorizedException  認証エラー
+     */
+    public TweetDto execute(HttpServletRequest request, String content, String idempotencyKey) {
         // 1. クライアント側バリデーション
         ValidationResult validation = validationService.validateTweetForm(content);
         if (!validation.isValid()) {
@@ -53,6 +74,10 @@ public class SubmitTweetUseCase {
         }
 
         // 3. Backend APIでツイート投稿
-        return apiRepository.createTweet(jwtToken, content);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return apiRepository.createTweet(jwtToken, content);
+        }
+        return submissionDeduplicator.execute(jwtToken, idempotencyKey,
+                () -> apiRepository.createTweet(jwtToken, content, idempotencyKey));
     }
 }
@@ -0,0 +1,48 @@
+package com.chirper.frontend.application.usecase;
+
+import com.chirper.frontend.application.exception.UnauthorizedException;
+import com.chirper.frontend.infrastructure.session.JwtSessionManager;
+import com.chirper.frontend.infrastructure.stream.TimelineUpdateBroadcaster;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * タイムライン新着通知購読ユースケース
+ */
+@Service
+public class SubscribeTimelineUpdatesUseCase {
+
+    private final TimelineUpdateBroadcaster broadcaster;
+    private final JwtSessionManager sessionManager;
+
+    public SubscribeTimelineUpdatesUseCase(
+            TimelineUpdateBroadcaster broadcaster,
+            JwtSessionManager sessionManager
+    ) {
+        this.broadcaster = broadcaster;
+        this.sessionManager = sessionManager;
+    }
+
+    /**
+     * タイムライン新着通知の購読を実行
+     *
+     * @param request HTTPリクエスト
+     * @param lastSeenTweetId クライアントが表示済みの最新ツイートID（未表示の場合null）
+     * @return SSEエミッター
+     * @throws UnauthorizedException 認証エラー
+     */
+    public SseEmitter execute(HttpServletRequest request, String lastSeenTweetId) {
+        // 1. JWTトークン取得
+        String jwtToken = sessionManager.getJwtToken(request);
+        if (jwtToken == null || jwtToken.isBlank()) {
+            throw new UnauthorizedException("ログインが必要です");
+        }
+
+        // 2. 同じユーザーの購読（複数タブ）は1つのフィードにまとめる
+        String userId = sessionManager.getUserId(request);
+        String feedKey = userId != null ? userId : jwtToken;
+
+        return broadcaster.subscribe(feedKey, jwtToken, lastSeenTweetId);
+    }
+}
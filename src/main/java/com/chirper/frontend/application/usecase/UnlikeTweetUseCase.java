@@ -0,0 +1,41 @@
+package com.chirper.frontend.application.usecase;
+
+import com.chirper.frontend.application.exception.UnauthorizedException;
+import com.chirper.frontend.domain.repository.IBackendApiRepository;
+import com.chirper.frontend.infrastructure.session.JwtSessionManager;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * ツイートいいね取り消しユースケース
+ */
+@Service
+public class UnlikeTweetUseCase {
+
+    private final IBackendApiRepository apiRepository;
+    private final JwtSessionManager sessionManager;
+
+    public UnlikeTweetUseCase(
+            IBackendApiRepository apiRepository,
+            JwtSessionManager sessionManager
+    ) {
+        this.apiRepository = apiRepository;
+        this.sessionManager = sessionManager;
+    }
+
+    /**
+     * ツイートいいね取り消しを実行
+     *
+     * @param request HTTPリクエスト
+     * @param tweetId ツイートID
+     * @throws UnauthorizedException 認証エラー
+     */
+    public void execute(HttpServletRequest request, String tweetId) {
+        String jwtToken = sessionManager.getJwtToken(request);
+        if (jwtToken == null || jwtToken.isBlank()) {
+            throw new UnauthorizedException("ログインが必要です");
+        }
+
+        apiRepository.unlikeTweet(jwtToken, tweetId);
+    }
+}
@@ -0,0 +1,188 @@
+package com.chirper.frontend.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ページネーション表示用ViewModel
+ *
+ * 現在ページの前後数ページと先頭/末尾ページのみをリンクとして持ち、
+ * 間を省略記号で埋める。総ページ数に関わらずリンク数は一定以下に収まる。
+ */
+public class PaginationViewModel {
+
+    /**
+     * 現在ページの前後に表示するページ数のデフォルト値
+     */
+    public static final int DEFAULT_RADIUS = 2;
+
+    private final int currentPage;
+    private final int totalPages;
+    private final List<PageLink> links;
+
+    /**
+     * PaginationViewModelを構築する
+     *
+     * @param currentPage 現在のページ番号（0以上）
+     * @param totalPages 総ページ数（0以上）
+     * @param radius 現在ページの前後に表示するページ数（0以上）
+     * @throws IllegalArgumentException いずれかの引数が負の場合
+     */
+    public PaginationViewModel(int currentPage, int totalPages, int radius) {
+        if (currentPage < 0) {
+            throw new IllegalArgumentException("現在のページ番号は0以上である必要があります");
+        }
+
+        if (totalPages < 0) {
+            throw new IllegalArgumentException("総ページ数は0以上である必要があります");
+        }
+
+        if (radius < 0) {
+            throw new IllegalArgumentException("表示範囲は0以上である必要があります");
+        }
+
+        this.currentPage = currentPage;
+        this.totalPages = totalPages;
+        this.links = buildLinks(currentPage, totalPages, radius);
+    }
+
+    /**
+     * デフォルトの表示範囲でPaginationViewModelを構築する
+     *
+     * @param currentPage 現在のページ番号（0以上）
+     * @param totalPages 総ページ数（0以上）
+     * @return PaginationViewModel
+     */
+    public static PaginationViewModel of(int currentPage, int totalPages) {
+        return new PaginationViewModel(currentPage, totalPages, DEFAULT_RADIUS);
+    }
+
+    /**
+     * 表示するリンク列を構築する（先頭、現在±radius、末尾、間の省略記号）
+     */
+    private static List<PageLink> buildLinks(int currentPage, int totalPages, int radius) {
+        if (totalPages <= 1) {
+            return Collections.emptyList();
+        }
+
+        int lastPage = totalPages - 1;
+        int current = Math.min(currentPage, lastPage);
+        int windowStart = Math.max(0, current - radius);
+        int windowEnd = Math.min(lastPage, current + radius);
+
+        List<PageLink> result = new ArrayList<>(windowEnd - windowStart + 5);
+
+        if (windowStart > 0) {
+            result.add(PageLink.page(0, current));
+            if (windowStart > 1) {
+                result.add(PageLink.ellipsis());
+            }
+        }
+
+        for (int page = windowStart; page <= windowEnd; page++) {
+            result.add(PageLink.page(page, current));
+        }
+
+        if (windowEnd < lastPage) {
+            if (windowEnd < lastPage - 1) {
+                result.add(PageLink.ellipsis());
+            }
+            result.add(PageLink.page(lastPage, current));
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * ページネーションを表示すべきか判定する
+     *
+     * @return 総ページ数が2以上の場合true
+     */
+    public boolean isDisplayable() {
+        return totalPages > 1;
+    }
+
+    /**
+     * 前のページが存在するか判定する
+     *
+     * @return 現在ページが先頭でない場合true
+     */
+    public boolean hasPreviousPage() {
+        return currentPage > 0;
+    }
+
+    /**
+     * 次のページが存在するか判定する
+     *
+     * @return 現在ページが末尾でない場合true
+     */
+    public boolean hasNextPage() {
+        return currentPage < totalPages - 1;
+    }
+
+    // Getters
+    public int getCurrentPage() {
+        return currentPage;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public int getPreviousPage() {
+        return Math.max(0, currentPage - 1);
+    }
+
+    public int getNextPage() {
+        return currentPage + 1;
+    }
+
+    public List<PageLink> getLinks() {
+        return links;
+    }
+
+    /**
+     * ページリンク（ページ番号または省略記号）
+     */
+    public static final class PageLink {
+        private static final PageLink ELLIPSIS = new PageLink(-1, false, true);
+
+        private final int page;
+        private final boolean current;
+        private final boolean ellipsis;
+
+        private PageLink(int page, boolean current, boolean ellipsis) {
+            this.page = page;
+            this.current = current;
+            this.ellipsis = ellipsis;
+        }
+
+        static PageLink page(int page, int currentPage) {
+            return new PageLink(page, page == currentPage, false);
+        }
+
+        static PageLink ellipsis() {
+            return ELLIPSIS;
+        }
+
+        public int getPage() {
+            return page;
+        }
+
+        /**
+         * 表示用のページ番号（1始まり）
+         */
+        public int getLabel() {
+            return page + 1;
+        }
+
+        public boolean isCurrent() {
+            return current;
+        }
+
+        public boolean isEllipsis() {
+            return ellipsis;
+        }
+    }
+}
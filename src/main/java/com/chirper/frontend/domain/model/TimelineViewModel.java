@@ -6,12 +6,13 @@ import java.util.Objects;
 /**
  * タイムライン表示用ViewModel
  *
- * ツイートリスト、ページング情報、次ページ判定ロジックを持つ
+ * ツイートリスト、ページング情報（ウィンドウ表示用のページネーション含む）、次ページ判定ロジックを持つ
  */
 public class TimelineViewModel {
     private final List<TweetViewModel> tweets;
     private final int currentPage;
     private final int totalPages;
+    private final PaginationViewModel pagination;
 
     /**
      * TimelineViewModelを構築する
@@ -36,6 +37,7 @@ public class TimelineViewModel {
         this.tweets = tweets;
         this.currentPage = currentPage;
         this.totalPages = totalPages;
+        this.pagination = PaginationViewModel.of(currentPage, totalPages);
     }
 
     /**
@@ -68,4 +70,8 @@ public class TimelineViewModel {
     public int getTotalPages() {
         return totalPages;
     }
+
+    public PaginationViewModel getPagination() {
+        return pagination;
+    }
 }
@@ -2,6 +2,7 @@ package com.chirper.frontend.domain.model;
 
 import com.chirper.frontend.domain.valueobject.TweetContent;
 import com.chirper.frontend.domain.valueobject.DisplayTimestamp;
+import com.chirper.frontend.domain.valueobject.UserIdentity;
 
 import java.util.Objects;
 
@@ -9,13 +10,12 @@ import java.util.Objects;
  * ツイート表示用ViewModel
  *
  * ツイート情報、削除可否判定、いいね/リツイート状態判定ロジックを持つ
+ *
+ * 投稿者の情報は {@link UserIdentity} として保持し、同じページ内の同じ投稿者のツイートで共有する。
  */
 public class TweetViewModel {
     private final String tweetId;
-    private final String userId;
-    private final String username;
-    private final String displayName;
-    private final String avatarUrl;
+    private final UserIdentity author;
     private final TweetContent content;
     private final DisplayTimestamp timestamp;
     private final int likesCount;
@@ -52,9 +52,38 @@ public class TweetViewModel {
             int retweetsCount,
             boolean likedByCurrentUser,
             boolean retweetedByCurrentUser
+    ) {
+        this(tweetId, new UserIdentity(
+                        Objects.requireNonNull(userId, "ユーザーIDはnullにできません"), username, displayName, avatarUrl),
+                content, timestamp, likesCount, retweetsCount, likedByCurrentUser, retweetedByCurrentUser);
+    }
+
+    /**
+     * 投稿者を共有してTweetViewModelを構築する
+     *
+     * @param tweetId ツイートID（必須）
+     * @param author 投稿者（必須）
+     * @param content ツイート本文
+     * @param timestamp 投稿日時
+     * @param likesCount いいね数（0以上）
+     * @param retweetsCount リツイート数（0以上）
+     * @param likedByCurrentUser 現在のユーザーがいいね済みか
+     * @param retweetedByCurrentUser 現在のユーザーがリツイート済みか
+     * @throws NullPointerException tweetIdまたはauthorがnullの場合
+     * @throws IllegalArgumentException likesCountまたはretweetsCountが負の場合
+     */
+    public TweetViewModel(
+            String tweetId,
+            UserIdentity author,
+            TweetContent content,
+            DisplayTimestamp timestamp,
+            int likesCount,
+            int retweetsCount,
+            boolean likedByCurrentUser,
+            boolean retweetedByCurrentUser
     ) {
         Objects.requireNonNull(tweetId, "ツイートIDはnullにできません");
-        Objects.requireNonNull(userId, "ユーザーIDはnullにできません");
+        Objects.requireNonNull(author, "投稿者はnullにできません");
 
         if (likesCount < 0) {
             throw new IllegalArgumentException("いいね数は0以上である必要があります");
@@ -65,10 +94,7 @@ public class TweetViewModel {
         }
 
         this.tweetId = tweetId;
-        this.userId = userId;
-        this.username = username;
-        this.displayName = displayName;
-        this.avatarUrl = avatarUrl;
+        this.author = author;
         this.content = content;
         this.timestamp = timestamp;
         this.likesCount = likesCount;
@@ -87,7 +113,7 @@ public class TweetViewModel {
         if (currentUserId == null) {
             return false;
         }
-        return userId.equals(currentUserId);
+        return author.getUserId().equals(currentUserId);
     }
 
     /**
@@ -113,20 +139,24 @@ public class TweetViewModel {
         return tweetId;
     }
 
+    public UserIdentity getAuthor() {
+        return author;
+    }
+
     public String getUserId() {
-        return userId;
+        return author.getUserId();
     }
 
     public String getUsername() {
-        return username;
+        return author.getUsername();
     }
 
     public String getDisplayName() {
-        return displayName;
+        return author.getDisplayName();
     }
 
     public String getAvatarUrl() {
-        return avatarUrl;
+        return author.getAvatarUrl();
     }
 
     public TweetContent getContent() {
@@ -1,6 +1,7 @@
 package com.chirper.frontend.domain.repository;
 
 import com.chirper.frontend.application.dto.*;
+import com.chirper.frontend.domain.valueobject.FieldProjection;
 
 /**
  * Backend APIリポジトリインターフェース
@@ -42,6 +43,17 @@ public interface IBackendApiRepository {
      */
     TimelineDto getTimeline(String jwtToken, int page, int size);
 
+    /**
+     * タイムライン取得（取得するツイートのフィールドを指定）
+     *
+     * @param jwtToken JWTトークン
+     * @param page ページ番号
+     * @param size ページサイズ
+     * @param fields 取得するツイートのフィールド
+     * @return タイムラインDTO（指定外のフィールドはnull・0・false）
+     */
+    TimelineDto getTimeline(String jwtToken, int page, int size, FieldProjection fields);
+
     // ツイートAPI
 
     /**
@@ -53,6 +65,18 @@ public interface IBackendApiRepository {
      */
     TweetDto createTweet(String jwtToken, String content);
 
+    /**
+     * 冪等性キー付きでツイート投稿
+     *
+     * 同じ冪等性キーでの再送をBackendが同一の投稿として扱えるよう、キーをリクエストに付与する。
+     *
+     * @param jwtToken JWTトークン
+     * @param content ツイート本文
+     * @param idempotencyKey 冪等性キー
+     * @return 作成されたツイートDTO
+     */
+    TweetDto createTweet(String jwtToken, String content, String idempotencyKey);
+
     /**
      * ツイート取得
      *
@@ -79,6 +103,15 @@ public interface IBackendApiRepository {
      */
     UserProfileDto getUserProfile(String username);
 
+    /**
+     * ユーザープロフィール取得（取得するフィールドを指定）
+     *
+     * @param username ユーザー名
+     * @param fields 取得するフィールド
+     * @return ユーザープロフィールDTO（指定外のフィールドはnull・0・false）
+     */
+    UserProfileDto getUserProfile(String username, FieldProjection fields);
+
     /**
      * プロフィール更新
      *
@@ -143,6 +176,18 @@ public interface IBackendApiRepository {
      */
     FollowListDto getFollowers(String jwtToken, String username, int page, int size);
 
+    /**
+     * フォロワー一覧取得（取得するユーザーのフィールドを指定）
+     *
+     * @param jwtToken JWTトークン
+     * @param username ユーザー名
+     * @param page ページ番号
+     * @param size ページサイズ
+     * @param fields 取得するユーザーのフィールド
+     * @return フォロワー一覧DTO（指定外のフィールドはnull・0・false）
+     */
+    FollowListDto getFollowers(String jwtToken, String username, int page, int size, FieldProjection fields);
+
     /**
      * フォロー中一覧取得
      *
@@ -153,4 +198,16 @@ public interface IBackendApiRepository {
      * @return フォロー中一覧DTO
      */
     FollowListDto getFollowing(String jwtToken, String username, int page, int size);
+
+    /**
+     * フォロー中一覧取得（取得するユーザーのフィールドを指定）
+     *
+     * @param jwtToken JWTトークン
+     * @param username ユーザー名
+     * @param page ページ番号
+     * @param size ページサイズ
+     * @param fields 取得するユーザーのフィールド
+     * @return フォロー中一覧DTO（指定外のフィールドはnull・0・false）
+     */
+    FollowListDto getFollowing(String jwtToken, String username, int page, int size, FieldProjection fields);
 }
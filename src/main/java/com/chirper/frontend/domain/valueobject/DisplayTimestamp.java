@@ -1,25 +1,30 @@
 package com.chirper.frontend.domain.valueobject;
 
-import java.time.Duration;
 import java.time.Instant;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
 /**
  * 表示用タイムスタンプを表す値オブジェクト
  *
  * 相対時刻表示、絶対時刻表示ロジックを持つ
+ *
+ * 現在時刻とタイムゾーンは {@link RenderClock} で受け取り、ページ内のすべてのタイムスタンプで共有する。
+ * 相対時刻の文字列は事前に作った表から返し、絶対時刻・日付の文字列は分単位でキャッシュするため、
+ * 通常の描画では文字列を新たに作らない。
  */
 public class DisplayTimestamp {
-    private final Instant timestamp;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int HOURS_PER_DAY = 24;
+    private static final int DAYS_PER_WEEK = 7;
 
-    // 日本語ロケールのフォーマッター
-    private static final DateTimeFormatter DATE_FORMATTER =
-        DateTimeFormatter.ofPattern("M月d日");
-    private static final DateTimeFormatter DATETIME_FORMATTER =
-        DateTimeFormatter.ofPattern("yyyy年M月d日 H:mm");
+    private static final String JUST_NOW = "たった今";
+    private static final String[] MINUTES_AGO = labels(MINUTES_PER_HOUR, "分前");
+    private static final String[] HOURS_AGO = labels(HOURS_PER_DAY, "時間前");
+    private static final String[] DAYS_AGO = labels(DAYS_PER_WEEK, "日前");
+
+    private static final FormattedTimeCache FORMAT_CACHE = new FormattedTimeCache();
+
+    private final Instant timestamp;
 
     /**
      * DisplayTimestampを構築する
@@ -33,44 +38,58 @@ public class DisplayTimestamp {
     }
 
     /**
-     * 相対時刻表示
+     * 相対時刻表示（システムの現在時刻・タイムゾーンを使う）
      *
      * @return 相対時刻の文字列（"たった今"、"3分前"、"2時間前"、"3日前"、"12月23日"）
      */
     public String toRelativeTime() {
-        Duration duration = Duration.between(timestamp, Instant.now());
+        return toRelativeTime(RenderClock.system());
+    }
 
-        if (duration.toMinutes() < 1) {
-            return "たった今";
-        } else if (duration.toMinutes() < 60) {
-            return duration.toMinutes() + "分前";
-        } else if (duration.toHours() < 24) {
-            return duration.toHours() + "時間前";
-        } else if (duration.toDays() < 7) {
-            return duration.toDays() + "日前";
-        } else {
-            return formatAsDate();
+    /**
+     * 相対時刻表示
+     *
+     * @param clock 現在時刻とタイムゾーン（nullの場合はシステムの現在時刻・タイムゾーン）
+     * @return 相対時刻の文字列（"たった今"、"3分前"、"2時間前"、"3日前"、"12月23日"）
+     */
+    public String toRelativeTime(RenderClock clock) {
+        RenderClock renderClock = clock != null ? clock : RenderClock.system();
+        long minutes = elapsedSeconds(renderClock.getNow()) / 60;
+
+        if (minutes < 1) {
+            return JUST_NOW;
+        } else if (minutes < MINUTES_PER_HOUR) {
+            return MINUTES_AGO[(int) minutes];
+        }
+        long hours = minutes / MINUTES_PER_HOUR;
+        if (hours < HOURS_PER_DAY) {
+            return HOURS_AGO[(int) hours];
         }
+        long days = hours / HOURS_PER_DAY;
+        if (days < DAYS_PER_WEEK) {
+            return DAYS_AGO[(int) days];
+        }
+        return FORMAT_CACHE.date(epochMinute(), renderClock.getZone());
     }
 
     /**
-     * 絶対時刻表示
+     * 絶対時刻表示（システムのタイムゾーンを使う）
      *
      * @return 絶対時刻の文字列（"2025年12月23日 14:30"）
      */
     public String toAbsoluteTime() {
-        ZonedDateTime zonedDateTime = timestamp.atZone(ZoneId.systemDefault());
-        return zonedDateTime.format(DATETIME_FORMATTER);
+        return toAbsoluteTime(RenderClock.system());
     }
 
     /**
-     * 日付形式で表示
+     * 絶対時刻表示
      *
-     * @return 日付の文字列（"12月23日"）
+     * @param clock 表示タイムゾーン（nullの場合はシステムのタイムゾーン）
+     * @return 絶対時刻の文字列（"2025年12月23日 14:30"）
      */
-    private String formatAsDate() {
-        ZonedDateTime zonedDateTime = timestamp.atZone(ZoneId.systemDefault());
-        return zonedDateTime.format(DATE_FORMATTER);
+    public String toAbsoluteTime(RenderClock clock) {
+        RenderClock renderClock = clock != null ? clock : RenderClock.system();
+        return FORMAT_CACHE.absolute(epochMinute(), renderClock.getZone());
     }
 
     /**
@@ -81,4 +100,27 @@ public class DisplayTimestamp {
     public Instant getTimestamp() {
         return timestamp;
     }
+
+    /**
+     * 経過秒数（Duration.between と同じく端数は切り捨て）
+     */
+    private long elapsedSeconds(Instant now) {
+        long seconds = now.getEpochSecond() - timestamp.getEpochSecond();
+        if (now.getNano() < timestamp.getNano()) {
+            seconds--;
+        }
+        return seconds;
+    }
+
+    private long epochMinute() {
+        return Math.floorDiv(timestamp.getEpochSecond(), 60);
+    }
+
+    private static String[] labels(int count, String suffix) {
+        String[] labels = new String[count];
+        for (int i = 0; i < count; i++) {
+            labels[i] = i + suffix;
+        }
+        return labels;
+    }
 }
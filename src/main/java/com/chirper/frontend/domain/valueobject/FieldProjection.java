@@ -0,0 +1,113 @@
+package com.chirper.frontend.domain.valueobject;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Backendから取得するフィールドの指定（sparse fieldset）を表す値オブジェクト
+ *
+ * Backendには {@code fields=a,b,c} として渡す。一覧系のAPIでは各要素（ツイート・ユーザー）の
+ * フィールドに適用され、ページ番号などのページネーション情報は常に返る。
+ * 指定されなかったフィールドはレスポンスに含まれず、DTO上はnull・0・falseになる。
+ */
+public final class FieldProjection {
+
+    /**
+     * すべてのフィールド（fieldsパラメーターを送らない）
+     */
+    public static final FieldProjection ALL = new FieldProjection(List.of());
+
+    private final List<String> fields;
+    private final String queryValue;
+
+    private FieldProjection(List<String> fields) {
+        this.fields = fields;
+        this.queryValue = String.join(",", fields);
+    }
+
+    /**
+     * 指定したフィールドだけを取得する射影を作成する
+     *
+     * @param fields フィールド名（英数字とアンダースコア、重複は1つにまとめる）
+     * @throws IllegalArgumentException フィールドが指定されていない、または不正な名前の場合
+     */
+    public static FieldProjection of(String... fields) {
+        if (fields == null || fields.length == 0) {
+            throw new IllegalArgumentException("FieldProjection requires at least one field");
+        }
+        Set<String> unique = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (!isValidName(field)) {
+                throw new IllegalArgumentException("Invalid field name: " + field);
+            }
+            unique.add(field);
+        }
+        return new FieldProjection(List.copyOf(unique));
+    }
+
+    /**
+     * フィールドを追加した射影を返す（ALLの場合はALLのまま）
+     */
+    public FieldProjection with(String... additional) {
+        if (isAll()) {
+            return this;
+        }
+        String[] merged = new String[fields.size() + additional.length];
+        fields.toArray(merged);
+        System.arraycopy(additional, 0, merged, fields.size(), additional.length);
+        return of(merged);
+    }
+
+    public boolean isAll() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * 指定したフィールドを取得するかどうか
+     */
+    public boolean includes(String field) {
+        return isAll() || fields.contains(field);
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * fieldsクエリパラメーターの値（ALLの場合は空）
+     */
+    public Optional<String> queryValue() {
+        return isAll() ? Optional.empty() : Optional.of(queryValue);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof FieldProjection other && fields.equals(other.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return isAll() ? "FieldProjection{ALL}" : "FieldProjection{" + queryValue + "}";
+    }
+
+    private static boolean isValidName(String field) {
+        if (field == null || field.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
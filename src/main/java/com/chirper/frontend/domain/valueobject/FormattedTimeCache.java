@@ -0,0 +1,59 @@
+package com.chirper.frontend.domain.valueobject;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 分単位の時刻とタイムゾーンごとに、整形済みの絶対時刻・日付の文字列を保持するキャッシュ
+ *
+ * 固定長の配列にハッシュで直接格納し（衝突した場合は上書き）、エントリ数は {@link #SLOTS} を超えない。
+ * エントリは不変なので、ロックなしで読み書きできる。
+ */
+final class FormattedTimeCache {
+
+    static final int SLOTS = 4096;
+
+    private static final DateTimeFormatter DATE_FORMATTER =
+        DateTimeFormatter.ofPattern("M月d日");
+    private static final DateTimeFormatter DATETIME_FORMATTER =
+        DateTimeFormatter.ofPattern("yyyy年M月d日 H:mm");
+
+    private final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(SLOTS);
+
+    /**
+     * 絶対時刻の文字列（"2025年12月23日 14:30"）
+     */
+    String absolute(long epochMinute, ZoneId zone) {
+        return entry(epochMinute, zone).absolute;
+    }
+
+    /**
+     * 日付の文字列（"12月23日"）
+     */
+    String date(long epochMinute, ZoneId zone) {
+        return entry(epochMinute, zone).date;
+    }
+
+    private Entry entry(long epochMinute, ZoneId zone) {
+        int index = index(epochMinute, zone);
+        Entry entry = entries.get(index);
+        if (entry != null && entry.epochMinute == epochMinute && entry.zone.equals(zone)) {
+            return entry;
+        }
+        ZonedDateTime dateTime = Instant.ofEpochSecond(epochMinute * 60).atZone(zone);
+        entry = new Entry(epochMinute, zone, dateTime.format(DATETIME_FORMATTER), dateTime.format(DATE_FORMATTER));
+        entries.set(index, entry);
+        return entry;
+    }
+
+    private static int index(long epochMinute, ZoneId zone) {
+        long hash = (epochMinute ^ (epochMinute >>> 32)) * 0x9E3779B97F4A7C15L + zone.hashCode();
+        return (int) (hash ^ (hash >>> 29)) & (SLOTS - 1);
+    }
+
+    private record Entry(long epochMinute, ZoneId zone, String absolute, String date) {
+    }
+}
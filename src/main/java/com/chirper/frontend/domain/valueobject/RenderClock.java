@@ -0,0 +1,44 @@
+package com.chirper.frontend.domain.valueobject;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * 1回の描画で共有する「現在時刻」と表示タイムゾーンを表す値オブジェクト
+ *
+ * ページ内のすべてのタイムスタンプを同じ現在時刻・同じタイムゾーンで表示するために使う。
+ */
+public final class RenderClock {
+    private final Instant now;
+    private final ZoneId zone;
+
+    /**
+     * RenderClockを構築する
+     *
+     * @param now 現在時刻（必須）
+     * @param zone 表示タイムゾーン（必須）
+     * @throws NullPointerException nowまたはzoneがnullの場合
+     */
+    public RenderClock(Instant now, ZoneId zone) {
+        this.now = Objects.requireNonNull(now, "現在時刻はnullにできません");
+        this.zone = Objects.requireNonNull(zone, "タイムゾーンはnullにできません");
+    }
+
+    /**
+     * システムの現在時刻・タイムゾーンのRenderClockを作成する
+     *
+     * @return RenderClock
+     */
+    public static RenderClock system() {
+        return new RenderClock(Instant.now(), ZoneId.systemDefault());
+    }
+
+    public Instant getNow() {
+        return now;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+}
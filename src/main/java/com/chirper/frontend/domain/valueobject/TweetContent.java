@@ -1,6 +1,7 @@
 package com.chirper.frontend.domain.valueobject;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -8,18 +9,25 @@ import java.util.regex.Pattern;
 /**
  * ツイート本文を表す値オブジェクト
  *
- * 280文字バリデーション、@mention/@hashtag/URL抽出、HTML変換ロジックを持つ
+ * 文字数バリデーション（{@link TweetLengthRules}）、@mention/@hashtag/URL抽出、HTML変換ロジックを持つ
+ *
+ * mention/hashtag/URLは最初に必要になった時点で抽出する。
+ * 本文に @・#・:// のいずれも含まれない場合は抽出せず、共有の空リストを使う。
  */
 public class TweetContent {
-    private static final int MAX_LENGTH = 280;
+    /**
+     * 本文の最大文字数（{@link TweetLengthRules#DEFAULT} で数えた文字数）
+     */
+    public static final int MAX_LENGTH = 280;
+    private static final TweetLengthRules LENGTH_RULES = TweetLengthRules.DEFAULT;
     private static final Pattern MENTION_PATTERN = Pattern.compile("@([a-zA-Z0-9_]+)");
     private static final Pattern HASHTAG_PATTERN = Pattern.compile("#([\\p{L}\\p{N}_]+)");
     private static final Pattern URL_PATTERN = Pattern.compile("https?://[^\\s]+");
 
+    private static final Entities NO_ENTITIES = new Entities(List.of(), List.of(), List.of());
+
     private final String rawText;
-    private final List<Mention> mentions;
-    private final List<Hashtag> hashtags;
-    private final List<Url> urls;
+    private volatile Entities entities;
 
     /**
      * TweetContentを構築する
@@ -28,18 +36,51 @@ public class TweetContent {
      * @throws IllegalArgumentException textがnull、空、または280文字を超える場合
      */
     public TweetContent(String text) {
+        this(text, true);
+    }
+
+    private TweetContent(String text, boolean checkLength) {
         if (text == null || text.isBlank()) {
             throw new IllegalArgumentException("ツイート本文は必須です");
         }
 
-        if (text.length() > MAX_LENGTH) {
+        if (checkLength && !LENGTH_RULES.isWithinLimit(text)) {
             throw new IllegalArgumentException("ツイートは280文字以内である必要があります");
         }
 
         this.rawText = text;
-        this.mentions = extractMentions(text);
-        this.hashtags = extractHashtags(text);
-        this.urls = extractUrls(text);
+        this.entities = mayContainEntities(text) ? null : NO_ENTITIES;
+    }
+
+    /**
+     * 投稿済みのツイート本文からTweetContentを構築する
+     *
+     * 表示用。文字数の数え方が変わっても過去のツイートを表示できるよう、文字数は検査しない。
+     *
+     * @param text ツイート本文
+     * @throws IllegalArgumentException textがnullまたは空の場合
+     */
+    public static TweetContent ofPublished(String text) {
+        return new TweetContent(text, false);
+    }
+
+    /**
+     * mention/hashtag/URLの候補となる文字（@、#、://）を含むか
+     */
+    private static boolean mayContainEntities(String text) {
+        return text.indexOf('@') >= 0 || text.indexOf('#') >= 0 || text.contains("://");
+    }
+
+    /**
+     * 抽出済みのmention/hashtag/URL（未抽出の場合はここで抽出する）
+     */
+    private Entities entities() {
+        Entities result = entities;
+        if (result == null) {
+            result = new Entities(extractMentions(rawText), extractHashtags(rawText), extractUrls(rawText));
+            entities = result;
+        }
+        return result;
     }
 
     /**
@@ -55,7 +96,7 @@ public class TweetContent {
             String username = matcher.group(1);
             result.add(new Mention(username, matcher.start(), matcher.end()));
         }
-        return result;
+        return result.isEmpty() ? List.of() : Collections.unmodifiableList(result);
     }
 
     /**
@@ -71,7 +112,7 @@ public class TweetContent {
             String tag = matcher.group(1);
             result.add(new Hashtag(tag, matcher.start(), matcher.end()));
         }
-        return result;
+        return result.isEmpty() ? List.of() : Collections.unmodifiableList(result);
     }
 
     /**
@@ -87,7 +128,7 @@ public class TweetContent {
             String url = matcher.group();
             result.add(new Url(url, matcher.start(), matcher.end()));
         }
-        return result;
+        return result.isEmpty() ? List.of() : Collections.unmodifiableList(result);
     }
 
     /**
@@ -96,14 +137,19 @@ public class TweetContent {
      * @return ハイライト処理されたHTML文字列
      */
     public String toHighlightedHtml() {
-        StringBuilder html = new StringBuilder();
+        Entities found = entities();
+        if (found == NO_ENTITIES) {
+            return escapeHtml(rawText);
+        }
+
+        StringBuilder html = new StringBuilder(rawText.length() + 64);
         int lastIndex = 0;
 
         // すべての要素（mentions, hashtags, urls）を位置順にソートして処理
         List<HighlightableElement> elements = new ArrayList<>();
-        mentions.forEach(m -> elements.add(new HighlightableElement(m.getStart(), m.getEnd(), m)));
-        hashtags.forEach(h -> elements.add(new HighlightableElement(h.getStart(), h.getEnd(), h)));
-        urls.forEach(u -> elements.add(new HighlightableElement(u.getStart(), u.getEnd(), u)));
+        found.mentions().forEach(m -> elements.add(new HighlightableElement(m.getStart(), m.getEnd(), m)));
+        found.hashtags().forEach(h -> elements.add(new HighlightableElement(h.getStart(), h.getEnd(), h)));
+        found.urls().forEach(u -> elements.add(new HighlightableElement(u.getStart(), u.getEnd(), u)));
 
         elements.sort((a, b) -> Integer.compare(a.start, b.start));
 
@@ -171,15 +217,21 @@ public class TweetContent {
 
     // Getters for lists (for potential future use)
     public List<Mention> getMentions() {
-        return mentions;
+        return entities().mentions();
     }
 
     public List<Hashtag> getHashtags() {
-        return hashtags;
+        return entities().hashtags();
     }
 
     public List<Url> getUrls() {
-        return urls;
+        return entities().urls();
+    }
+
+    /**
+     * 抽出したmention/hashtag/URL
+     */
+    private record Entities(List<Mention> mentions, List<Hashtag> hashtags, List<Url> urls) {
     }
 
     /**
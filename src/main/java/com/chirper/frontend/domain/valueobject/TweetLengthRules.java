@@ -0,0 +1,175 @@
+package com.chirper.frontend.domain.valueobject;
+
+import java.util.List;
+
+/**
+ * ツイート本文の文字数の数え方を表す値オブジェクト
+ *
+ * 文字数はコードポイント単位で数え、文字ごとの重みの合計を scale で割った値を表示上の文字数とする。
+ * ranges に含まれる文字（ラテン文字・記号など）は1文字、それ以外（日本語・中国語・韓国語・絵文字など）は
+ * defaultWeight に従って2文字として数える。URL（http:// または https:// から空白まで）は長さに関わらず urlLength 文字とする。
+ * 改行の CRLF は1文字として数える（ブラウザはtextareaの改行をCRLFで送信するが、画面上の値はLFのため）。
+ *
+ * クライアント（app.js）も {@link #toJson()} で受け取った同じルールで数えるため、
+ * 画面上の文字数表示とサーバー側の判定は一致する。
+ *
+ * @param maxWeightedLength 最大文字数（表示上の文字数）
+ * @param scale 重みの単位
+ * @param defaultWeight ranges に含まれない文字の重み
+ * @param urlLength URL1つあたりの文字数
+ * @param ranges 重みを個別に指定するコードポイントの範囲
+ */
+public record TweetLengthRules(
+        int maxWeightedLength,
+        int scale,
+        int defaultWeight,
+        int urlLength,
+        List<WeightRange> ranges
+) {
+
+    /**
+     * 標準のルール（280文字、全角文字は2文字、URLは23文字）
+     */
+    public static final TweetLengthRules DEFAULT = new TweetLengthRules(280, 100, 200, 23, List.of(
+            new WeightRange(0x0000, 0x10FF, 100),
+            new WeightRange(0x2000, 0x200D, 100),
+            new WeightRange(0x2010, 0x201F, 100),
+            new WeightRange(0x2032, 0x2037, 100)
+    ));
+
+    public TweetLengthRules {
+        if (maxWeightedLength < 1 || scale < 1 || defaultWeight < 0 || urlLength < 0) {
+            throw new IllegalArgumentException("文字数ルールの設定が不正です");
+        }
+        ranges = List.copyOf(ranges);
+    }
+
+    /**
+     * 表示上の文字数を返す
+     *
+     * @param text ツイート本文
+     * @return 文字数
+     */
+    public int weightedLength(CharSequence text) {
+        return (int) (scaledLength(text) / scale);
+    }
+
+    /**
+     * 最大文字数以内か
+     *
+     * @param text ツイート本文
+     * @return 最大文字数以内の場合true
+     */
+    public boolean isWithinLimit(CharSequence text) {
+        return scaledLength(text) <= (long) maxWeightedLength * scale;
+    }
+
+    /**
+     * クライアントに渡すJSON表現
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder(160)
+                .append("{\"maxWeightedLength\":").append(maxWeightedLength)
+                .append(",\"scale\":").append(scale)
+                .append(",\"defaultWeight\":").append(defaultWeight)
+                .append(",\"urlLength\":").append(urlLength)
+                .append(",\"ranges\":[");
+        for (int i = 0; i < ranges.size(); i++) {
+            WeightRange range = ranges.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"start\":").append(range.start())
+                    .append(",\"end\":").append(range.end())
+                    .append(",\"weight\":").append(range.weight())
+                    .append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    private long scaledLength(CharSequence text) {
+        long total = 0;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int urlEnd = urlEnd(text, i);
+            if (urlEnd > i) {
+                total += (long) urlLength * scale;
+                i = urlEnd;
+                continue;
+            }
+            if (text.charAt(i) == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+                // CRLFは続くLFだけを数える
+                i++;
+                continue;
+            }
+            int codePoint = Character.codePointAt(text, i);
+            total += weightOf(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return total;
+    }
+
+    private int weightOf(int codePoint) {
+        for (int i = 0; i < ranges.size(); i++) {
+            WeightRange range = ranges.get(i);
+            if (codePoint >= range.start() && codePoint <= range.end()) {
+                return range.weight();
+            }
+        }
+        return defaultWeight;
+    }
+
+    /**
+     * i から始まるURLの終了位置（URLでない場合は i）
+     *
+     * TweetContentのURL抽出と同じく、http:// または https:// の後に1文字以上続く空白以外の文字列をURLとする。
+     */
+    private static int urlEnd(CharSequence text, int i) {
+        if (text.charAt(i) != 'h') {
+            return i;
+        }
+        int start;
+        if (startsWith(text, i, "https://")) {
+            start = i + 8;
+        } else if (startsWith(text, i, "http://")) {
+            start = i + 7;
+        } else {
+            return i;
+        }
+        int end = start;
+        while (end < text.length() && !isWhitespace(text.charAt(end))) {
+            end++;
+        }
+        return end > start ? end : i;
+    }
+
+    private static boolean startsWith(CharSequence text, int offset, String prefix) {
+        if (text.length() - offset < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 正規表現の \s と同じ空白文字
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * 重みを個別に指定するコードポイントの範囲
+     *
+     * @param start 開始（含む）
+     * @param end 終了（含む）
+     * @param weight 重み
+     */
+    public record WeightRange(int start, int end, int weight) {
+    }
+}
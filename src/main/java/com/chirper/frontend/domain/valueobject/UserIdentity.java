@@ -0,0 +1,48 @@
+package com.chirper.frontend.domain.valueobject;
+
+import java.util.Objects;
+
+/**
+ * ツイートの投稿者を表す値オブジェクト
+ *
+ * 同じページ内の同じ投稿者のツイートは1つのインスタンスを共有する。
+ * 表示名がユーザー名と同じ場合は表示名を別に保持しない。
+ */
+public final class UserIdentity {
+    private final String userId;
+    private final String username;
+    private final String displayName;
+    private final String avatarUrl;
+
+    /**
+     * UserIdentityを構築する
+     *
+     * @param userId ユーザーID（必須）
+     * @param username ユーザー名
+     * @param displayName 表示名（nullの場合はユーザー名）
+     * @param avatarUrl アバターURL
+     * @throws NullPointerException userIdがnullの場合
+     */
+    public UserIdentity(String userId, String username, String displayName, String avatarUrl) {
+        this.userId = Objects.requireNonNull(userId, "ユーザーIDはnullにできません");
+        this.username = username;
+        this.displayName = displayName == null || displayName.equals(username) ? null : displayName;
+        this.avatarUrl = avatarUrl;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getDisplayName() {
+        return displayName != null ? displayName : username;
+    }
+
+    public String getAvatarUrl() {
+        return avatarUrl;
+    }
+}
@@ -8,6 +8,8 @@ import java.util.Objects;
  * バリデーション結果を表す値オブジェクト
  */
 public class ValidationResult {
+    private static final ValidationResult VALID = new ValidationResult(true, Collections.emptyList());
+
     private final boolean isValid;
     private final List<FieldError> errors;
 
@@ -23,12 +25,14 @@ public class ValidationResult {
     }
 
     /**
-     * 有効なValidationResultを作成する
+     * 有効なValidationResultを返す
+     *
+     * 不変のため、毎回同じインスタンスを返す。
      *
      * @return エラーがないValidationResult
      */
     public static ValidationResult valid() {
-        return new ValidationResult(true, Collections.emptyList());
+        return VALID;
     }
 
     /**
@@ -1,16 +1,29 @@
 package com.chirper.frontend.infrastructure.client;
 
 import com.chirper.frontend.application.dto.*;
+import com.chirper.frontend.domain.valueobject.FieldProjection;
 import com.chirper.frontend.infrastructure.exception.BackendApiException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.Map;
 
 /**
  * Backend APIクライアント
+ *
+ * レスポンスボディはBackendJsonCodecの事前生成したReaderでデコードする。
+ * AcceptでCBORを優先して要求し、BackendがJSONを返した場合はJSONとして読む。
+ * 大きいレスポンスを返す操作ではAccept-Encodingで圧縮（gzip/deflate）を要求する。
  */
 @Component
 public class BackendApiClient {
@@ -20,10 +33,50 @@ public class BackendApiClient {
      */
     private static final int MAX_PAGE_SIZE = 100;
 
+    /**
+     * 冪等性キーを送るヘッダー名
+     */
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * 取得するフィールドを指定するクエリパラメーター名
+     */
+    static final String FIELDS_PARAM = "fields";
+
+    /**
+     * 冪等な書き込みの再試行回数と初回待ち時間
+     */
+    private static final int MAX_WRITE_RETRIES = 2;
+    private static final Duration WRITE_RETRY_BACKOFF = Duration.ofMillis(200);
+
     private final WebClient webClient;
+    private final BackendJsonCodec jsonCodec;
+
+    /**
+     * BackendがIdempotency-Keyで重複した投稿を排除するかどうか
+     *
+     * falseの場合、リクエストがBackendへ届いていないことが確実な接続段階の失敗に限り再試行する。
+     * trueの場合はタイムアウトや502/503/504など、Backendが処理済みの可能性がある失敗も再試行する。
+     */
+    private final boolean idempotencyKeyHonored;
 
     public BackendApiClient(WebClient webClient) {
+        this(webClient, new BackendJsonCodec());
+    }
+
+    public BackendApiClient(WebClient webClient, BackendJsonCodec jsonCodec) {
+        this(webClient, jsonCodec, false);
+    }
+
+    @Autowired
+    public BackendApiClient(
+            WebClient webClient,
+            BackendJsonCodec jsonCodec,
+            @Value("${chirper.backend.idempotency-key-honored:false}") boolean idempotencyKeyHonored
+    ) {
         this.webClient = webClient;
+        this.jsonCodec = jsonCodec;
+        this.idempotencyKeyHonored = idempotencyKeyHonored;
     }
 
     /**
@@ -37,8 +90,10 @@ public class BackendApiClient {
                             "username", username,
                             "password", password
                     ))
+                    .headers(jsonCodec.login()::negotiate)
                     .retrieve()
-                    .bodyToMono(LoginResponse.class)
+                    .toEntity(DataBuffer.class)
+                    .mapNotNull(jsonCodec.login()::read)
                     .block();
         } catch (WebClientResponseException e) {
             throw mapException(e);
@@ -59,8 +114,10 @@ public class BackendApiClient {
                             "email", email,
                             "password", password
                     ))
+                    .headers(jsonCodec.register()::negotiate)
                     .retrieve()
-                    .bodyToMono(RegisterResponse.class)
+                    .toEntity(DataBuffer.class)
+                    .mapNotNull(jsonCodec.register()::read)
                     .block();
         } catch (WebClientResponseException e) {
             throw mapException(e);
@@ -73,6 +130,13 @@ public class BackendApiClient {
      * タイムラインを取得
      */
     public TimelineDto getTimeline(String jwtToken, int page, int size) {
+        return getTimeline(jwtToken, page, size, FieldProjection.ALL);
+    }
+
+    /**
+     * タイムラインを取得（取得するツイートのフィールドを指定）
+     */
+    public TimelineDto getTimeline(String jwtToken, int page, int size, FieldProjection fields) {
         try {
             // DoS対策: size上限をMAX_PAGE_SIZEに制限
             int safeSize = Math.min(size, MAX_PAGE_SIZE);
@@ -81,10 +145,13 @@ public class BackendApiClient {
                             .path("/api/v1/timeline")
                             .queryParam("page", page)
                             .queryParam("size", safeSize)
+                            .queryParamIfPresent(FIELDS_PARAM, fields.queryValue())
                             .build())
                     .header("Authorization", "Bearer " + jwtToken)
+                    .headers(jsonCodec.timeline()::negotiate)
                     .retrieve()
-                    .bodyToMono(TimelineDto.class)
+                    .toEntity(DataBuffer.class)
+                    .mapNotNull(jsonCodec.timeline()::read)
                     .block();
         } catch (WebClientResponseException e) {
             throw mapException(e);
@@ -101,8 +168,10 @@ public class BackendApiClient {
             return webClient.get()
                     .uri("/api/v1/users/{username}", username)
                     .header("Authorization", "Bearer " + jwtToken)
+                    .headers(jsonCodec.userProfile()::negotiate)
                     .retrieve()
-                    .bodyToMono(UserProfileDto.class)
+                    .toEntity(DataBuffer.class)
+                    .mapNotNull(jsonCodec.userProfile()::read)
                     .block();
         } catch (WebClientResponseException e) {
             throw mapException(e);
@@ -115,11 +184,23 @@ public class BackendApiClient {
      * ユーザープロフィールを取得（usernameベース、認証なし）
      */
     public UserProfileDto getUserProfile(String username) {
+        return getUserProfile(username, FieldProjection.ALL);
+    }
+
+    /**
+     * ユーザープロフィールを取得（usernameベース、認証なし、取得するフィールドを指定）
+     */
+    public UserProfileDto getUserProfile(String username, FieldProjection fields) {
         try {
             return webClient.get()
-                    .uri("/api/v1/users/{username}", username)
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/api/v1/users/{username}")
+                            .queryParamIfPresent(FIELDS_PARAM, fields.queryValue())
+                            .build(username))
+                    .headers(jsonCodec.userProfile()::negotiate)
                     .retrieve()
-                    .bodyToMono(UserProfileDto.class)
+                    .toEntity(DataBuffer.class)
+                    .mapNotNull(jsonCodec.userProfile()::read)
                     .block();
         } catch (WebClientResponseException e) {
             throw mapException(e);
@@ -132,14 +213,40 @@ public class BackendApiClient {
      * ツイートを作成
      */
     public TweetDto createTweet(String jwtToken, String content) {
+        return createTweet(jwtToken, content, null);
+    }
+
+    /**
+     * ツイート投稿（冪等性キー付き）
+     *
+     * 冪等性キーがある場合は Idempotency-Key ヘッダーで送信し、
+     * 接続段階の失敗（リクエストが送信されていない場合）に限り再試行する。
+     * BackendがIdempotency-Keyで重複を排除する設定の場合は、タイムアウトや
+     * 一時的なエラー（502/503/504）も再試行する。
+     */
+    public TweetDto createTweet(String jwtToken, String content, String idempotencyKey) {
         try {
-            return webClient.post()
+            Mono<TweetDto> response = webClient.post()
                     .uri("/api/v1/tweets")
                     .header("Authorization", "Bearer " + jwtToken)
+                    .headers(headers -> {
+                        if (idempotencyKey != null) {
+                            headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                        }
+                    })
                     .bodyValue(Map.of("content", content))
+                    .headers(jsonCodec.tweet()::negotiate)
                     .retrieve()
-                    .bodyToMono(TweetDto.class)
-                    .block();
+                    .toEntity(DataBuffer.class)
+                    .mapNotNull(jsonCodec.tweet()::read);
+
+            if (idempotencyKey != null) {
+                // 送信後の失敗はBackendが投稿済みの可能性があるため、重複排除が保証される場合のみ再送する
+                response = response.retryWhen(Retry.backoff(MAX_WRITE_RETRIES, WRITE_RETRY_BACKOFF)
+                        .filter(e -> isRetryableWriteFailure(e, idempotencyKeyHonored))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+            }
+            return response.block();
         } catch (WebClientResponseException e) {
             throw mapException(e);
         } catch (Exception e) {
@@ -154,8 +261,10 @@ public class BackendApiClient {
         try {
             return webClient.get()
                     .uri("/api/v1/tweets/{tweetId}", tweetId)
+                    .headers(jsonCodec.tweet()::negotiate)
                     .retrieve()
-                    .bodyToMono(TweetDto.class)
+                    .toEntity(DataBuffer.class)
+                    .mapNotNull(jsonCodec.tweet()::read)
                     .block();
         } catch (WebClientResponseException e) {
             throw mapException(e);
@@ -303,8 +412,10 @@ public class BackendApiClient {
                             "bio", bio != null ? bio : "",
                             "avatarUrl", avatarUrl != null ? avatarUrl : ""
                     ))
+                    .headers(jsonCodec.userProfile()::negotiate)
                     .retrieve()
-                    .bodyToMono(UserProfileDto.class)
+                    .toEntity(DataBuffer.class)
+                    .mapNotNull(jsonCodec.userProfile()::read)
                     .block();
         } catch (WebClientResponseException e) {
             throw mapException(e);
@@ -317,6 +428,13 @@ public class BackendApiClient {
      * フォロワー一覧を取得
      */
     public FollowListDto getFollowers(String jwtToken, String username, int page, int size) {
+        return getFollowers(jwtToken, username, page, size, FieldProjection.ALL);
+    }
+
+    /**
+     * フォロワー一覧を取得（取得するユーザーのフィールドを指定）
+     */
+    public FollowListDto getFollowers(String jwtToken, String username, int page, int size, FieldProjection fields) {
         try {
             // DoS対策: size上限をMAX_PAGE_SIZEに制限
             int safeSize = Math.min(size, MAX_PAGE_SIZE);
@@ -325,10 +443,13 @@ public class BackendApiClient {
                             .path("/api/v1/users/{username}/followers")
                             .queryParam("page", page)
                             .queryParam("size", safeSize)
+                            .queryParamIfPresent(FIELDS_PARAM, fields.queryValue())
                             .build(username))
                     .header("Authorization", "Bearer " + jwtToken)
+                    .headers(jsonCodec.followList()::negotiate)
                     .retrieve()
-                    .bodyToMono(FollowListDto.class)
+                    .toEntity(DataBuffer.class)
+                    .mapNotNull(jsonCodec.followList()::read)
                     .block();
         } catch (WebClientResponseException e) {
             throw mapException(e);
@@ -341,6 +462,13 @@ public class BackendApiClient {
      * フォロー中一覧を取得
      */
     public FollowListDto getFollowing(String jwtToken, String username, int page, int size) {
+        return getFollowing(jwtToken, username, page, size, FieldProjection.ALL);
+    }
+
+    /**
+     * フォロー中一覧を取得（取得するユーザーのフィールドを指定）
+     */
+    public FollowListDto getFollowing(String jwtToken, String username, int page, int size, FieldProjection fields) {
         try {
             // DoS対策: size上限をMAX_PAGE_SIZEに制限
             int safeSize = Math.min(size, MAX_PAGE_SIZE);
@@ -349,10 +477,13 @@ public class BackendApiClient {
                             .path("/api/v1/users/{username}/following")
                             .queryParam("page", page)
                             .queryParam("size", safeSize)
+                            .queryParamIfPresent(FIELDS_PARAM, fields.queryValue())
                             .build(username))
                     .header("Authorization", "Bearer " + jwtToken)
+                    .headers(jsonCodec.followList()::negotiate)
                     .retrieve()
-                    .bodyToMono(FollowListDto.class)
+                    .toEntity(DataBuffer.class)
+                    .mapNotNull(jsonCodec.followList()::read)
                     .block();
         } catch (WebClientResponseException e) {
             throw mapException(e);
@@ -361,6 +492,39 @@ public class BackendApiClient {
         }
     }
 
+    /**
+     * 書き込みを再試行してよい失敗かどうか
+     *
+     * 接続の確立に失敗した場合（接続拒否・接続タイムアウト・名前解決失敗）はリクエストが
+     * Backendへ届いていないため常に再試行できる。読み取りタイムアウトや5xxは投稿済みの
+     * 可能性があるため、BackendがIdempotency-Keyで重複を排除する場合に限り再試行する。
+     *
+     * @param e 失敗
+     * @param idempotencyKeyHonored BackendがIdempotency-Keyで重複を排除するかどうか
+     */
+    static boolean isRetryableWriteFailure(Throwable e, boolean idempotencyKeyHonored) {
+        if (e instanceof WebClientRequestException) {
+            return idempotencyKeyHonored || isConnectFailure(e);
+        }
+        if (idempotencyKeyHonored && e instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 502 || status == 503 || status == 504;
+        }
+        return false;
+    }
+
+    /**
+     * 接続の確立前の失敗かどうか（Reactor Nettyの接続タイムアウトもConnectExceptionのサブクラス）
+     */
+    private static boolean isConnectFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * WebClientの例外をBackendApiExceptionにマッピング
      */
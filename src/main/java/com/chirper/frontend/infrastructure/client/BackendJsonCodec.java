@@ -0,0 +1,242 @@
+package com.chirper.frontend.infrastructure.client;
+
+import com.chirper.frontend.application.dto.FollowListDto;
+import com.chirper.frontend.application.dto.LoginResponse;
+import com.chirper.frontend.application.dto.RegisterResponse;
+import com.chirper.frontend.application.dto.TimelineDto;
+import com.chirper.frontend.application.dto.TweetDto;
+import com.chirper.frontend.application.dto.UserProfileDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+/**
+ * Backend APIレスポンスのデコーダー（JSON/CBOR）
+ *
+ * DTOごとのObjectReaderを起動時に作っておき、リクエストごとのReader生成を省く。
+ * userId・username・tweetIdは固定サイズのプールで正規化し、ページをまたいで同じ投稿者や
+ * ツイートが繰り返し届いても同じ文字列インスタンスを共有する。
+ *
+ * CBORを有効にした場合はAcceptでCBORを優先して要求し、レスポンスのContent-Typeに応じて
+ * CBORとJSONを読み分ける。CBORに対応していないBackendはJSONを返すため、そのままJSONとして読む。
+ * 圧縮（Accept-Encoding）のネゴシエーションと展開はResponseCompressionに操作ごとに任せる。
+ */
+@Component
+public class BackendJsonCodec {
+
+    /**
+     * 正規化する識別子フィールド
+     */
+    static final Set<String> IDENTIFIER_FIELDS = Set.of("userId", "username", "tweetId");
+
+    static final int DEFAULT_POOL_SLOTS = 8192;
+    static final int DEFAULT_MAX_POOLED_LENGTH = 64;
+
+    private static final String JSON_ONLY_ACCEPT = MediaType.APPLICATION_JSON_VALUE;
+    private static final String CBOR_PREFERRED_ACCEPT =
+            MediaType.APPLICATION_CBOR_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final String acceptHeader;
+
+    private final ResponseCompression compression;
+    private final ResponseReader<LoginResponse> login;
+    private final ResponseReader<RegisterResponse> register;
+    private final ResponseReader<TimelineDto> timeline;
+    private final ResponseReader<TweetDto> tweet;
+    private final ResponseReader<UserProfileDto> userProfile;
+    private final ResponseReader<FollowListDto> followList;
+
+    public BackendJsonCodec() {
+        this(DEFAULT_POOL_SLOTS, DEFAULT_MAX_POOLED_LENGTH, true);
+    }
+
+    public BackendJsonCodec(int poolSlots, int maxPooledLength) {
+        this(poolSlots, maxPooledLength, true);
+    }
+
+    public BackendJsonCodec(int poolSlots, int maxPooledLength, boolean cborEnabled) {
+        this(poolSlots, maxPooledLength, cborEnabled, ResponseCompression.disabled());
+    }
+
+    @Autowired
+    public BackendJsonCodec(
+            @Value("${chirper.backend.json.string-pool-slots:8192}") int poolSlots,
+            @Value("${chirper.backend.json.max-pooled-length:64}") int maxPooledLength,
+            @Value("${chirper.backend.codec.cbor:true}") boolean cborEnabled,
+            ResponseCompression compression
+    ) {
+        CanonicalStringPool pool = new CanonicalStringPool(poolSlots, maxPooledLength);
+        SimpleModule module = new SimpleModule("chirper-backend-json")
+                .addDeserializer(String.class, new CanonicalStringDeserializer(pool, IDENTIFIER_FIELDS));
+
+        // WebClient標準のObjectMapperと同じ設定（未知のプロパティを無視、JavaTimeModule登録）に正規化を加える
+        this.objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(module)
+                .build();
+        this.cborMapper = Jackson2ObjectMapperBuilder.cbor()
+                .modulesToInstall(module)
+                .build();
+        this.acceptHeader = cborEnabled ? CBOR_PREFERRED_ACCEPT : JSON_ONLY_ACCEPT;
+        this.compression = compression;
+
+        this.login = reader("login", LoginResponse.class);
+        this.register = reader("register", RegisterResponse.class);
+        this.timeline = reader("timeline", TimelineDto.class);
+        this.tweet = reader("tweet", TweetDto.class);
+        this.userProfile = reader("user_profile", UserProfileDto.class);
+        this.followList = reader("follow_list", FollowListDto.class);
+    }
+
+    /**
+     * リクエストに付けるAcceptヘッダーの値
+     */
+    public String acceptHeader() {
+        return acceptHeader;
+    }
+
+    /**
+     * CBORレスポンス用のObjectMapper（WebClientのCBORデコーダーにも使う）
+     */
+    public ObjectMapper cborMapper() {
+        return cborMapper;
+    }
+
+    public ResponseReader<LoginResponse> login() {
+        return login;
+    }
+
+    public ResponseReader<RegisterResponse> register() {
+        return register;
+    }
+
+    public ResponseReader<TimelineDto> timeline() {
+        return timeline;
+    }
+
+    public ResponseReader<TweetDto> tweet() {
+        return tweet;
+    }
+
+    public ResponseReader<UserProfileDto> userProfile() {
+        return userProfile;
+    }
+
+    public ResponseReader<FollowListDto> followList() {
+        return followList;
+    }
+
+    /**
+     * JSONとしてデコードする（テスト・ベンチマーク用）
+     */
+    TimelineDto readTimeline(DataBuffer buffer) {
+        return read(timeline.json, buffer);
+    }
+
+    TweetDto readTweet(DataBuffer buffer) {
+        return read(tweet.json, buffer);
+    }
+
+    UserProfileDto readUserProfile(DataBuffer buffer) {
+        return read(userProfile.json, buffer);
+    }
+
+    FollowListDto readFollowList(DataBuffer buffer) {
+        return read(followList.json, buffer);
+    }
+
+    /**
+     * 正規化設定済みのObjectMapper（ベンチマーク・テスト用）
+     */
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    private <T> ResponseReader<T> reader(String operation, Class<T> type) {
+        return new ResponseReader<>(acceptHeader, compression.operation(operation),
+                objectMapper.readerFor(type), cborMapper.readerFor(type));
+    }
+
+    /**
+     * バッファを読み切って解放する
+     *
+     * @throws DecodingException レスポンスを解釈できない場合
+     */
+    private static <T> T read(ObjectReader reader, DataBuffer buffer) {
+        try (InputStream in = buffer.asInputStream(true)) {
+            return reader.readValue(in);
+        } catch (IOException e) {
+            throw new DecodingException("Response decoding error: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 1つの操作（DTO）のレスポンスの要求と読み方
+     */
+    public static final class ResponseReader<T> {
+
+        private final String acceptHeader;
+        private final ResponseCompression.Operation compression;
+        private final ObjectReader json;
+        private final ObjectReader cbor;
+
+        private ResponseReader(String acceptHeader, ResponseCompression.Operation compression,
+                               ObjectReader json, ObjectReader cbor) {
+            this.acceptHeader = acceptHeader;
+            this.compression = compression;
+            this.json = json;
+            this.cbor = cbor;
+        }
+
+        /**
+         * リクエストにAccept/Accept-Encodingを設定する
+         */
+        public void negotiate(HttpHeaders headers) {
+            headers.set(HttpHeaders.ACCEPT, acceptHeader);
+            headers.set(HttpHeaders.ACCEPT_ENCODING, compression.acceptEncoding());
+        }
+
+        /**
+         * レスポンスを展開してデコードする（ボディが空の場合はnull）
+         *
+         * @throws DecodingException レスポンスを解釈できない場合
+         */
+        public T read(ResponseEntity<DataBuffer> response) {
+            DataBuffer body = response.getBody();
+            if (body == null) {
+                return null;
+            }
+            HttpHeaders headers = response.getHeaders();
+            ObjectReader reader = select(headers.getContentType());
+            try {
+                return compression.decode(headers.getFirst(HttpHeaders.CONTENT_ENCODING), body, reader::readValue);
+            } catch (IOException e) {
+                throw new DecodingException("Response decoding error: " + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * Content-TypeがCBORの場合のみCBORとして読み、それ以外（未指定を含む）はJSONとして読む
+         */
+        private ObjectReader select(MediaType contentType) {
+            if (contentType != null && MediaType.APPLICATION_CBOR.isCompatibleWith(contentType)) {
+                return cbor;
+            }
+            return json;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.chirper.frontend.infrastructure.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 識別子フィールドの文字列をプールから返すデシリアライザー
+ *
+ * 名前が識別子フィールドに一致するプロパティにだけ適用し、それ以外は標準のStringDeserializerを使う。
+ * プールにヒットした場合は文字列を生成せず、パーサーの文字バッファから直接照合する。
+ */
+final class CanonicalStringDeserializer extends StdScalarDeserializer<String> implements ContextualDeserializer {
+
+    private final CanonicalStringPool pool;
+    private final Set<String> fieldNames;
+
+    CanonicalStringDeserializer(CanonicalStringPool pool, Set<String> fieldNames) {
+        super(String.class);
+        this.pool = pool;
+        this.fieldNames = fieldNames;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        if (property != null && fieldNames.contains(property.getName())) {
+            return this;
+        }
+        return StringDeserializer.instance;
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return pool.canonicalize(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+        // 数値やnullなど文字列以外のトークンは標準の変換規則に任せる
+        return StringDeserializer.instance.deserialize(p, ctxt);
+    }
+}
@@ -0,0 +1,84 @@
+package com.chirper.frontend.infrastructure.client;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 固定サイズの文字列正規化プール
+ *
+ * デコード中の文字バッファから、同じ内容の文字列が既にプールにあればそのインスタンスを返し、
+ * なければ新しく生成してスロットを上書きする。スロット数は固定で、エントリが増え続けることはない。
+ * 衝突したスロットは後勝ちで入れ替わるだけなので、ロックは取らない。
+ */
+final class CanonicalStringPool {
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * @param slots スロット数（2のべき乗に切り上げる）
+     * @param maxLength プールする文字列の最大長（これより長い文字列は毎回生成する）
+     */
+    CanonicalStringPool(int slots, int maxLength) {
+        if (slots <= 0 || slots > (1 << 30)) {
+            throw new IllegalArgumentException("slots must be between 1 and 2^30: " + slots);
+        }
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative: " + maxLength);
+        }
+        int size = Integer.highestOneBit(slots);
+        if (size < slots) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 文字バッファの範囲を正規化した文字列を返す
+     */
+    String canonicalize(char[] chars, int offset, int length) {
+        if (length == 0) {
+            return "";
+        }
+        if (length > maxLength) {
+            return new String(chars, offset, length);
+        }
+
+        // String#hashCode と同じ計算にして、生成した文字列のハッシュ計算と結果を揃える
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & mask;
+
+        String pooled = slots.getPlain(index);
+        if (pooled != null && contentEquals(pooled, chars, offset, length)) {
+            return pooled;
+        }
+        String created = new String(chars, offset, length);
+        // Stringは不変なので、他スレッドから古い値が見えても結果の正しさには影響しない
+        slots.setPlain(index, created);
+        return created;
+    }
+
+    /**
+     * スロット数（テスト・監視用）
+     */
+    int slots() {
+        return mask + 1;
+    }
+
+    private static boolean contentEquals(String pooled, char[] chars, int offset, int length) {
+        if (pooled.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (pooled.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,242 @@
+package com.chirper.frontend.infrastructure.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * いいね/いいね解除の書き込みをまとめるコンポーネント
+ *
+ * セッション（JWTトークン）とツイートIDの組ごとに最後の操作だけを保持し、
+ * 一定時間（settle window）操作が止まった時点で最終状態のみをBackendへ送る。
+ * Backend上の現在の状態は分からないため、操作が元に戻った場合（いいね→解除など）も最終状態を送る。
+ *
+ * 登録は待たずに戻り、送信はリクエストスレッドとは別の送信用スレッドで行う。送信用スレッドは
+ * ツイートIDのハッシュで分けた1スレッドずつの実行器で、同じツイートへの書き込みは登録順に送られる。
+ * 各実行器の待ち行列には上限があり、溢れた書き込みや送信に失敗した書き込みはメトリクスとログに残す。
+ */
+@Component
+public class LikeWriteCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(LikeWriteCoalescer.class);
+
+    private static final String METRIC_NAME = "chirper.like.writes";
+    private static final int DEFAULT_SENDER_THREADS = 4;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final BackendApiClient apiClient;
+    private final Duration settleWindow;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService[] senders;
+    private final Map<PendingKey, PendingWrite> pending = new ConcurrentHashMap<>();
+
+    private final Counter requestedCounter;
+    private final Counter sentCounter;
+    private final Counter suppressedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    public LikeWriteCoalescer(BackendApiClient apiClient, MeterRegistry meterRegistry, Duration settleWindow) {
+        this(apiClient, meterRegistry, settleWindow, DEFAULT_SENDER_THREADS, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    @Autowired
+    public LikeWriteCoalescer(
+            BackendApiClient apiClient,
+            MeterRegistry meterRegistry,
+            @Value("${chirper.like.settle-window:400ms}") Duration settleWindow,
+            @Value("${chirper.like.sender-threads:4}") int senderThreads,
+            @Value("${chirper.like.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.apiClient = apiClient;
+        this.settleWindow = settleWindow;
+        // タイマーは送信用スレッドへ渡すだけでBackendを呼ばないため1スレッドで足りる
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "like-write-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.senders = new ExecutorService[senderThreads];
+        for (int i = 0; i < senderThreads; i++) {
+            senders[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                        Thread thread = new Thread(runnable, "like-write-sender");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        this.requestedCounter = Counter.builder(METRIC_NAME)
+                .description("いいね/いいね解除の書き込み要求数")
+                .tag("outcome", "requested")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder(METRIC_NAME)
+                .description("Backendへ実際に送信した書き込み数")
+                .tag("outcome", "sent")
+                .register(meterRegistry);
+        this.suppressedCounter = Counter.builder(METRIC_NAME)
+                .description("まとめられて送信されなかった書き込み数")
+                .tag("outcome", "suppressed")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_NAME)
+                .description("Backendが拒否した、または送信に失敗した書き込み数")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_NAME)
+                .description("送信待ちの上限を超えたため送信しなかった書き込み数")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * いいね状態の変更を登録する
+     *
+     * Backendへの送信を待たずに戻る。
+     *
+     * @param jwtToken JWTトークン（セッションの識別にも使う）
+     * @param tweetId ツイートID
+     * @param liked 変更後の状態（いいねの場合true、解除の場合false）
+     */
+    public void submit(String jwtToken, String tweetId, boolean liked) {
+        requestedCounter.increment();
+        PendingKey key = new PendingKey(jwtToken, tweetId);
+
+        pending.compute(key, (k, current) -> {
+            PendingWrite write = current != null ? current : new PendingWrite();
+            write.desired = liked;
+            write.operations++;
+            if (write.future != null) {
+                write.future.cancel(false);
+            }
+            write.future = scheduler.schedule(
+                    () -> dispatch(k, write), settleWindow.toMillis(), TimeUnit.MILLISECONDS);
+            return write;
+        });
+    }
+
+    /**
+     * 指定セッションの保留中の書き込みを即座に送信し、完了を待つ
+     *
+     * 同じユーザーが直後に画面を表示する際、自分の操作が反映されている（read-your-writes）ことを保証する。
+     *
+     * @param jwtToken JWTトークン
+     */
+    public void flush(String jwtToken) {
+        List<CompletableFuture<Void>> sends = new ArrayList<>();
+        for (Map.Entry<PendingKey, PendingWrite> entry : pending.entrySet()) {
+            if (entry.getKey().jwtToken().equals(jwtToken)) {
+                sends.add(dispatch(entry.getKey(), entry.getValue()));
+            }
+        }
+        // 失敗はdispatch内で記録済みのため、ここでは完了だけを待つ
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+    }
+
+    /**
+     * 保留中のすべての書き込みを送信してスケジューラーと送信用スレッドを停止する
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        for (Map.Entry<PendingKey, PendingWrite> entry : pending.entrySet()) {
+            dispatch(entry.getKey(), entry.getValue());
+        }
+        for (ExecutorService sender : senders) {
+            sender.shutdown();
+        }
+        try {
+            for (ExecutorService sender : senders) {
+                sender.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 保留中の件数（テスト・監視用）
+     */
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 保留中の書き込みを取り出し、ツイートごとの送信用スレッドへ渡す
+     *
+     * @return 送信の完了（既に別スレッドが取り出していた場合は完了済み）
+     */
+    private CompletableFuture<Void> dispatch(PendingKey key, PendingWrite write) {
+        // 別スレッドが既に取り出し済みの場合は何もしない
+        if (!pending.remove(key, write)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (write.future != null) {
+            write.future.cancel(false);
+        }
+
+        suppressedCounter.increment(write.operations - 1);
+        try {
+            return CompletableFuture.runAsync(() -> send(key, write.desired), senderFor(key));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            logger.warn("Dropped coalesced like write for tweet {}: sender queue is full", key.tweetId());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void send(PendingKey key, boolean liked) {
+        try {
+            if (liked) {
+                apiClient.likeTweet(key.jwtToken(), key.tweetId());
+            } else {
+                apiClient.unlikeTweet(key.jwtToken(), key.tweetId());
+            }
+            sentCounter.increment();
+        } catch (Exception e) {
+            // 登録した利用者は既に応答を受け取っているため、メトリクスとログに残す
+            failedCounter.increment();
+            logger.warn("Failed to send coalesced like write for tweet {}: {}", key.tweetId(), e.getMessage());
+        }
+    }
+
+    private ExecutorService senderFor(PendingKey key) {
+        return senders[Math.floorMod(key.tweetId().hashCode(), senders.length)];
+    }
+
+    /**
+     * まとめる単位のキー（セッション×ツイート）
+     */
+    private record PendingKey(String jwtToken, String tweetId) {
+    }
+
+    /**
+     * 送信待ちの書き込み
+     */
+    private static final class PendingWrite {
+        volatile boolean desired;
+        volatile int operations;
+        volatile ScheduledFuture<?> future;
+    }
+}
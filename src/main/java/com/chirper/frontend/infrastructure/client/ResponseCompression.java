@@ -0,0 +1,250 @@
+package com.chirper.frontend.infrastructure.client;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Backendレスポンスの圧縮（gzip/deflate）のネゴシエーションと計測
+ *
+ * 操作（DTO）ごとに展開後のレスポンスサイズの移動平均を持ち、閾値以上の操作に限って
+ * Accept-Encodingで圧縮を要求する。小さいレスポンスは圧縮しても転送量がほとんど減らず、
+ * 展開のCPUコストだけが増えるため要求しない。
+ *
+ * 展開はHttpClientではなくここで行い、転送サイズ（wire）と展開後のサイズ（decoded）を
+ * 操作ごとに記録する。デコード時間はContent-Encodingごとに記録し、転送量の削減と
+ * 展開のCPUコストを比較できるようにする。
+ */
+@Component
+public class ResponseCompression {
+
+    static final String BYTES_METRIC = "chirper.backend.response.bytes";
+    static final String DECODE_METRIC = "chirper.backend.response.decode";
+
+    static final String COMPRESSED_ENCODINGS = "gzip, deflate";
+    static final String IDENTITY = "identity";
+
+    /**
+     * 移動平均の重み（新しい観測値を1/8の重みで反映する）
+     */
+    private static final int AVERAGE_SHIFT = 3;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long minResponseSize;
+    private final long maxDecodedSize;
+
+    @Autowired
+    public ResponseCompression(
+            MeterRegistry meterRegistry,
+            @Value("${chirper.backend.compression.enabled:true}") boolean enabled,
+            @Value("${chirper.backend.compression.min-response-size:2KB}") DataSize minResponseSize,
+            @Value("${chirper.backend.codec.max-in-memory-size:512KB}") DataSize maxDecodedSize
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.minResponseSize = minResponseSize.toBytes();
+        this.maxDecodedSize = maxDecodedSize.toBytes();
+    }
+
+    /**
+     * 圧縮を要求しない設定（計測結果は破棄する）
+     */
+    static ResponseCompression disabled() {
+        return new ResponseCompression(new SimpleMeterRegistry(), false,
+                DataSize.ofKilobytes(2), DataSize.ofKilobytes(512));
+    }
+
+    /**
+     * 操作ごとの計測単位を作成する（起動時に操作ごとに1回だけ呼ぶ）
+     *
+     * @param name メトリクスのoperationタグ
+     */
+    public Operation operation(String name) {
+        return new Operation(name);
+    }
+
+    /**
+     * 1つの操作のネゴシエーション状態とメトリクス
+     */
+    public final class Operation {
+
+        private final DistributionSummary wireBytes;
+        private final DistributionSummary decodedBytes;
+        private final Timer identityTimer;
+        private final Timer gzipTimer;
+        private final Timer deflateTimer;
+
+        /**
+         * 展開後サイズの移動平均（未観測の場合は-1）
+         */
+        private volatile long averageDecodedSize = -1;
+
+        private Operation(String name) {
+            this.wireBytes = DistributionSummary.builder(BYTES_METRIC)
+                    .description("Backendレスポンスの転送サイズ")
+                    .baseUnit("bytes")
+                    .tags("operation", name, "stage", "wire")
+                    .register(meterRegistry);
+            this.decodedBytes = DistributionSummary.builder(BYTES_METRIC)
+                    .description("Backendレスポンスの展開後のサイズ")
+                    .baseUnit("bytes")
+                    .tags("operation", name, "stage", "decoded")
+                    .register(meterRegistry);
+            this.identityTimer = decodeTimer(name, IDENTITY);
+            this.gzipTimer = decodeTimer(name, "gzip");
+            this.deflateTimer = decodeTimer(name, "deflate");
+        }
+
+        /**
+         * リクエストに付けるAccept-Encodingヘッダーの値
+         *
+         * 未観測の操作は大きいレスポンスとみなして圧縮を要求し、観測したサイズで判断し直す。
+         */
+        public String acceptEncoding() {
+            if (!enabled) {
+                return IDENTITY;
+            }
+            long average = averageDecodedSize;
+            return average < 0 || average >= minResponseSize ? COMPRESSED_ENCODINGS : IDENTITY;
+        }
+
+        /**
+         * レスポンスボディを展開してパースし、サイズとデコード時間を記録する
+         *
+         * @param contentEncoding レスポンスのContent-Encoding（nullの場合は無圧縮）
+         * @param buffer レスポンスボディ（読み終えたら解放する）
+         * @param parser 展開後のストリームからDTOを読む処理
+         * @throws IOException 展開・パースに失敗した場合、または展開後のサイズが上限を超えた場合
+         */
+        <T> T decode(String contentEncoding, DataBuffer buffer, StreamParser<T> parser) throws IOException {
+            long start = System.nanoTime();
+            int wire = buffer.readableByteCount();
+            String encoding = contentEncoding == null ? IDENTITY : contentEncoding.trim().toLowerCase(Locale.ROOT);
+
+            InputStream raw = buffer.asInputStream(true);
+            InputStream body;
+            Timer timer;
+            try {
+                switch (encoding) {
+                    case "", IDENTITY -> {
+                        body = raw;
+                        timer = identityTimer;
+                    }
+                    case "gzip", "x-gzip" -> {
+                        body = new GZIPInputStream(raw);
+                        timer = gzipTimer;
+                    }
+                    case "deflate" -> {
+                        body = new InflaterInputStream(raw);
+                        timer = deflateTimer;
+                    }
+                    default -> throw new IOException("Unsupported Content-Encoding: " + contentEncoding);
+                }
+            } catch (IOException e) {
+                raw.close();
+                throw e;
+            }
+
+            T value;
+            long decoded;
+            try (CountingInputStream in = new CountingInputStream(body, maxDecodedSize)) {
+                value = parser.parse(in);
+                decoded = in.count();
+            }
+
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            wireBytes.record(wire);
+            decodedBytes.record(decoded);
+            long average = averageDecodedSize;
+            averageDecodedSize = average < 0 ? decoded : average + ((decoded - average) >> AVERAGE_SHIFT);
+            return value;
+        }
+
+        /**
+         * 展開後サイズの移動平均（テスト・監視用）
+         */
+        long averageDecodedSize() {
+            return averageDecodedSize;
+        }
+
+        private Timer decodeTimer(String operation, String encoding) {
+            return Timer.builder(DECODE_METRIC)
+                    .description("Backendレスポンスの展開とパースにかかった時間")
+                    .tags("operation", operation, "encoding", encoding)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 展開後のストリームからDTOを読む処理
+     */
+    @FunctionalInterface
+    interface StreamParser<T> {
+        T parse(InputStream in) throws IOException;
+    }
+
+    /**
+     * 展開後に読んだバイト数を数え、上限を超えたら失敗させるストリーム（圧縮爆弾対策）
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        CountingInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                advance(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                advance(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            advance(skipped);
+            return skipped;
+        }
+
+        private void advance(long n) throws IOException {
+            count += n;
+            if (count > limit) {
+                throw new IOException("Decoded response exceeds " + limit + " bytes");
+            }
+        }
+    }
+}
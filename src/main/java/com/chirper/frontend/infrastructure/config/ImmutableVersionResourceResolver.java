@@ -0,0 +1,140 @@
+package com.chirper.frontend.infrastructure.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.List;
+
+/**
+ * 内容ハッシュ付きのURLで解決した静的リソースにだけimmutableのCache-Controlを付けるリゾルバー
+ *
+ * ハッシュなしのURL（例: /css/style.css）は内容が変わっても同じURLのままなので、
+ * ハンドラーに設定した既定のCache-Control（再検証）のまま返す。
+ *
+ * VersionResourceResolverは、リクエストパスからバージョンを取り除いて解決した場合のみ
+ * ETag付きのHttpResourceを返す。それをCache-Control付きのHttpResourceで包み、
+ * ResourceHttpRequestHandlerが既定の値を上書きする。
+ */
+class ImmutableVersionResourceResolver extends VersionResourceResolver {
+
+    private final CacheControl versionedCacheControl;
+
+    ImmutableVersionResourceResolver(CacheControl versionedCacheControl) {
+        this.versionedCacheControl = versionedCacheControl;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(
+            @Nullable HttpServletRequest request,
+            String requestPath,
+            List<? extends Resource> locations,
+            ResourceResolverChain chain
+    ) {
+        Resource resolved = super.resolveResourceInternal(request, requestPath, locations, chain);
+        if (resolved instanceof HttpResource versioned) {
+            return new ImmutableResource(versioned, versionedCacheControl);
+        }
+        return resolved;
+    }
+
+    /**
+     * 元のリソースに委譲し、レスポンスヘッダーにCache-Controlを加えるリソース
+     */
+    private static final class ImmutableResource extends AbstractResource implements HttpResource {
+
+        private final HttpResource original;
+        private final CacheControl cacheControl;
+
+        ImmutableResource(HttpResource original, CacheControl cacheControl) {
+            this.original = original;
+            this.cacheControl = cacheControl;
+        }
+
+        @Override
+        public boolean exists() {
+            return original.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return original.isReadable();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return original.isOpen();
+        }
+
+        @Override
+        public boolean isFile() {
+            return original.isFile();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return original.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return original.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return original.getFile();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return original.getInputStream();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return original.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return original.lastModified();
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return original.createRelative(relativePath);
+        }
+
+        @Override
+        @Nullable
+        public String getFilename() {
+            return original.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return original.getDescription();
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            // 呼び出し側（EncodedResourceなど）が書き換えるため、毎回新しいヘッダーを返す
+            HttpHeaders headers = new HttpHeaders();
+            headers.addAll(original.getResponseHeaders());
+            headers.setCacheControl(cacheControl);
+            return headers;
+        }
+    }
+}
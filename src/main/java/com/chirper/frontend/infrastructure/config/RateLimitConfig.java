@@ -0,0 +1,70 @@
+package com.chirper.frontend.infrastructure.config;
+
+import com.chirper.frontend.infrastructure.ratelimit.TokenBucketRateLimiter;
+import com.chirper.frontend.infrastructure.ratelimit.WriteRateLimitInterceptor;
+import com.chirper.frontend.infrastructure.ratelimit.WriteRateLimitInterceptor.Rule;
+import com.chirper.frontend.infrastructure.session.JwtSessionManager;
+import com.chirper.frontend.presentation.exception.CachedErrorPages;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import org.thymeleaf.ITemplateEngine;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 書き込み操作のレート制限設定
+ *
+ * 操作ごとに chirper.rate-limit.&lt;操作&gt;.capacity（バースト回数）と
+ * refill-period（トークン1つの補充間隔）を指定する。
+ * バケットは chirper.rate-limit.slots 個の固定長配列で、ユーザー数に関係なくメモリ使用量は一定。
+ * インターセプターはMappedInterceptorとして登録し、対象パス以外のリクエストでは呼び出さない。
+ * フォーム送信の429には、エラーページと同じく初回のみ描画してキャッシュしたHTMLを返す。
+ */
+@Configuration
+@ConditionalOnProperty(name = "chirper.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    private static final Set<String> POST = Set.of("POST");
+
+    @Bean
+    public MappedInterceptor writeRateLimitInterceptor(
+            JwtSessionManager sessionManager,
+            ITemplateEngine templateEngine,
+            MeterRegistry meterRegistry,
+            @Value("${chirper.rate-limit.slots:16384}") int slots,
+            @Value("${chirper.rate-limit.tweet.capacity:10}") int tweetCapacity,
+            @Value("${chirper.rate-limit.tweet.refill-period:6s}") Duration tweetRefill,
+            @Value("${chirper.rate-limit.delete.capacity:20}") int deleteCapacity,
+            @Value("${chirper.rate-limit.delete.refill-period:3s}") Duration deleteRefill,
+            @Value("${chirper.rate-limit.follow.capacity:30}") int followCapacity,
+            @Value("${chirper.rate-limit.follow.refill-period:2s}") Duration followRefill,
+            @Value("${chirper.rate-limit.like.capacity:60}") int likeCapacity,
+            @Value("${chirper.rate-limit.like.refill-period:1s}") Duration likeRefill
+    ) {
+        TokenBucketRateLimiter tweet = new TokenBucketRateLimiter(tweetCapacity, tweetRefill.toMillis(), slots);
+        TokenBucketRateLimiter delete = new TokenBucketRateLimiter(deleteCapacity, deleteRefill.toMillis(), slots);
+        TokenBucketRateLimiter follow = new TokenBucketRateLimiter(followCapacity, followRefill.toMillis(), slots);
+        TokenBucketRateLimiter like = new TokenBucketRateLimiter(likeCapacity, likeRefill.toMillis(), slots);
+
+        // フォロー/フォロー解除、いいね/いいね解除/リツイートはそれぞれ同じバケットを共有する
+        List<Rule> rules = List.of(
+                new Rule("tweet", POST, "/tweets", tweet),
+                new Rule("delete", POST, "/tweets/*/delete", delete),
+                new Rule("follow", POST, "/follow/*", follow),
+                new Rule("follow", POST, "/unfollow/*", follow),
+                new Rule("like", Set.of("POST", "DELETE"), "/api/tweets/*/like", like),
+                new Rule("like", POST, "/api/tweets/*/retweet", like)
+        );
+
+        CachedErrorPages errorPages = new CachedErrorPages(templateEngine);
+        String[] includePatterns = rules.stream().map(Rule::pathPattern).distinct().toArray(String[]::new);
+        return new MappedInterceptor(includePatterns,
+                new WriteRateLimitInterceptor(sessionManager, rules, errorPages::tooManyRequestsBody, meterRegistry));
+    }
+}
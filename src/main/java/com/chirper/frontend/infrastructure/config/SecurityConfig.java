@@ -1,11 +1,15 @@
 package com.chirper.frontend.infrastructure.config;
 
+import com.chirper.frontend.infrastructure.filter.EtagRouteCsrfTokenRequestHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.List;
+
 /**
  * Spring Security設定
  */
@@ -14,18 +18,28 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            @Value("${chirper.etag.paths:}") List<String> etagPaths
+    ) throws Exception {
         http
             // Phase 2: CSRF保護を有効化(Thymeleafフォームで使用)
             .csrf(csrf -> csrf
                 .ignoringRequestMatchers("/api/**") // API エンドポイントは除外 (将来の拡張用)
+                // ETag対象のルートのみトークンをマスクしない（同じ内容のページが同じETagになるようにする）
+                // それ以外のページはBREACH対策のマスクを維持する
+                .csrfTokenRequestHandler(new EtagRouteCsrfTokenRequestHandler(etagPaths))
             )
             .authorizeHttpRequests(auth -> auth
                 // 公開ページ
                 // 注: /logoutはAuthControllerが処理するためpermitAllに含まれる
                 .requestMatchers("/", "/login", "/register", "/logout", "/error/**").permitAll()
                 // 静的リソース
-                .requestMatchers("/css/**", "/js/**", "/images/**").permitAll()
+                .requestMatchers("/css/**", "/js/**", "/images/**", "/vendor/**").permitAll()
+                // ヘルスチェック（liveness/readinessプローブ）
+                .requestMatchers("/actuator/health/**").permitAll()
+                // 起動時ウォームアップ（WarmupControllerがトークンを検証する）
+                .requestMatchers("/internal/warmup/**").permitAll()
                 // その他は認証が必要
                 .anyRequest().authenticated()
             )
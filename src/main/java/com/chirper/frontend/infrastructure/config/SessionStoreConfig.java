@@ -0,0 +1,61 @@
+package com.chirper.frontend.infrastructure.config;
+
+import com.chirper.frontend.infrastructure.session.CookieKeyedSessionStore;
+import com.chirper.frontend.infrastructure.session.FileSessionStore;
+import com.chirper.frontend.infrastructure.session.HttpSessionStore;
+import com.chirper.frontend.infrastructure.session.MemorySessionStore;
+import com.chirper.frontend.infrastructure.session.SessionStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * セッションストア設定
+ *
+ * chirper.session.store で保存先を選択する。
+ * <ul>
+ *   <li>memory（デフォルト）: メモリ上のストライプ化ストア（HttpSessionを使わない、使用メモリに上限あり）</li>
+ *   <li>http: HttpSessionの属性（使用メモリの上限なし）</li>
+ *   <li>file: ファイル（再起動後もログイン状態を維持）</li>
+ * </ul>
+ */
+@Configuration
+public class SessionStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "chirper.session.store", havingValue = "http")
+    public SessionStore httpSessionStore() {
+        return new HttpSessionStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "chirper.session.store", havingValue = "memory", matchIfMissing = true)
+    public SessionStore memorySessionStore(
+            @Value("${chirper.session.cookie-name:" + CookieKeyedSessionStore.DEFAULT_COOKIE_NAME + "}") String cookieName,
+            @Value("${server.servlet.session.cookie.secure:false}") boolean secureCookie,
+            @Value("${chirper.session.timeout:1h}") Duration timeout,
+            @Value("${chirper.session.memory.stripes:64}") int stripes,
+            @Value("${chirper.session.memory.max-size:64MB}") DataSize maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        return new MemorySessionStore(cookieName, secureCookie, timeout, stripes, maxSize.toBytes(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "chirper.session.store", havingValue = "file")
+    public SessionStore fileSessionStore(
+            @Value("${chirper.session.cookie-name:" + CookieKeyedSessionStore.DEFAULT_COOKIE_NAME + "}") String cookieName,
+            @Value("${server.servlet.session.cookie.secure:false}") boolean secureCookie,
+            @Value("${chirper.session.timeout:1h}") Duration timeout,
+            @Value("${chirper.session.file.directory:${java.io.tmpdir}/chirper-sessions}") String directory,
+            @Value("${chirper.session.file.purge-interval:10m}") Duration purgeInterval
+    ) {
+        return new FileSessionStore(cookieName, secureCookie, Path.of(directory), timeout, purgeInterval);
+    }
+}
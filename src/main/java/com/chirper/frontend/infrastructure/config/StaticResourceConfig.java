@@ -0,0 +1,61 @@
+package com.chirper.frontend.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+
+import java.time.Duration;
+
+/**
+ * 静的リソース設定
+ *
+ * CSS/JS/自前配信のBootstrapを、内容ハッシュ付きURL（例: /css/style-&lt;md5&gt;.css）で配信する。
+ * URLは内容が変わると変わるため、ハッシュ付きURLへのリクエストにだけ長期間・immutableの
+ * Cache-Controlを付けて再訪問時の再取得をなくす。ハッシュなしのURLは毎回再検証させる（no-cache）。
+ * ビルド時に生成した .br / .gz があれば、Accept-Encodingに応じてそちらを返す。
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private static final String[][] HANDLERS = {
+            {"/css/**", "classpath:/static/css/"},
+            {"/js/**", "classpath:/static/js/"},
+            {"/vendor/**", "classpath:/static/vendor/"}
+    };
+
+    @Value("${chirper.static-resources.cache-period:365d}")
+    private Duration cachePeriod;
+
+    @Value("${spring.web.resources.chain.cache:true}")
+    private boolean cacheResolvedResources;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        CacheControl versionedCacheControl = CacheControl.maxAge(cachePeriod)
+                .cachePublic()
+                .immutable();
+
+        for (String[] handler : HANDLERS) {
+            registry.addResourceHandler(handler[0])
+                    .addResourceLocations(handler[1])
+                    .setCacheControl(CacheControl.noCache())
+                    .resourceChain(cacheResolvedResources)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new ImmutableVersionResourceResolver(versionedCacheControl)
+                            .addContentVersionStrategy("/**"));
+        }
+    }
+
+    /**
+     * テンプレートの @{/css/...} などを内容ハッシュ付きURLに書き換えるフィルター
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
@@ -0,0 +1,79 @@
+package com.chirper.frontend.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.thymeleaf.context.IExpressionContext;
+import org.thymeleaf.context.IWebContext;
+import org.thymeleaf.linkbuilder.StandardLinkBuilder;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.Map;
+
+/**
+ * Thymeleaf設定
+ */
+@Configuration
+public class ThymeleafConfig {
+
+    /**
+     * リクエスト外（SSE配信・エラーページの事前描画など）でもコンテキスト相対URL（@{/...}）を解決できるリンクビルダーを設定する
+     */
+    @Bean
+    public static BeanPostProcessor offlineLinkBuilderPostProcessor(
+            Environment environment,
+            ObjectProvider<ResourceUrlProvider> resourceUrlProvider
+    ) {
+        String contextPath = environment.getProperty("server.servlet.context-path", "");
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof SpringTemplateEngine templateEngine) {
+                    templateEngine.setLinkBuilder(new OfflineLinkBuilder(contextPath, resourceUrlProvider));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Webコンテキストがない場合に設定値のコンテキストパスを使うリンクビルダー
+     *
+     * 静的リソースのURLは、リクエスト内でのResourceUrlEncodingFilterと同じく内容ハッシュ付きURLに変換する。
+     */
+    static class OfflineLinkBuilder extends StandardLinkBuilder {
+
+        private final String contextPath;
+        private final ObjectProvider<ResourceUrlProvider> resourceUrlProvider;
+
+        OfflineLinkBuilder(String contextPath, ObjectProvider<ResourceUrlProvider> resourceUrlProvider) {
+            this.contextPath = contextPath;
+            this.resourceUrlProvider = resourceUrlProvider;
+        }
+
+        @Override
+        protected String computeContextPath(
+                IExpressionContext context, String base, Map<String, Object> parameters) {
+            if (context instanceof IWebContext) {
+                return super.computeContextPath(context, base, parameters);
+            }
+            return contextPath;
+        }
+
+        @Override
+        protected String processLink(IExpressionContext context, String link) {
+            if (context instanceof IWebContext || !link.startsWith(contextPath + "/")) {
+                return super.processLink(context, link);
+            }
+            ResourceUrlProvider provider = resourceUrlProvider.getIfAvailable();
+            if (provider == null) {
+                return link;
+            }
+            String versioned = provider.getForLookupPath(link.substring(contextPath.length()));
+            return versioned != null ? contextPath + versioned : link;
+        }
+    }
+}
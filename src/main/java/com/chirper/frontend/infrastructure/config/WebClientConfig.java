@@ -1,9 +1,12 @@
 package com.chirper.frontend.infrastructure.config;
 
+import com.chirper.frontend.infrastructure.client.BackendJsonCodec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
 
@@ -18,14 +21,37 @@ public class WebClientConfig {
     @Value("${backend.api.base-url}")
     private String baseUrl;
 
+    /**
+     * レスポンスボディをメモリに集約する上限
+     *
+     * 最大ページ（100件）のタイムラインでも数十KBのため、異常に大きいレスポンスを早めに打ち切る。
+     */
+    @Value("${chirper.backend.codec.max-in-memory-size:512KB}")
+    private DataSize maxInMemorySize;
+
+    /**
+     * WebClientを作成する
+     *
+     * BackendApiClientはBackendJsonCodecで直接デコードするが、bodyToMonoで読む場合も
+     * CBORレスポンスを同じ設定で解釈できるようにCBORデコーダーを登録しておく。
+     */
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(BackendJsonCodec backendJsonCodec) {
+        int maxInMemoryBytes = (int) maxInMemorySize.toBytes();
+        Jackson2CborDecoder cborDecoder = new Jackson2CborDecoder(backendJsonCodec.cborMapper());
+        cborDecoder.setMaxInMemorySize(maxInMemoryBytes);
+
+        // gzip/deflateの展開はResponseCompressionで行う（HttpClient.compressで展開すると転送サイズを計測できない）
         HttpClient httpClient = HttpClient.create()
                 .responseTimeout(Duration.ofSeconds(30));
 
         return WebClient.builder()
                 .baseUrl(baseUrl)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().maxInMemorySize(maxInMemoryBytes);
+                    codecs.customCodecs().register(cborDecoder);
+                })
                 .build();
     }
 }
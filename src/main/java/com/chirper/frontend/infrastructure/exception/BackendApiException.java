@@ -2,25 +2,28 @@ package com.chirper.frontend.infrastructure.exception;
 
 /**
  * Backend API呼び出し時の例外
+ *
+ * Backendのエラー応答を伝えるための例外で、障害時には大量に発生するためスタックトレースを取得しない。
+ * 通信エラーなどの原因例外は cause として保持され、そちらのスタックトレースは残る。
  */
 public class BackendApiException extends RuntimeException {
     private final int statusCode;
     private final String errorCode;
 
     public BackendApiException(String message, int statusCode) {
-        super(message);
+        super(message, null, false, false);
         this.statusCode = statusCode;
         this.errorCode = null;
     }
 
     public BackendApiException(String message, int statusCode, String errorCode) {
-        super(message);
+        super(message, null, false, false);
         this.statusCode = statusCode;
         this.errorCode = errorCode;
     }
 
     public BackendApiException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
         this.statusCode = 500;
         this.errorCode = null;
     }
@@ -0,0 +1,50 @@
+package com.chirper.frontend.infrastructure.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
+import org.springframework.security.web.csrf.CsrfTokenRequestHandler;
+import org.springframework.security.web.csrf.XorCsrfTokenRequestAttributeHandler;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * ETag対象のルートでのみCSRFトークンをマスクせずに描画するハンドラー
+ *
+ * 既定のXorCsrfTokenRequestAttributeHandlerはリクエストごとに異なるマスクを掛けるため
+ * （BREACH対策）、同じ内容のページでもETagが毎回変わる。HashingEtagFilterの対象ルート
+ * （chirper.etag.paths）に限ってマスクしないトークンを描画し、それ以外のページでは
+ * マスクを維持する。
+ *
+ * 送信されたトークンはどちらのページのフォームからも届くため、マスク済み・未マスクの
+ * 両方を受け付ける。
+ */
+public class EtagRouteCsrfTokenRequestHandler implements CsrfTokenRequestHandler {
+
+    private final List<PathPattern> etagRoutes;
+    private final CsrfTokenRequestHandler masked = new XorCsrfTokenRequestAttributeHandler();
+    private final CsrfTokenRequestHandler plain = new CsrfTokenRequestAttributeHandler();
+
+    /**
+     * @param etagPaths ETag/304応答を有効にするルート（chirper.etag.paths）
+     */
+    public EtagRouteCsrfTokenRequestHandler(List<String> etagPaths) {
+        this.etagRoutes = HashingEtagFilter.parsePatterns(etagPaths);
+    }
+
+    @Override
+    public void handle(HttpServletRequest request, HttpServletResponse response, Supplier<CsrfToken> csrfToken) {
+        CsrfTokenRequestHandler handler = HashingEtagFilter.matches(etagRoutes, request) ? plain : masked;
+        handler.handle(request, response, csrfToken);
+    }
+
+    @Override
+    public String resolveCsrfTokenValue(HttpServletRequest request, CsrfToken csrfToken) {
+        // マスク済みとして復元できない場合は未マスクのトークンとして比較する
+        String unmasked = masked.resolveCsrfTokenValue(request, csrfToken);
+        return unmasked != null ? unmasked : plain.resolveCsrfTokenValue(request, csrfToken);
+    }
+}
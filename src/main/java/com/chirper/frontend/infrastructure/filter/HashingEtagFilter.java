@@ -0,0 +1,299 @@
+package com.chirper.frontend.infrastructure.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FastByteArrayOutputStream;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * 描画済みHTMLにETagを付け、変更がなければ304を返すフィルター
+ *
+ * レスポンスを1回だけバッファしつつ、書き込みと同時にCRC32Cでハッシュを計算する
+ * （書き終わった後に全体を読み直してハッシュを取ることはしない）。
+ * 対象は chirper.etag.paths で指定したGET/HEADのルートのみ。
+ * 非同期処理（SSEなど）を開始したレスポンスにはETagを付けず、そのままクライアントへ流す。
+ */
+@Component
+public class HashingEtagFilter extends OncePerRequestFilter {
+
+    private static final String METRIC_NAME = "chirper.http.etag";
+
+    /**
+     * ETagを付けたレスポンスのCache-Control（ブラウザには保存させ、毎回再検証させる）
+     */
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final List<PathPattern> patterns;
+    private final Counter notModifiedCounter;
+    private final Counter modifiedCounter;
+
+    @Autowired
+    public HashingEtagFilter(
+            MeterRegistry meterRegistry,
+            @Value("${chirper.etag.paths:}") List<String> paths
+    ) {
+        this.patterns = parsePatterns(paths);
+        this.notModifiedCounter = Counter.builder(METRIC_NAME)
+                .description("304で応答したリクエスト数")
+                .tag("outcome", "not_modified")
+                .register(meterRegistry);
+        this.modifiedCounter = Counter.builder(METRIC_NAME)
+                .description("ETag付きで本文を返したリクエスト数")
+                .tag("outcome", "modified")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+        return !matches(patterns, request);
+    }
+
+    /**
+     * chirper.etag.paths の各ルートをPathPatternに変換する（空要素は無視する）
+     */
+    static List<PathPattern> parsePatterns(List<String> paths) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        return paths.stream()
+                .filter(path -> !path.isBlank())
+                .map(path -> parser.parse(path.trim()))
+                .toList();
+    }
+
+    /**
+     * リクエストのパス（コンテキストパスを除く）がいずれかのルートに一致するかどうか
+     */
+    static boolean matches(List<PathPattern> patterns, HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        return patterns.stream().anyMatch(pattern -> pattern.matches(pathContainer));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HashingResponseWrapper wrapper = new HashingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        if (request.isAsyncStarted()) {
+            // 本文が確定しないためハッシュできない。以降の書き込みはラップせずに送る
+            wrapper.startStreaming();
+            return;
+        }
+        wrapper.flushWriter();
+
+        if (wrapper.isPassThrough() || response.getStatus() != HttpServletResponse.SC_OK) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        // ETagヘッダーはcheckNotModifiedが設定する
+        String etag = wrapper.getEtag();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            // 304: 本文は送らない
+            notModifiedCounter.increment();
+            return;
+        }
+
+        modifiedCounter.increment();
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * 書き込みをバッファしながらCRC32Cを更新するレスポンスラッパー
+     *
+     * 非同期処理を開始した場合（または非ブロッキング書き込みを要求された場合）は
+     * バッファ済みの本文を送り、以降の書き込みを元のレスポンスへそのまま渡す。
+     */
+    private static final class HashingResponseWrapper extends HttpServletResponseWrapper {
+
+        private final FastByteArrayOutputStream buffer = new FastByteArrayOutputStream();
+        private final CRC32C crc = new CRC32C();
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        private boolean passThrough;
+        private volatile boolean streaming;
+
+        HashingResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new HashingOutputStream();
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                Charset charset = Charset.forName(getCharacterEncoding());
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), charset));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            // ETagを付けるまでコミットしない
+            if (streaming) {
+                flushWriter();
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            // 本文確定後に設定する
+            if (streaming) {
+                super.setContentLength(len);
+            }
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            // 本文確定後に設定する
+            if (streaming) {
+                super.setContentLengthLong(len);
+            }
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            passThrough = true;
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            passThrough = true;
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            passThrough = true;
+            super.sendRedirect(location);
+        }
+
+        boolean isPassThrough() {
+            return passThrough;
+        }
+
+        void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        /**
+         * バッファ済みの本文を送り、以降の書き込みを元のレスポンスへ直接渡す
+         */
+        synchronized void startStreaming() throws IOException {
+            if (streaming) {
+                return;
+            }
+            flushWriter();
+            streaming = true;
+            if (buffer.size() > 0) {
+                buffer.writeTo(getResponse().getOutputStream());
+                buffer.reset();
+            }
+        }
+
+        String getEtag() {
+            return "W/\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(buffer.size()) + "\"";
+        }
+
+        void copyBodyToResponse() throws IOException {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (response.isCommitted() || buffer.size() == 0) {
+                return;
+            }
+            response.setContentLength(buffer.size());
+            buffer.writeTo(response.getOutputStream());
+            response.flushBuffer();
+        }
+
+        private final class HashingOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                if (streaming) {
+                    getResponse().getOutputStream().write(b);
+                    return;
+                }
+                buffer.write(b);
+                crc.update(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (streaming) {
+                    getResponse().getOutputStream().write(b, off, len);
+                    return;
+                }
+                buffer.write(b, off, len);
+                crc.update(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (streaming) {
+                    getResponse().getOutputStream().flush();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                if (!streaming) {
+                    return true;
+                }
+                try {
+                    return getResponse().getOutputStream().isReady();
+                } catch (IOException e) {
+                    return false;
+                }
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                // 非ブロッキング書き込みはバッファできないため、元のストリームへ委譲する
+                try {
+                    startStreaming();
+                    getResponse().getOutputStream().setWriteListener(writeListener);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to switch ETag response to streaming", e);
+                }
+            }
+        }
+    }
+}
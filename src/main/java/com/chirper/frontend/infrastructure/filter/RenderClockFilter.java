@@ -0,0 +1,93 @@
+package com.chirper.frontend.infrastructure.filter;
+
+import com.chirper.frontend.domain.valueobject.RenderClock;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * リクエストごとの {@link RenderClock} をリクエスト属性に設定するフィルター
+ *
+ * テンプレートは ${renderClock} を使い、1ページ内のすべてのタイムスタンプを同じ現在時刻で表示する。
+ * 表示タイムゾーンはブラウザが設定する tz Cookie（IANAのタイムゾーンID）を使い、
+ * 未設定または不明な値の場合は chirper.display.zone（未指定ならシステムのタイムゾーン）を使う。
+ */
+@Component
+public class RenderClockFilter extends OncePerRequestFilter {
+
+    /**
+     * RenderClockを格納するリクエスト属性名（テンプレートの変数名）
+     */
+    public static final String REQUEST_ATTRIBUTE = "renderClock";
+
+    /**
+     * ブラウザのタイムゾーンIDを保持するCookie名
+     */
+    public static final String ZONE_COOKIE = "tz";
+
+    private static final String[] STATIC_PREFIXES = {"/css/", "/js/", "/vendor/", "/actuator/"};
+
+    private static final Set<String> AVAILABLE_ZONE_IDS = ZoneId.getAvailableZoneIds();
+
+    /**
+     * タイムゾーンIDの解決結果（キーは実在するIDに限るため、件数は上限がある）
+     */
+    private final Map<String, ZoneId> zones = new ConcurrentHashMap<>();
+    private final ZoneId defaultZone;
+
+    @Autowired
+    public RenderClockFilter(@Value("${chirper.display.zone:}") String defaultZone) {
+        this.defaultZone = defaultZone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(defaultZone);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String prefix : STATIC_PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        request.setAttribute(REQUEST_ATTRIBUTE, new RenderClock(Instant.now(), resolveZone(request)));
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Cookieから表示タイムゾーンを解決する
+     */
+    ZoneId resolveZone(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return defaultZone;
+        }
+        for (Cookie cookie : cookies) {
+            if (ZONE_COOKIE.equals(cookie.getName())) {
+                String id = cookie.getValue();
+                if (id != null && AVAILABLE_ZONE_IDS.contains(id)) {
+                    return zones.computeIfAbsent(id, ZoneId::of);
+                }
+                break;
+            }
+        }
+        return defaultZone;
+    }
+}
@@ -0,0 +1,137 @@
+package com.chirper.frontend.infrastructure.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 冪等性キーによる重複送信の抑止
+ *
+ * スコープ（セッション）と冪等性キーの組ごとに最初の実行結果を一定時間（TTL）保持し、
+ * 同じキーでの再送には保持した結果を返す。実行中の再送は最初の実行の完了を待って同じ結果を返す。
+ * 失敗した実行は記録から外すため、同じキーで再試行できる。
+ */
+@Component
+public class SubmissionDeduplicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionDeduplicator.class);
+
+    private static final String METRIC_NAME = "chirper.submissions";
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter executedCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter bypassedCounter;
+
+    @Autowired
+    public SubmissionDeduplicator(
+            MeterRegistry meterRegistry,
+            @Value("${chirper.idempotency.ttl:5m}") Duration ttl,
+            @Value("${chirper.idempotency.max-entries:10000}") int maxEntries
+    ) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.executedCounter = Counter.builder(METRIC_NAME)
+                .description("実際に実行された送信数")
+                .tag("outcome", "executed")
+                .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder(METRIC_NAME)
+                .description("重複として保持済みの結果を返した送信数")
+                .tag("outcome", "deduplicated")
+                .register(meterRegistry);
+        this.bypassedCounter = Counter.builder(METRIC_NAME)
+                .description("記録上限のため重複判定せずに実行した送信数")
+                .tag("outcome", "bypassed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 冪等性キー単位で一度だけ処理を実行する
+     *
+     * @param scope 重複判定のスコープ（JWTトークンなど）
+     * @param idempotencyKey 冪等性キー
+     * @param action 実行する処理
+     * @return 処理結果（重複の場合は最初の実行結果）
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String idempotencyKey, Supplier<T> action) {
+        String cacheKey = scope + ":" + idempotencyKey;
+        long now = System.nanoTime();
+
+        if (entries.size() >= maxEntries) {
+            evictExpired(now);
+            if (entries.size() >= maxEntries) {
+                logger.warn("Idempotency table is full ({} entries); executing without deduplication", maxEntries);
+                bypassedCounter.increment();
+                return action.get();
+            }
+        }
+
+        Entry created = new Entry(new CompletableFuture<>(), now + ttl.toNanos());
+        Entry entry = entries.compute(cacheKey,
+                (k, current) -> current != null && !current.isExpired(now) ? current : created);
+
+        if (entry != created) {
+            deduplicatedCounter.increment();
+            return (T) await(entry.result());
+        }
+
+        executedCounter.increment();
+        try {
+            T result = action.get();
+            entry.result().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            // 失敗は記録しない（同じキーでの再試行を許可する）
+            entries.remove(cacheKey, entry);
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 記録中の件数（テスト・監視用）
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long now) {
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+    }
+
+    private Object await(CompletableFuture<Object> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 実行結果と有効期限
+     */
+    private record Entry(CompletableFuture<Object> result, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.chirper.frontend.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * ログイン失敗回数によるブルートフォース対策
+ *
+ * 直近のウィンドウ内の認証失敗回数をユーザー名ごと・接続元アドレスごとに数え、
+ * どちらかが上限に達している間はBackendへ問い合わせずにログインを拒否する。
+ *
+ * 試行は判定時に1回分を先に加算して予約し、認証に成功した場合やBackendの障害で認証できなかった場合は
+ * release で取り消す。Backendの応答を待っている試行も数えるため、同時に大量の試行を送っても上限を超えない。
+ *
+ * ユーザー名はキーごとに正確に数える（SlidingWindowCounter）。多数のユーザー名に失敗を分散させても
+ * 他のユーザー名の件数は増えないため、無関係なユーザーが巻き添えで拒否されることはない。
+ * 保持するユーザー名の数には上限があり、超えた場合は最も長くアクセスされていないものから忘れる。
+ * 接続元アドレスは Count-Min Sketch で数え、アドレスの数が増えても使用メモリは一定。
+ * 推定値は実際より大きくなる側にしかずれないため、衝突した場合も制限が甘くなることはない。
+ */
+@Component
+public class LoginAttemptThrottler {
+
+    private static final String METRIC_NAME = "chirper.login.attempts";
+    private static final int ADDRESS_SKETCH_DEPTH = 4;
+
+    private final SlidingWindowCounter usernameFailures;
+    private final SlidingWindowSketch addressFailures;
+    private final int maxUsernameFailures;
+    private final int maxAddressFailures;
+
+    private final Counter allowedCounter;
+    private final Counter failedCounter;
+    private final Counter throttledUsernameCounter;
+    private final Counter throttledAddressCounter;
+
+    @Autowired
+    public LoginAttemptThrottler(
+            MeterRegistry meterRegistry,
+            @Value("${chirper.login-throttle.window:15m}") Duration window,
+            @Value("${chirper.login-throttle.sub-windows:5}") int subWindows,
+            @Value("${chirper.login-throttle.width:4096}") int width,
+            @Value("${chirper.login-throttle.max-usernames:100000}") int maxUsernames,
+            @Value("${chirper.login-throttle.max-username-failures:10}") int maxUsernameFailures,
+            @Value("${chirper.login-throttle.max-address-failures:50}") int maxAddressFailures
+    ) {
+        this(meterRegistry, window, subWindows, width, maxUsernames, maxUsernameFailures, maxAddressFailures,
+                () -> System.nanoTime() / 1_000_000);
+    }
+
+    LoginAttemptThrottler(
+            MeterRegistry meterRegistry,
+            Duration window,
+            int subWindows,
+            int width,
+            int maxUsernames,
+            int maxUsernameFailures,
+            int maxAddressFailures,
+            LongSupplier clockMillis
+    ) {
+        long subWindowMillis = Math.max(1, window.toMillis() / subWindows);
+        this.usernameFailures = new SlidingWindowCounter(maxUsernames, subWindows, subWindowMillis, clockMillis);
+        this.addressFailures = new SlidingWindowSketch(ADDRESS_SKETCH_DEPTH, width, subWindows, subWindowMillis, clockMillis);
+        this.maxUsernameFailures = maxUsernameFailures;
+        this.maxAddressFailures = maxAddressFailures;
+        this.allowedCounter = counter(meterRegistry, "allowed", "上限に達しておらずBackendへ問い合わせたログイン試行数");
+        this.failedCounter = counter(meterRegistry, "failed", "認証に失敗したログイン試行数");
+        this.throttledUsernameCounter = counter(meterRegistry, "throttled_username", "ユーザー名の失敗回数で拒否したログイン試行数");
+        this.throttledAddressCounter = counter(meterRegistry, "throttled_address", "接続元アドレスの失敗回数で拒否したログイン試行数");
+    }
+
+    /**
+     * ログインを試行してよいか判定し、試行してよい場合は1回分を予約する
+     *
+     * 予約した試行は、認証に失敗した場合は recordFailure、それ以外の場合は release で必ず終える。
+     *
+     * @param username ユーザー名
+     * @param address 接続元アドレス
+     * @return 試行してよい場合true
+     */
+    public boolean tryAcquire(String username, String address) {
+        String usernameKey = normalize(username);
+        String addressKey = addressKey(address);
+        if (addressFailures.increment(addressKey) > maxAddressFailures) {
+            addressFailures.decrement(addressKey);
+            throttledAddressCounter.increment();
+            return false;
+        }
+        if (usernameFailures.increment(usernameKey) > maxUsernameFailures) {
+            usernameFailures.decrement(usernameKey);
+            addressFailures.decrement(addressKey);
+            throttledUsernameCounter.increment();
+            return false;
+        }
+        allowedCounter.increment();
+        return true;
+    }
+
+    /**
+     * 予約した試行を認証失敗として確定する
+     *
+     * @param username ユーザー名
+     * @param address 接続元アドレス
+     */
+    public void recordFailure(String username, String address) {
+        // 件数はtryAcquireで加算済み
+        failedCounter.increment();
+    }
+
+    /**
+     * 予約した試行を取り消す（認証に成功した場合、またはBackendの障害で認証できなかった場合）
+     *
+     * @param username ユーザー名
+     * @param address 接続元アドレス
+     */
+    public void release(String username, String address) {
+        usernameFailures.decrement(normalize(username));
+        addressFailures.decrement(addressKey(address));
+    }
+
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static String addressKey(String address) {
+        return address != null ? address : "";
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome, String description) {
+        return Counter.builder(METRIC_NAME)
+                .description(description)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
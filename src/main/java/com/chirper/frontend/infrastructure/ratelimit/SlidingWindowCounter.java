@@ -0,0 +1,192 @@
+package com.chirper.frontend.infrastructure.ratelimit;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * キーごとに正確に数える、保持するキー数に上限のあるスライディングウィンドウ件数カウンター
+ *
+ * SlidingWindowSketch と同じくウィンドウを subWindows 個の区間に分けて数えるが、
+ * キーごとに区間ごとの件数を持つため、他のキーの件数が混ざることはない。
+ * 件数の多いキーが増えても、実際に数えたキー以外の件数は増えない。
+ *
+ * 保持するキーはハッシュで分割したストライプごとにアクセス順のLRUで管理し、合計が maxKeys を
+ * 超えないよう最も長くアクセスされていないキーから忘れる。ウィンドウ内の件数がなくなったキーは
+ * 読み出しの際に削除する。
+ */
+public class SlidingWindowCounter {
+
+    private static final int STRIPES = 16;
+
+    private final int subWindows;
+    private final long subWindowMillis;
+    private final LongSupplier clockMillis;
+    private final Stripe[] stripes;
+
+    /**
+     * @param maxKeys 保持するキー数の上限
+     * @param subWindows ウィンドウの分割数
+     * @param subWindowMillis 1区間の長さ（ミリ秒）
+     * @param clockMillis 時刻（ミリ秒）
+     */
+    public SlidingWindowCounter(int maxKeys, int subWindows, long subWindowMillis, LongSupplier clockMillis) {
+        if (maxKeys < 1 || subWindows < 1 || subWindowMillis < 1) {
+            throw new IllegalArgumentException("maxKeys, subWindows and subWindowMillis must be positive");
+        }
+        this.subWindows = subWindows;
+        this.subWindowMillis = subWindowMillis;
+        this.clockMillis = clockMillis;
+        int keysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(keysPerStripe);
+        }
+    }
+
+    /**
+     * キーの件数を1加算し、加算後のウィンドウ内の件数を返す
+     */
+    public int increment(String key) {
+        long epoch = currentEpoch();
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Window window = stripe.windows.computeIfAbsent(key, k -> new Window(subWindows));
+            window.increment(epoch);
+            return window.count(epoch);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * キーの件数を1減算する（加算を取り消す場合に使う）
+     *
+     * ウィンドウ内で最も新しい件数のある区間から減らすため、0未満にはならない。
+     */
+    public void decrement(String key) {
+        long epoch = currentEpoch();
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Window window = stripe.windows.get(key);
+            if (window != null) {
+                window.decrement(epoch);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * キーのウィンドウ内の件数を返す
+     */
+    public int count(String key) {
+        long epoch = currentEpoch();
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Window window = stripe.windows.get(key);
+            if (window == null) {
+                return 0;
+            }
+            int count = window.count(epoch);
+            if (count == 0) {
+                stripe.windows.remove(key);
+            }
+            return count;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 保持しているキーの数（テスト・監視用）
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.windows.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    private long currentEpoch() {
+        return Math.floorDiv(clockMillis.getAsLong(), subWindowMillis);
+    }
+
+    /**
+     * ロックとアクセス順のLRUを持つストライプ
+     */
+    private static final class Stripe {
+
+        final ReentrantLock lock = new ReentrantLock();
+        final Map<String, Window> windows;
+
+        Stripe(int maxKeys) {
+            this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    /**
+     * 1つのキーの区間ごとの件数
+     */
+    private static final class Window {
+
+        final long[] epochs;
+        final int[] counts;
+
+        Window(int subWindows) {
+            this.epochs = new long[subWindows];
+            this.counts = new int[subWindows];
+            Arrays.fill(epochs, Long.MIN_VALUE);
+        }
+
+        void increment(long epoch) {
+            int slot = (int) Math.floorMod(epoch, (long) epochs.length);
+            if (epochs[slot] != epoch) {
+                epochs[slot] = epoch;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+        }
+
+        void decrement(long epoch) {
+            for (long e = epoch; e > epoch - epochs.length; e--) {
+                int slot = (int) Math.floorMod(e, (long) epochs.length);
+                if (epochs[slot] == e && counts[slot] > 0) {
+                    counts[slot]--;
+                    return;
+                }
+            }
+        }
+
+        int count(long epoch) {
+            int sum = 0;
+            for (int s = 0; s < epochs.length; s++) {
+                if (epochs[s] <= epoch && epochs[s] > epoch - epochs.length) {
+                    sum += counts[s];
+                }
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.chirper.frontend.infrastructure.ratelimit;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 固定メモリのスライディングウィンドウ件数カウンター（Count-Min Sketch）
+ *
+ * ウィンドウを subWindows 個の区間に分け、区間ごとに depth 行 × width 列のカウンターを持つ。
+ * キーは行ごとに異なるハッシュで列（シャード）を選んで加算し、推定値は行ごとの合計の最小値とする。
+ * 衝突によって推定値が実際より大きくなることはあっても小さくなることはない（区間の切り替え時を除く）。
+ * depth が1の場合はハッシュで選んだシャードの単純な合計になる。
+ *
+ * 区間が古くなったスロットは、最初にそこへ書き込んだスレッドが0に戻して再利用する。
+ * 0に戻している間に同じスロットへ加算された件数は失われることがある。
+ */
+public class SlidingWindowSketch {
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final int subWindows;
+    private final long subWindowMillis;
+    private final LongSupplier clockMillis;
+    private final long seed;
+
+    private final AtomicIntegerArray[] counters;
+    private final AtomicLongArray epochs;
+
+    /**
+     * @param depth ハッシュの行数
+     * @param width 1行あたりのカウンター数（2のべき乗に切り上げる）
+     * @param subWindows ウィンドウの分割数
+     * @param subWindowMillis 1区間の長さ（ミリ秒）
+     * @param clockMillis 時刻（ミリ秒）
+     */
+    public SlidingWindowSketch(int depth, int width, int subWindows, long subWindowMillis, LongSupplier clockMillis) {
+        if (depth < 1 || width < 1 || subWindows < 1 || subWindowMillis < 1) {
+            throw new IllegalArgumentException("depth, width, subWindows and subWindowMillis must be positive");
+        }
+        int roundedWidth = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+        this.depth = depth;
+        this.width = roundedWidth;
+        this.mask = roundedWidth - 1;
+        this.subWindows = subWindows;
+        this.subWindowMillis = subWindowMillis;
+        this.clockMillis = clockMillis;
+        // ハッシュを外部から狙って衝突させられないよう、プロセスごとにシードを変える
+        this.seed = ThreadLocalRandom.current().nextLong();
+        this.counters = new AtomicIntegerArray[subWindows];
+        for (int i = 0; i < subWindows; i++) {
+            counters[i] = new AtomicIntegerArray(depth * roundedWidth);
+        }
+        this.epochs = new AtomicLongArray(subWindows);
+        for (int i = 0; i < subWindows; i++) {
+            epochs.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * キーの件数を1加算し、加算後のウィンドウ内の推定件数を返す
+     */
+    public int increment(String key) {
+        long epoch = currentEpoch();
+        int slot = (int) Math.floorMod(epoch, (long) subWindows);
+        rotate(slot, epoch);
+
+        long hash = hash(key);
+        AtomicIntegerArray row = counters[slot];
+        for (int d = 0; d < depth; d++) {
+            row.incrementAndGet(index(hash, d));
+        }
+        return estimate(hash, epoch);
+    }
+
+    /**
+     * キーの件数を1減算する（加算を取り消す場合に使う）
+     *
+     * 行ごとにウィンドウ内で最も新しい正のカウンターから減らすため、0未満にはならない。
+     */
+    public void decrement(String key) {
+        long epoch = currentEpoch();
+        long hash = hash(key);
+        for (int d = 0; d < depth; d++) {
+            int index = index(hash, d);
+            for (long e = epoch; e > epoch - subWindows; e--) {
+                int slot = (int) Math.floorMod(e, (long) subWindows);
+                if (epochs.get(slot) == e && decrementIfPositive(counters[slot], index)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * キーのウィンドウ内の推定件数を返す
+     */
+    public int estimate(String key) {
+        return estimate(hash(key), currentEpoch());
+    }
+
+    /**
+     * 使用しているカウンターの総数（テスト・監視用）
+     */
+    int counterCount() {
+        return subWindows * depth * width;
+    }
+
+    private int estimate(long hash, long epoch) {
+        int min = Integer.MAX_VALUE;
+        for (int d = 0; d < depth; d++) {
+            int index = index(hash, d);
+            int sum = 0;
+            for (int s = 0; s < subWindows; s++) {
+                long slotEpoch = epochs.get(s);
+                if (slotEpoch <= epoch && slotEpoch > epoch - subWindows) {
+                    sum += counters[s].get(index);
+                }
+            }
+            min = Math.min(min, sum);
+        }
+        return min;
+    }
+
+    private static boolean decrementIfPositive(AtomicIntegerArray row, int index) {
+        int current;
+        do {
+            current = row.get(index);
+            if (current <= 0) {
+                return false;
+            }
+        } while (!row.compareAndSet(index, current, current - 1));
+        return true;
+    }
+
+    private void rotate(int slot, long epoch) {
+        long current = epochs.get(slot);
+        if (current < epoch && epochs.compareAndSet(slot, current, epoch)) {
+            AtomicIntegerArray row = counters[slot];
+            for (int i = 0; i < row.length(); i++) {
+                row.set(i, 0);
+            }
+        }
+    }
+
+    private long currentEpoch() {
+        return Math.floorDiv(clockMillis.getAsLong(), subWindowMillis);
+    }
+
+    private int index(long hash, int d) {
+        // 2つのハッシュの線形結合で行ごとの列を作る（Kirsch-Mitzenmacher）
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return d * width + ((h1 + d * h2) & mask);
+    }
+
+    private long hash(String key) {
+        long h = seed;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,117 @@
+package com.chirper.frontend.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * ロックフリーのトークンバケット
+ *
+ * キー（ユーザーIDなど）のハッシュで固定長の AtomicLongArray のスロットを選び、
+ * 1スロットの状態（残りトークン数と最終補充時刻）を1つのlongに詰めてCASで更新する。
+ * キーの数に関係なく使用メモリは slots × 8バイトで一定。
+ * 異なるキーが同じスロットを共有した場合はバケットも共有される（制限が厳しくなる側にのみ誤差が出る）。
+ *
+ * トークン数は1/1000単位で保持し、補充間隔がミリ秒単位で割り切れない場合も誤差を小さくする。
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int TIME_BITS = 42;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final long MILLI = 1000;
+
+    /**
+     * 詰め込める残りトークン数の上限（22ビット、1/1000単位）
+     */
+    static final int MAX_CAPACITY = (int) (((1L << (Long.SIZE - TIME_BITS)) - 1) / MILLI);
+
+    private final AtomicLongArray buckets;
+    private final int mask;
+    private final long capacityMilli;
+    private final long refillPeriodMillis;
+    private final LongSupplier clockMillis;
+    private final long epochMillis;
+
+    /**
+     * @param capacity バーストで許可する回数（バケットの容量）
+     * @param refillPeriodMillis トークン1つを補充する間隔（ミリ秒）
+     * @param slots スロット数（2のべき乗に切り上げる）
+     * @param clockMillis 単調増加する時刻（ミリ秒）
+     */
+    public TokenBucketRateLimiter(int capacity, long refillPeriodMillis, int slots, LongSupplier clockMillis) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        if (refillPeriodMillis < 1) {
+            throw new IllegalArgumentException("refillPeriodMillis must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.buckets = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.capacityMilli = capacity * MILLI;
+        this.refillPeriodMillis = refillPeriodMillis;
+        this.clockMillis = clockMillis;
+        // 時刻0のスロット状態（0）は未使用を表すため、経過時間は1から数える
+        this.epochMillis = clockMillis.getAsLong() - 1;
+    }
+
+    /**
+     * 単調時計（System.nanoTime）を使うリミッターを生成
+     */
+    public TokenBucketRateLimiter(int capacity, long refillPeriodMillis, int slots) {
+        this(capacity, refillPeriodMillis, slots, () -> System.nanoTime() / 1_000_000);
+    }
+
+    /**
+     * キーのバケットからトークンを1つ取得する
+     *
+     * @param key 制限の単位となるキー
+     * @return 許可した場合は0、拒否した場合は次のトークンが補充されるまでのミリ秒
+     */
+    public long tryAcquire(String key) {
+        int index = indexFor(key);
+        while (true) {
+            long now = (clockMillis.getAsLong() - epochMillis) & TIME_MASK;
+            long state = buckets.get(index);
+
+            long tokens;
+            long last;
+            if (state == 0) {
+                tokens = capacityMilli;
+                last = now;
+            } else {
+                tokens = state >>> TIME_BITS;
+                last = state & TIME_MASK;
+                long elapsed = now - last;
+                if (elapsed > 0) {
+                    long refill = elapsed * MILLI / refillPeriodMillis;
+                    if (refill > 0) {
+                        tokens = Math.min(capacityMilli, tokens + refill);
+                        last = now;
+                    }
+                }
+            }
+
+            if (tokens < MILLI) {
+                long missing = MILLI - tokens;
+                return Math.max(1, (missing * refillPeriodMillis + MILLI - 1) / MILLI);
+            }
+
+            long next = ((tokens - MILLI) << TIME_BITS) | last;
+            if (buckets.compareAndSet(index, state, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * スロット数（テスト・監視用）
+     */
+    int slots() {
+        return buckets.length();
+    }
+
+    private int indexFor(String key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,146 @@
+package com.chirper.frontend.infrastructure.ratelimit;
+
+import com.chirper.frontend.infrastructure.session.JwtSessionManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 書き込み操作（投稿・削除・フォロー・いいねなど）のレート制限を行うインターセプター
+ *
+ * 操作ごとのトークンバケットをユーザーID（未ログインの場合は接続元アドレス）で引き、
+ * 上限を超えたリクエストはコントローラー・ユースケースを実行せずに429で返す。
+ * /api/** にはJSON、フォーム送信による画面遷移にはHTMLの429ページを返す。
+ * どちらの本文も組み立て済みのバイト列をそのまま書き込む（HTMLは初回のみ描画してキャッシュしたもの）。
+ */
+public class WriteRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String METRIC_NAME = "chirper.ratelimit.requests";
+
+    private static final byte[] API_BODY =
+            "{\"code\":\"RATE_LIMITED\",\"message\":\"操作が多すぎます。しばらく待ってから再度お試しください\",\"details\":[]}"
+                    .getBytes(StandardCharsets.UTF_8);
+    private static final MediaType PAGE_CONTENT_TYPE = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    private final JwtSessionManager sessionManager;
+    private final Supplier<byte[]> pageBody;
+    private final List<CompiledRule> rules;
+
+    /**
+     * @param sessionManager セッション管理（ユーザーIDの取得に使う）
+     * @param rules レート制限のルール
+     * @param pageBody 画面遷移のリクエストに返す429ページの本文（描画済みのHTML）
+     * @param meterRegistry メトリクスの登録先
+     */
+    public WriteRateLimitInterceptor(
+            JwtSessionManager sessionManager,
+            List<Rule> rules,
+            Supplier<byte[]> pageBody,
+            MeterRegistry meterRegistry
+    ) {
+        this.sessionManager = sessionManager;
+        this.pageBody = pageBody;
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.rules = rules.stream()
+                .map(rule -> new CompiledRule(
+                        rule,
+                        parser.parse(rule.pathPattern()),
+                        Counter.builder(METRIC_NAME)
+                                .description("レート制限を通過した書き込みリクエスト数")
+                                .tag("action", rule.action())
+                                .tag("outcome", "allowed")
+                                .register(meterRegistry),
+                        Counter.builder(METRIC_NAME)
+                                .description("レート制限で拒否した書き込みリクエスト数")
+                                .tag("action", rule.action())
+                                .tag("outcome", "rejected")
+                                .register(meterRegistry)))
+                .toList();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        CompiledRule rule = findRule(request);
+        if (rule == null) {
+            return true;
+        }
+
+        long waitMillis = rule.rule().limiter().tryAcquire(rule.rule().action() + ':' + clientKey(request));
+        if (waitMillis == 0) {
+            rule.allowed().increment();
+            return true;
+        }
+
+        rule.rejected().increment();
+        reject(request, response, waitMillis);
+        return false;
+    }
+
+    private CompiledRule findRule(HttpServletRequest request) {
+        String method = request.getMethod();
+        PathContainer path = null;
+        for (CompiledRule rule : rules) {
+            if (!rule.rule().methods().contains(method)) {
+                continue;
+            }
+            if (path == null) {
+                path = PathContainer.parsePath(
+                        request.getRequestURI().substring(request.getContextPath().length()));
+            }
+            if (rule.pattern().matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 制限の単位となるキー（ログイン中はユーザーID、未ログインの場合は接続元アドレス）
+     */
+    private String clientKey(HttpServletRequest request) {
+        String userId = sessionManager.getUserId(request);
+        return userId != null ? "u:" + userId : "a:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitMillis)
+            throws IOException {
+        boolean api = request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+        byte[] body = api ? API_BODY : pageBody.get();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString((waitMillis + 999) / 1000));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setContentType(api ? MediaType.APPLICATION_JSON_VALUE : PAGE_CONTENT_TYPE.toString());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * レート制限のルール
+     *
+     * @param action 操作名（メトリクスのタグ、バケットのキーの接頭辞）
+     * @param methods 対象のHTTPメソッド
+     * @param pathPattern 対象のパス（PathPattern）
+     * @param limiter この操作のトークンバケット
+     */
+    public record Rule(String action, Set<String> methods, String pathPattern, TokenBucketRateLimiter limiter) {
+    }
+
+    private record CompiledRule(Rule rule, PathPattern pattern, Counter allowed, Counter rejected) {
+    }
+}
@@ -7,7 +7,9 @@ import com.chirper.frontend.application.dto.TimelineDto;
 import com.chirper.frontend.application.dto.TweetDto;
 import com.chirper.frontend.application.dto.UserProfileDto;
 import com.chirper.frontend.domain.repository.IBackendApiRepository;
+import com.chirper.frontend.domain.valueobject.FieldProjection;
 import com.chirper.frontend.infrastructure.client.BackendApiClient;
+import com.chirper.frontend.infrastructure.client.LikeWriteCoalescer;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -17,9 +19,11 @@ import org.springframework.stereotype.Repository;
 public class BackendApiRepositoryImpl implements IBackendApiRepository {
 
     private final BackendApiClient apiClient;
+    private final LikeWriteCoalescer likeWriteCoalescer;
 
-    public BackendApiRepositoryImpl(BackendApiClient apiClient) {
+    public BackendApiRepositoryImpl(BackendApiClient apiClient, LikeWriteCoalescer likeWriteCoalescer) {
         this.apiClient = apiClient;
+        this.likeWriteCoalescer = likeWriteCoalescer;
     }
 
     @Override
@@ -34,14 +38,27 @@ public class BackendApiRepositoryImpl implements IBackendApiRepository {
 
     @Override
     public TimelineDto getTimeline(String jwtToken, int page, int size) {
+        // 保留中のいいね操作を先に送信し、自分の操作が反映された状態で取得する
+        likeWriteCoalescer.flush(jwtToken);
         return apiClient.getTimeline(jwtToken, page, size);
     }
 
+    @Override
+    public TimelineDto getTimeline(String jwtToken, int page, int size, FieldProjection fields) {
+        likeWriteCoalescer.flush(jwtToken);
+        return apiClient.getTimeline(jwtToken, page, size, fields);
+    }
+
     @Override
     public TweetDto createTweet(String jwtToken, String content) {
         return apiClient.createTweet(jwtToken, content);
     }
 
+    @Override
+    public TweetDto createTweet(String jwtToken, String content, String idempotencyKey) {
+        return apiClient.createTweet(jwtToken, content, idempotencyKey);
+    }
+
     @Override
     public TweetDto getTweet(String tweetId) {
         return apiClient.getTweet(tweetId);
@@ -57,6 +74,11 @@ public class BackendApiRepositoryImpl implements IBackendApiRepository {
         return apiClient.getUserProfile(username);
     }
 
+    @Override
+    public UserProfileDto getUserProfile(String username, FieldProjection fields) {
+        return apiClient.getUserProfile(username, fields);
+    }
+
     @Override
     public UserProfileDto updateProfile(String jwtToken, String displayName, String bio, String avatarUrl) {
         return apiClient.updateProfile(jwtToken, displayName, bio, avatarUrl);
@@ -74,12 +96,13 @@ public class BackendApiRepositoryImpl implements IBackendApiRepository {
 
     @Override
     public void likeTweet(String jwtToken, String tweetId) {
-        apiClient.likeTweet(jwtToken, tweetId);
+        // Backendへの送信は待たない（送信の失敗はLikeWriteCoalescerがメトリクスとログに残す）
+        likeWriteCoalescer.submit(jwtToken, tweetId, true);
     }
 
     @Override
     public void unlikeTweet(String jwtToken, String tweetId) {
-        apiClient.unlikeTweet(jwtToken, tweetId);
+        likeWriteCoalescer.submit(jwtToken, tweetId, false);
     }
 
     @Override
@@ -92,8 +115,18 @@ public class BackendApiRepositoryImpl implements IBackendApiRepository {
         return apiClient.getFollowers(jwtToken, username, page, size);
     }
 
+    @Override
+    public FollowListDto getFollowers(String jwtToken, String username, int page, int size, FieldProjection fields) {
+        return apiClient.getFollowers(jwtToken, username, page, size, fields);
+    }
+
     @Override
     public FollowListDto getFollowing(String jwtToken, String username, int page, int size) {
         return apiClient.getFollowing(jwtToken, username, page, size);
     }
+
+    @Override
+    public FollowListDto getFollowing(String jwtToken, String username, int page, int size, FieldProjection fields) {
+        return apiClient.getFollowing(jwtToken, username, page, size, fields);
+    }
 }
@@ -3,115 +3,132 @@ package com.chirper.frontend.infrastructure.service;
 import com.chirper.frontend.domain.service.IClientValidationService;
 import com.chirper.frontend.domain.valueobject.FieldError;
 import com.chirper.frontend.domain.valueobject.TweetContent;
+import com.chirper.frontend.domain.valueobject.TweetLengthRules;
 import com.chirper.frontend.domain.valueobject.ValidationResult;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * クライアント側バリデーションサービス実装
+ *
+ * 入力が正しい場合は何も割り当てない（共有の {@link ValidationResult#valid()} を返す）。
+ * エラーリストは最初のエラーが見つかった時点で作り、文字種の検査は正規表現を使わず1文字ずつ走査する。
  */
 @Service
 public class ClientValidationService implements IClientValidationService {
 
-    private static final Pattern USERNAME_PATTERN = Pattern.compile("^[a-zA-Z0-9_]{3,20}$");
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$");
+    private static final int MIN_USERNAME_LENGTH = 3;
+    private static final int MAX_USERNAME_LENGTH = 20;
     private static final int MIN_PASSWORD_LENGTH = 8;
+    private static final int MAX_DISPLAY_NAME_LENGTH = 50;
     private static final int MAX_BIO_LENGTH = 160;
 
+    private static final FieldError USERNAME_REQUIRED =
+            new FieldError("username", "ユーザー名は必須です");
+    private static final FieldError USERNAME_TOO_SHORT =
+            new FieldError("username", "ユーザー名は3文字以上である必要があります");
+    private static final FieldError USERNAME_TOO_LONG =
+            new FieldError("username", "ユーザー名は20文字以下である必要があります");
+    private static final FieldError USERNAME_INVALID_CHARS =
+            new FieldError("username", "ユーザー名は英数字とアンダースコアのみ使用できます");
+    private static final FieldError EMAIL_REQUIRED =
+            new FieldError("email", "メールアドレスは必須です");
+    private static final FieldError EMAIL_INVALID =
+            new FieldError("email", "有効なメールアドレスを入力してください");
+    private static final FieldError PASSWORD_REQUIRED =
+            new FieldError("password", "パスワードは必須です");
+    private static final FieldError PASSWORD_TOO_SHORT =
+            new FieldError("password", String.format("パスワードは%d文字以上である必要があります", MIN_PASSWORD_LENGTH));
+    private static final FieldError PASSWORD_MISMATCH =
+            new FieldError("passwordConfirm", "パスワードが一致しません");
+    private static final FieldError CONTENT_REQUIRED =
+            new FieldError("content", "ツイート内容は必須です");
+    private static final FieldError CONTENT_TOO_LONG =
+            new FieldError("content", String.format("ツイートは%d文字以内である必要があります", TweetContent.MAX_LENGTH));
+    private static final FieldError DISPLAY_NAME_TOO_LONG =
+            new FieldError("displayName", String.format("表示名は%d文字以下である必要があります", MAX_DISPLAY_NAME_LENGTH));
+    private static final FieldError BIO_TOO_LONG =
+            new FieldError("bio", String.format("自己紹介は%d文字以下である必要があります", MAX_BIO_LENGTH));
+    private static final FieldError AVATAR_URL_INVALID =
+            new FieldError("avatarUrl", "有効なURLを入力してください");
+
     @Override
     public ValidationResult validateLoginForm(String username, String password) {
-        List<FieldError> errors = new ArrayList<>();
-
-        errors.addAll(validateUsernameField(username));
-        errors.addAll(validatePasswordField(password));
+        List<FieldError> errors = validateUsernameField(username, null);
+        errors = validatePasswordField(password, errors);
 
-        return errors.isEmpty() ? ValidationResult.valid() : ValidationResult.invalid(errors);
+        return result(errors);
     }
 
     @Override
     public ValidationResult validateRegistrationForm(String username, String email, String password, String passwordConfirm) {
-        List<FieldError> errors = new ArrayList<>();
-
-        errors.addAll(validateUsernameField(username));
-        errors.addAll(validateEmailField(email));
-        errors.addAll(validatePasswordField(password));
+        List<FieldError> errors = validateUsernameField(username, null);
+        errors = validateEmailField(email, errors);
+        errors = validatePasswordField(password, errors);
 
         if (password != null && !password.equals(passwordConfirm)) {
-            errors.add(new FieldError("passwordConfirm", "パスワードが一致しません"));
+            errors = add(errors, PASSWORD_MISMATCH);
         }
 
-        return errors.isEmpty() ? ValidationResult.valid() : ValidationResult.invalid(errors);
+        return result(errors);
     }
 
     @Override
     public ValidationResult validateTweetForm(String content) {
-        List<FieldError> errors = new ArrayList<>();
-
         if (content == null || content.isBlank()) {
-            errors.add(new FieldError("content", "ツイート内容は必須です"));
-            return ValidationResult.invalid(errors);
+            return ValidationResult.invalid(List.of(CONTENT_REQUIRED));
         }
 
-        try {
-            TweetContent tweetContent = new TweetContent(content);
-            // TweetContentの内部バリデーションは既に完了している
-        } catch (IllegalArgumentException e) {
-            errors.add(new FieldError("content", e.getMessage()));
+        // 長さだけを検査する（メンション・ハッシュタグ・URLの抽出は表示時に行う）
+        if (!TweetLengthRules.DEFAULT.isWithinLimit(content)) {
+            return ValidationResult.invalid(List.of(CONTENT_TOO_LONG));
         }
 
-        return errors.isEmpty() ? ValidationResult.valid() : ValidationResult.invalid(errors);
+        return ValidationResult.valid();
     }
 
     @Override
     public ValidationResult validateProfileEditForm(String displayName, String bio, String avatarUrl) {
-        List<FieldError> errors = new ArrayList<>();
+        List<FieldError> errors = null;
 
-        if (displayName != null && !displayName.isBlank()) {
-            if (displayName.length() > 50) {
-                errors.add(new FieldError("displayName", "表示名は50文字以下である必要があります"));
-            }
+        if (displayName != null && displayName.length() > MAX_DISPLAY_NAME_LENGTH && !displayName.isBlank()) {
+            errors = add(errors, DISPLAY_NAME_TOO_LONG);
         }
 
-        if (bio != null && !bio.isBlank()) {
-            if (bio.length() > MAX_BIO_LENGTH) {
-                errors.add(new FieldError("bio",
-                        String.format("自己紹介は%d文字以下である必要があります", MAX_BIO_LENGTH)));
-            }
+        if (bio != null && bio.length() > MAX_BIO_LENGTH && !bio.isBlank()) {
+            errors = add(errors, BIO_TOO_LONG);
         }
 
         if (avatarUrl != null && !avatarUrl.isBlank()) {
             if (!avatarUrl.startsWith("http://") && !avatarUrl.startsWith("https://")) {
-                errors.add(new FieldError("avatarUrl", "有効なURLを入力してください"));
+                errors = add(errors, AVATAR_URL_INVALID);
             }
         }
 
-        return errors.isEmpty() ? ValidationResult.valid() : ValidationResult.invalid(errors);
+        return result(errors);
     }
 
     /**
      * ユーザー名フィールドのバリデーション
+     *
+     * 長さのエラーがある場合も、使用できない文字が含まれていればあわせて報告する。
      */
-    private List<FieldError> validateUsernameField(String username) {
-        List<FieldError> errors = new ArrayList<>();
-
+    private List<FieldError> validateUsernameField(String username, List<FieldError> errors) {
         if (username == null || username.isBlank()) {
-            errors.add(new FieldError("username", "ユーザー名は必須です"));
-            return errors;
-        }
-
-        if (username.length() < 3) {
-            errors.add(new FieldError("username", "ユーザー名は3文字以上である必要があります"));
+            return add(errors, USERNAME_REQUIRED);
         }
 
-        if (username.length() > 20) {
-            errors.add(new FieldError("username", "ユーザー名は20文字以下である必要があります"));
+        int length = username.length();
+        if (length < MIN_USERNAME_LENGTH) {
+            errors = add(errors, USERNAME_TOO_SHORT);
+        } else if (length > MAX_USERNAME_LENGTH) {
+            errors = add(errors, USERNAME_TOO_LONG);
         }
 
-        if (!USERNAME_PATTERN.matcher(username).matches()) {
-            errors.add(new FieldError("username", "ユーザー名は英数字とアンダースコアのみ使用できます"));
+        if (!isUsernameChars(username)) {
+            errors = add(errors, USERNAME_INVALID_CHARS);
         }
 
         return errors;
@@ -120,16 +137,13 @@ public class ClientValidationService implements IClientValidationService {
     /**
      * メールアドレスフィールドのバリデーション
      */
-    private List<FieldError> validateEmailField(String email) {
-        List<FieldError> errors = new ArrayList<>();
-
+    private List<FieldError> validateEmailField(String email, List<FieldError> errors) {
         if (email == null || email.isBlank()) {
-            errors.add(new FieldError("email", "メールアドレスは必須です"));
-            return errors;
+            return add(errors, EMAIL_REQUIRED);
         }
 
-        if (!EMAIL_PATTERN.matcher(email).matches()) {
-            errors.add(new FieldError("email", "有効なメールアドレスを入力してください"));
+        if (!isEmail(email)) {
+            errors = add(errors, EMAIL_INVALID);
         }
 
         return errors;
@@ -138,19 +152,66 @@ public class ClientValidationService implements IClientValidationService {
     /**
      * パスワードフィールドのバリデーション
      */
-    private List<FieldError> validatePasswordField(String password) {
-        List<FieldError> errors = new ArrayList<>();
-
+    private List<FieldError> validatePasswordField(String password, List<FieldError> errors) {
         if (password == null || password.isEmpty()) {
-            errors.add(new FieldError("password", "パスワードは必須です"));
-            return errors;
+            return add(errors, PASSWORD_REQUIRED);
         }
 
         if (password.length() < MIN_PASSWORD_LENGTH) {
-            errors.add(new FieldError("password",
-                    String.format("パスワードは%d文字以上である必要があります", MIN_PASSWORD_LENGTH)));
+            errors = add(errors, PASSWORD_TOO_SHORT);
         }
 
         return errors;
     }
+
+    /**
+     * 英数字とアンダースコアのみで構成されているか
+     */
+    static boolean isUsernameChars(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!isAsciiAlphanumeric(value.charAt(i)) && value.charAt(i) != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 「ローカル部@ドメイン」の形式か
+     *
+     * ローカル部は英数字と + _ . -、ドメインは英数字と . - のみで、どちらも1文字以上。
+     */
+    static boolean isEmail(String value) {
+        int at = -1;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                if (at >= 0 || i == 0) {
+                    return false;
+                }
+                at = i;
+            } else if (!isAsciiAlphanumeric(c) && c != '.' && c != '-'
+                    && (at >= 0 || (c != '+' && c != '_'))) {
+                return false;
+            }
+        }
+        return at > 0 && at < value.length() - 1;
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * エラーを追加する（リストは最初のエラーで作成する）
+     */
+    private static List<FieldError> add(List<FieldError> errors, FieldError error) {
+        List<FieldError> list = errors != null ? errors : new ArrayList<>(4);
+        list.add(error);
+        return list;
+    }
+
+    private static ValidationResult result(List<FieldError> errors) {
+        return errors == null ? ValidationResult.valid() : ValidationResult.invalid(errors);
+    }
 }
@@ -6,24 +6,38 @@ import com.chirper.frontend.domain.model.TimelineViewModel;
 import com.chirper.frontend.domain.model.TweetViewModel;
 import com.chirper.frontend.domain.valueobject.DisplayTimestamp;
 import com.chirper.frontend.domain.valueobject.TweetContent;
+import com.chirper.frontend.domain.valueobject.UserIdentity;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * タイムラインフォーマットサービス実装
+ *
+ * 同じページ内の同じ投稿者のツイートは1つの {@link UserIdentity} を共有する。
  */
 @Service
 public class TimelineFormattingService implements ITimelineFormattingService {
 
     @Override
     public TimelineViewModel formatTimeline(List<TweetDto> tweets, int currentPage, int totalPages) {
-        List<TweetViewModel> viewModels = tweets.stream()
-                .map(this::convertToViewModel)
-                .toList();
+        if (tweets.isEmpty()) {
+            return new TimelineViewModel(List.of(), currentPage, totalPages);
+        }
+
+        Map<String, UserIdentity> authors = new HashMap<>();
+        List<TweetViewModel> viewModels = new ArrayList<>(tweets.size());
+        for (TweetDto tweet : tweets) {
+            viewModels.add(convertToViewModel(tweet, authors));
+        }
 
         return new TimelineViewModel(
-                viewModels,
+                Collections.unmodifiableList(viewModels),
                 currentPage,
                 totalPages
         );
@@ -31,19 +45,22 @@ public class TimelineFormattingService implements ITimelineFormattingService {
 
     /**
      * TweetDtoをTweetViewModelに変換
+     *
+     * @param authors このページで作成済みの投稿者（ユーザーIDごと）
      */
-    private TweetViewModel convertToViewModel(TweetDto dto) {
-        TweetContent content = new TweetContent(dto.content());
-        DisplayTimestamp timestamp = new DisplayTimestamp(dto.createdAt());
+    private TweetViewModel convertToViewModel(TweetDto dto, Map<String, UserIdentity> authors) {
+        UserIdentity author = authors.get(dto.userId());
+        if (author == null || !Objects.equals(author.getUsername(), dto.username())) {
+            // displayName は現在ユーザー名と同じ、avatarUrl はDTOにないため未設定
+            author = new UserIdentity(dto.userId(), dto.username(), null, null);
+            authors.put(dto.userId(), author);
+        }
 
         return new TweetViewModel(
                 dto.tweetId(),
-                dto.userId(),
-                dto.username(),
-                dto.username(), // displayName (currently same as username)
-                null, // avatarUrl (not available in DTO)
-                content,
-                timestamp,
+                author,
+                TweetContent.ofPublished(dto.content()),
+                new DisplayTimestamp(dto.createdAt()),
                 dto.likeCount(),
                 dto.retweetCount(),
                 dto.likedByCurrentUser(),
@@ -0,0 +1,150 @@
+package com.chirper.frontend.infrastructure.session;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 専用Cookieのキーでセッションデータを保存するストアの基底クラス
+ *
+ * HttpSessionには何も保存しないため、セッションのレプリケーションや永続化の対象にならず、
+ * サーバー再起動でHttpSessionが失われてもCookieのキーでデータを引き継げる。
+ * データは {@link SessionDataCodec} でエンコードしたバイト列として保存する。
+ * ログインのたびにキーを再発行し、古いキーのデータは削除する（セッション固定攻撃対策）。
+ * ログアウト時は、CSRFトークンやフラッシュ属性を次の利用者へ残さないよう、HttpSessionも無効化する。
+ */
+public abstract class CookieKeyedSessionStore implements SessionStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(CookieKeyedSessionStore.class);
+
+    public static final String DEFAULT_COOKIE_NAME = "CHIRPER_SESSION";
+
+    private static final String REISSUED_KEY_ATTRIBUTE = CookieKeyedSessionStore.class.getName() + ".KEY";
+
+    private static final int KEY_BYTES = 24;
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_-]{32}");
+
+    private final SecureRandom random = new SecureRandom();
+    private final String cookieName;
+    private final boolean secureCookie;
+
+    protected CookieKeyedSessionStore(String cookieName, boolean secureCookie) {
+        this.cookieName = cookieName;
+        this.secureCookie = secureCookie;
+    }
+
+    @Override
+    public SessionData load(HttpServletRequest request) {
+        String key = currentKey(request);
+        if (key == null) {
+            return SessionData.EMPTY;
+        }
+        byte[] bytes = read(key);
+        if (bytes == null) {
+            return SessionData.EMPTY;
+        }
+        try {
+            return SessionDataCodec.decode(bytes);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Discarding unreadable session data: {}", e.getMessage());
+            delete(key);
+            return SessionData.EMPTY;
+        }
+    }
+
+    @Override
+    public void save(HttpServletRequest request, SessionData data) {
+        String previousKey = currentKey(request);
+        String key = newKey();
+        write(key, SessionDataCodec.encode(data));
+        if (previousKey != null) {
+            delete(previousKey);
+        }
+        addCookie(request, key, null);
+    }
+
+    @Override
+    public void clear(HttpServletRequest request) {
+        String key = currentKey(request);
+        if (key != null) {
+            delete(key);
+            addCookie(request, "", Duration.ZERO);
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+    }
+
+    /**
+     * キーに対応するバイト列を読み込む（存在しない・期限切れの場合はnull）
+     */
+    protected abstract byte[] read(String key);
+
+    /**
+     * キーに対応するバイト列を書き込む
+     */
+    protected abstract void write(String key, byte[] bytes);
+
+    /**
+     * キーに対応するデータを削除する
+     */
+    protected abstract void delete(String key);
+
+    /**
+     * リクエストのセッションキー（同一リクエスト内で再発行済みの場合はそのキー）
+     */
+    private String currentKey(HttpServletRequest request) {
+        if (request.getAttribute(REISSUED_KEY_ATTRIBUTE) instanceof String reissued) {
+            return reissued.isEmpty() ? null : reissued;
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName()) && KEY_PATTERN.matcher(cookie.getValue()).matches()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private String newKey() {
+        byte[] bytes = new byte[KEY_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private void addCookie(HttpServletRequest request, String value, Duration maxAge) {
+        // 同じリクエスト内の以降の参照では新しいキーを使う
+        request.setAttribute(REISSUED_KEY_ATTRIBUTE, value);
+
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)
+                || attributes.getResponse() == null) {
+            throw new IllegalStateException("Session cookie can only be written within a web request");
+        }
+        HttpServletResponse response = attributes.getResponse();
+        ResponseCookie.ResponseCookieBuilder cookie = ResponseCookie.from(cookieName, value)
+                .path(request.getContextPath().isEmpty() ? "/" : request.getContextPath())
+                .httpOnly(true)
+                .secure(secureCookie)
+                .sameSite("Strict");
+        if (maxAge != null) {
+            cookie.maxAge(maxAge);
+        }
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.build().toString());
+    }
+}
@@ -0,0 +1,150 @@
+package com.chirper.frontend.infrastructure.session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ファイルに保存するセッションストア
+ *
+ * セッションごとに1ファイル（キー名）を作成し、再起動後もログイン状態を引き継げる。
+ * 書き込みは一時ファイルからのアトミックな移動で行い、途中で停止しても壊れたデータを残さない。
+ * 最終アクセスはファイルの更新日時で表し、読み込み時に一定間隔で更新する。
+ * 更新日時からtimeoutを過ぎたファイルは期限切れとして扱い、起動時と一定間隔で削除する。
+ */
+public class FileSessionStore extends CookieKeyedSessionStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSessionStore.class);
+
+    private static final String SUFFIX = ".session";
+
+    private final Path directory;
+    private final Duration timeout;
+    private final Duration touchInterval;
+    private final ScheduledExecutorService purger;
+
+    public FileSessionStore(
+            String cookieName,
+            boolean secureCookie,
+            Path directory,
+            Duration timeout,
+            Duration purgeInterval
+    ) {
+        super(cookieName, secureCookie);
+        this.directory = directory;
+        this.timeout = timeout;
+        // 読み込みのたびに更新日時を書き換えないよう、timeoutの1/4以上経過した場合のみ更新する
+        this.touchInterval = timeout.dividedBy(4);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create session directory: " + directory, e);
+        }
+
+        if (purgeInterval.isZero() || purgeInterval.isNegative()) {
+            this.purger = null;
+        } else {
+            this.purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "session-file-purger");
+                thread.setDaemon(true);
+                return thread;
+            });
+            purger.scheduleWithFixedDelay(this::purgeExpired, 0, purgeInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 期限切れファイルの定期削除を停止する
+     */
+    public void shutdown() {
+        if (purger != null) {
+            purger.shutdownNow();
+        }
+    }
+
+    @Override
+    protected byte[] read(String key) {
+        Path file = fileFor(key);
+        try {
+            Instant modified = Files.getLastModifiedTime(file).toInstant();
+            Instant now = Instant.now();
+            if (modified.plus(timeout).isBefore(now)) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            byte[] bytes = Files.readAllBytes(file);
+            if (modified.plus(touchInterval).isBefore(now)) {
+                Files.setLastModifiedTime(file, FileTime.from(now));
+            }
+            return bytes;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("Failed to read session file {}: {}", file.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    protected void write(String key, byte[] bytes) {
+        Path file = fileFor(key);
+        try {
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write session file", e);
+        }
+    }
+
+    @Override
+    protected void delete(String key) {
+        try {
+            Files.deleteIfExists(fileFor(key));
+        } catch (IOException e) {
+            logger.warn("Failed to delete session file: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 期限切れのセッションファイルを削除する
+     *
+     * @return 削除したファイル数
+     */
+    public int purgeExpired() {
+        Instant threshold = Instant.now().minus(timeout);
+        int purged = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold) && Files.deleteIfExists(file)) {
+                        purged++;
+                    }
+                } catch (IOException e) {
+                    logger.debug("Skipping session file {}: {}", file.getFileName(), e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to purge session files: {}", e.getMessage());
+        }
+        return purged;
+    }
+
+    private Path fileFor(String key) {
+        // キーはCookieKeyedSessionStoreで英数字・'-'・'_'のみに検証済み
+        return directory.resolve(key + SUFFIX);
+    }
+}
@@ -0,0 +1,46 @@
+package com.chirper.frontend.infrastructure.session;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * HttpSessionの属性に保存するセッションストア（デフォルト）
+ *
+ * 既存のセッションと互換性を保つため、属性はJWT_TOKEN / USER_ID / USERNAMEの3つに分けて保存する。
+ */
+public class HttpSessionStore implements SessionStore {
+
+    static final String JWT_TOKEN_ATTRIBUTE = "JWT_TOKEN";
+    static final String USER_ID_ATTRIBUTE = "USER_ID";
+    static final String USERNAME_ATTRIBUTE = "USERNAME";
+
+    @Override
+    public SessionData load(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return SessionData.EMPTY;
+        }
+        return new SessionData(
+                (String) session.getAttribute(JWT_TOKEN_ATTRIBUTE),
+                (String) session.getAttribute(USER_ID_ATTRIBUTE),
+                (String) session.getAttribute(USERNAME_ATTRIBUTE));
+    }
+
+    @Override
+    public void save(HttpServletRequest request, SessionData data) {
+        HttpSession session = request.getSession(true);
+        session.setAttribute(JWT_TOKEN_ATTRIBUTE, data.jwtToken());
+        session.setAttribute(USER_ID_ATTRIBUTE, data.userId());
+        if (data.username() != null) {
+            session.setAttribute(USERNAME_ATTRIBUTE, data.username());
+        }
+    }
+
+    @Override
+    public void clear(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+    }
+}
@@ -1,82 +1,74 @@
 package com.chirper.frontend.infrastructure.session;
 
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import org.springframework.stereotype.Component;
 
 /**
  * JWTセッション管理
+ *
+ * セッションデータの保存先は {@link SessionStore} に委譲する。
+ * データはリクエストごとに一度だけ読み込み、スナップショットとしてリクエスト属性に保持する。
+ * コントローラー・ユースケースが同じリクエスト内で何度参照しても、セッションストアへのアクセスは1回で済む。
+ * 保存・クリア時はストアとスナップショットの両方を更新する（write-through）。
  */
 @Component
 public class JwtSessionManager {
 
-    private static final String JWT_TOKEN_ATTRIBUTE = "JWT_TOKEN";
-    private static final String USER_ID_ATTRIBUTE = "USER_ID";
-    private static final String USERNAME_ATTRIBUTE = "USERNAME";
+    /**
+     * セッションスナップショットを保持するリクエスト属性名
+     */
+    static final String SNAPSHOT_ATTRIBUTE = JwtSessionManager.class.getName() + ".SNAPSHOT";
+
+    private final SessionStore sessionStore;
+
+    public JwtSessionManager(SessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+    }
 
     /**
      * セッションにJWTトークンを保存
      */
     public void saveJwtToken(HttpServletRequest request, String jwtToken, String userId) {
-        HttpSession session = request.getSession(true);
-        session.setAttribute(JWT_TOKEN_ATTRIBUTE, jwtToken);
-        session.setAttribute(USER_ID_ATTRIBUTE, userId);
+        // ユーザー名は既存の値を引き継ぐ
+        saveJwtToken(request, jwtToken, userId, snapshot(request).username());
     }
 
     /**
      * セッションにJWTトークンとユーザー情報を保存
      */
     public void saveJwtToken(HttpServletRequest request, String jwtToken, String userId, String username) {
-        // 3パラメータメソッドを呼び出してから、usernameを追加（DRY原則）
-        saveJwtToken(request, jwtToken, userId);
-        if (username != null) {
-            HttpSession session = request.getSession(true);
-            session.setAttribute(USERNAME_ATTRIBUTE, username);
-        }
+        SessionData data = new SessionData(jwtToken, userId, username);
+        sessionStore.save(request, data);
+        remember(request, data);
     }
 
     /**
      * セッションからJWTトークンを取得
      */
     public String getJwtToken(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session == null) {
-            return null;
-        }
-        return (String) session.getAttribute(JWT_TOKEN_ATTRIBUTE);
+        return snapshot(request).jwtToken();
     }
 
     /**
      * セッションからユーザーIDを取得
      */
     public String getUserId(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session == null) {
-            return null;
-        }
-        return (String) session.getAttribute(USER_ID_ATTRIBUTE);
+        return snapshot(request).userId();
     }
 
     /**
      * セッションからユーザー名を取得
      */
     public String getUsername(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session == null) {
-            return null;
-        }
-        return (String) session.getAttribute(USERNAME_ATTRIBUTE);
+        return snapshot(request).username();
     }
 
     /**
      * セッションをクリア
      */
     public void clearSession(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session != null) {
-            session.invalidate();
-        }
+        sessionStore.clear(request);
+        remember(request, SessionData.EMPTY);
     }
 
     /**
@@ -86,4 +78,20 @@ public class JwtSessionManager {
         String jwtToken = getJwtToken(request);
         return jwtToken != null && !jwtToken.isBlank();
     }
+
+    /**
+     * リクエスト内で共有するセッションスナップショットを取得（未読み込みの場合はストアから読み込む）
+     */
+    private SessionData snapshot(HttpServletRequest request) {
+        if (request.getAttribute(SNAPSHOT_ATTRIBUTE) instanceof SessionData cached) {
+            return cached;
+        }
+        SessionData snapshot = sessionStore.load(request);
+        remember(request, snapshot);
+        return snapshot;
+    }
+
+    private void remember(HttpServletRequest request, SessionData snapshot) {
+        request.setAttribute(SNAPSHOT_ATTRIBUTE, snapshot);
+    }
 }
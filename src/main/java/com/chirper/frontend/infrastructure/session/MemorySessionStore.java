@@ -0,0 +1,226 @@
+package com.chirper.frontend.infrastructure.session;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * メモリ上に保存するセッションストア
+ *
+ * キーのハッシュで分割したストライプごとにロックを持ち、異なるセッションへのアクセスが互いに待たない。
+ * 各ストライプはアクセス順のLRUで、最後のアクセスからtimeoutを過ぎたデータは読み書きの際に削除する。
+ *
+ * セッションごとの使用メモリ（エンコード済みバイト列＋エントリのオーバーヘッド概算）を集計し、
+ * 合計がmaxBytesを超えないよう、最も長くアクセスされていないセッションから追い出す。
+ * 上限はストライプ数で等分して各ストライプに割り当てる。ログインの集中やボットによる大量のセッション作成でも
+ * ヒープ使用量は上限で頭打ちになる（追い出されたユーザーは再ログインが必要になる）。
+ *
+ * 再起動でデータは失われるため、単一インスタンス（またはスティッキーセッション）向け。
+ */
+public class MemorySessionStore extends CookieKeyedSessionStore {
+
+    private static final String METRIC_PREFIX = "chirper.sessions";
+
+    /**
+     * エントリ1件あたりのオーバーヘッド概算（キー文字列・エントリオブジェクト・マップのノード）
+     */
+    static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final Stripe[] stripes;
+    private final long timeoutNanos;
+    private final long maxBytes;
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    private final Counter expiredCounter;
+    private final Counter evictedCounter;
+
+    public MemorySessionStore(
+            String cookieName,
+            boolean secureCookie,
+            Duration timeout,
+            int stripeCount,
+            long maxBytes,
+            MeterRegistry meterRegistry
+    ) {
+        super(cookieName, secureCookie);
+        this.timeoutNanos = timeout.toNanos();
+        this.maxBytes = maxBytes;
+        // ストライプ数は2のべき乗に切り上げる（マスクで選択するため）
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        long stripeBudget = Math.max(1, maxBytes / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(stripeBudget);
+        }
+
+        this.expiredCounter = Counter.builder(METRIC_PREFIX + ".removed")
+                .description("期限切れで削除したセッション数")
+                .tag("reason", "expired")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder(METRIC_PREFIX + ".removed")
+                .description("メモリ上限のため追い出したセッション数")
+                .tag("reason", "evicted")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", this, MemorySessionStore::size)
+                .description("保存中のセッション数")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bytes", totalBytes, AtomicLong::get)
+                .description("セッションの使用メモリ概算")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".max.bytes", this, store -> store.maxBytes)
+                .description("セッションの使用メモリ上限")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected byte[] read(String key) {
+        Stripe stripe = stripeFor(key);
+        long now = System.nanoTime();
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now - entry.lastAccess > timeoutNanos) {
+                stripe.remove(key, entry);
+                expiredCounter.increment();
+                return null;
+            }
+            entry.lastAccess = now;
+            return entry.bytes;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    protected void write(String key, byte[] bytes) {
+        Stripe stripe = stripeFor(key);
+        long now = System.nanoTime();
+        stripe.lock.lock();
+        try {
+            Entry entry = new Entry(bytes, now);
+            Entry previous = stripe.entries.put(key, entry);
+            if (previous != null) {
+                stripe.adjust(-previous.weight());
+            }
+            stripe.adjust(entry.weight());
+            stripe.evict(now);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    protected void delete(String key) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(key);
+            if (entry != null) {
+                stripe.remove(key, entry);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 保存中のセッション数
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * セッションの使用メモリ概算（テスト・監視用）
+     */
+    long totalBytes() {
+        return totalBytes.get();
+    }
+
+    /**
+     * ストライプ数（テスト用）
+     */
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        // アクセス順: 先頭が最も長くアクセスされていないエントリ
+        final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        final long budget;
+        long bytes;
+
+        Stripe(long budget) {
+            this.budget = budget;
+        }
+
+        void adjust(long delta) {
+            bytes += delta;
+            totalBytes.addAndGet(delta);
+        }
+
+        void remove(String key, Entry entry) {
+            entries.remove(key);
+            adjust(-entry.weight());
+        }
+
+        /**
+         * 先頭から期限切れのエントリを削除し、さらに上限を超えている間は古い順に追い出す
+         * （直前に書き込んだ1件は残す）
+         */
+        void evict(long now) {
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext() && entries.size() > 1) {
+                Entry eldest = iterator.next().getValue();
+                boolean expired = now - eldest.lastAccess > timeoutNanos;
+                if (!expired && bytes <= budget) {
+                    return;
+                }
+                iterator.remove();
+                adjust(-eldest.weight());
+                (expired ? expiredCounter : evictedCounter).increment();
+            }
+        }
+    }
+
+    private static final class Entry {
+        final byte[] bytes;
+        long lastAccess;
+
+        Entry(byte[] bytes, long lastAccess) {
+            this.bytes = bytes;
+            this.lastAccess = lastAccess;
+        }
+
+        int weight() {
+            return bytes.length + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.chirper.frontend.infrastructure.session;
+
+/**
+ * セッションに保持する認証情報
+ *
+ * @param jwtToken JWTトークン
+ * @param userId ユーザーID
+ * @param username ユーザー名
+ */
+public record SessionData(String jwtToken, String userId, String username) {
+
+    /**
+     * 未ログイン（セッションなし）を表す空のデータ
+     */
+    public static final SessionData EMPTY = new SessionData(null, null, null);
+}
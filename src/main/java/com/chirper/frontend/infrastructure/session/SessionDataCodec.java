@@ -0,0 +1,271 @@
+package com.chirper.frontend.infrastructure.session;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * セッションデータのコンパクトなバイナリ表現
+ *
+ * 形式（バージョン1）:
+ * <pre>
+ * version(1) flags(1) [jwt] [userId] [username]
+ * 文字列     = varint(長さ) + UTF-8バイト列
+ * jwt        = form(1) + (form=0: 文字列 | form=1: header payload signature)
+ * header     = varint(辞書番号+1) または 0 + 文字列
+ * payload/signature = varint(長さ) + Base64URLをデコードしたバイト列
+ * </pre>
+ * JWTのヘッダーはほぼ全トークンで同一のため、よく使われるヘッダーは辞書番号だけで表す。
+ * ペイロードと署名はBase64URLをデコードして保持し、約25%小さくする。
+ * 再エンコードで元の文字列に戻らないトークン（非正規形）は文字列のまま保持する。
+ * Java標準シリアライズと比べ、クラス記述子やオブジェクトヘッダーを含まない。
+ */
+public final class SessionDataCodec {
+
+    static final byte VERSION = 1;
+
+    private static final int FLAG_JWT = 1;
+    private static final int FLAG_USER_ID = 1 << 1;
+    private static final int FLAG_USERNAME = 1 << 2;
+
+    private static final int FORM_STRING = 0;
+    private static final int FORM_COMPACT = 1;
+
+    /**
+     * よく使われるJWTヘッダー（Base64URL）の辞書
+     *
+     * 永続化済みのデータを読めなくなるため、既存の要素の順序は変更せず末尾にのみ追加すること。
+     */
+    static final List<String> KNOWN_HEADERS = List.of(
+            "eyJhbGciOiJIUzI1NiJ9",                   // {"alg":"HS256"}
+            "eyJhbGciOiJIUzM4NCJ9",                   // {"alg":"HS384"}
+            "eyJhbGciOiJIUzUxMiJ9",                   // {"alg":"HS512"}
+            "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9",   // {"alg":"HS256","typ":"JWT"}
+            "eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzI1NiJ9",   // {"typ":"JWT","alg":"HS256"}
+            "eyJhbGciOiJIUzUxMiIsInR5cCI6IkpXVCJ9",   // {"alg":"HS512","typ":"JWT"}
+            "eyJhbGciOiJSUzI1NiJ9",                   // {"alg":"RS256"}
+            "eyJhbGciOiJSUzI1NiIsInR5cCI6IkpXVCJ9"    // {"alg":"RS256","typ":"JWT"}
+    );
+
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private SessionDataCodec() {
+    }
+
+    /**
+     * セッションデータをバイト列に変換
+     */
+    public static byte[] encode(SessionData data) {
+        Output out = new Output(16 + length(data.jwtToken()) + length(data.userId()) + length(data.username()));
+        out.writeByte(VERSION);
+        out.writeByte((data.jwtToken() != null ? FLAG_JWT : 0)
+                | (data.userId() != null ? FLAG_USER_ID : 0)
+                | (data.username() != null ? FLAG_USERNAME : 0));
+        if (data.jwtToken() != null) {
+            writeJwt(out, data.jwtToken());
+        }
+        if (data.userId() != null) {
+            out.writeString(data.userId());
+        }
+        if (data.username() != null) {
+            out.writeString(data.username());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * バイト列からセッションデータを復元
+     *
+     * @throws IllegalArgumentException 形式が不正な場合
+     */
+    public static SessionData decode(byte[] bytes) {
+        Input in = new Input(bytes);
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported session data version: " + version);
+        }
+        int flags = in.readByte();
+        String jwtToken = (flags & FLAG_JWT) != 0 ? readJwt(in) : null;
+        String userId = (flags & FLAG_USER_ID) != 0 ? in.readString() : null;
+        String username = (flags & FLAG_USERNAME) != 0 ? in.readString() : null;
+        if (in.remaining() != 0) {
+            throw new IllegalArgumentException("Trailing bytes in session data");
+        }
+        return new SessionData(jwtToken, userId, username);
+    }
+
+    private static void writeJwt(Output out, String jwt) {
+        int firstDot = jwt.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : jwt.indexOf('.', firstDot + 1);
+        byte[] payload = secondDot < 0 ? null : decodeCanonical(jwt.substring(firstDot + 1, secondDot));
+        byte[] signature = payload == null ? null : decodeCanonical(jwt.substring(secondDot + 1));
+        if (signature == null) {
+            out.writeByte(FORM_STRING);
+            out.writeString(jwt);
+            return;
+        }
+
+        out.writeByte(FORM_COMPACT);
+        String header = jwt.substring(0, firstDot);
+        int headerIndex = KNOWN_HEADERS.indexOf(header);
+        if (headerIndex >= 0) {
+            out.writeVarint(headerIndex + 1);
+        } else {
+            out.writeVarint(0);
+            out.writeString(header);
+        }
+        out.writeBytes(payload);
+        out.writeBytes(signature);
+    }
+
+    private static String readJwt(Input in) {
+        int form = in.readByte();
+        if (form == FORM_STRING) {
+            return in.readString();
+        }
+        if (form != FORM_COMPACT) {
+            throw new IllegalArgumentException("Unknown JWT form: " + form);
+        }
+        int headerRef = in.readVarint();
+        String header;
+        if (headerRef == 0) {
+            header = in.readString();
+        } else if (headerRef <= KNOWN_HEADERS.size()) {
+            header = KNOWN_HEADERS.get(headerRef - 1);
+        } else {
+            throw new IllegalArgumentException("Unknown JWT header reference: " + headerRef);
+        }
+        String payload = BASE64_ENCODER.encodeToString(in.readBytes());
+        String signature = BASE64_ENCODER.encodeToString(in.readBytes());
+        return header + '.' + payload + '.' + signature;
+    }
+
+    /**
+     * Base64URL（パディングなし）をデコードする。再エンコードで元に戻らない場合はnull
+     */
+    private static byte[] decodeCanonical(String part) {
+        if (part.indexOf('.') >= 0 || part.indexOf('=') >= 0) {
+            return null;
+        }
+        try {
+            byte[] decoded = BASE64_DECODER.decode(part);
+            return BASE64_ENCODER.encodeToString(decoded).equals(part) ? decoded : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * 拡張可能な出力バッファ
+     */
+    private static final class Output {
+        private byte[] buffer;
+        private int position;
+
+        Output(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarint(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            writeVarint(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeString(String value) {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+    }
+
+    /**
+     * 境界チェック付きの入力
+     */
+    private static final class Input {
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int readByte() {
+            require(1);
+            return buffer[position++] & 0xFF;
+        }
+
+        int readVarint() {
+            int result = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        byte[] readBytes() {
+            int length = readVarint();
+            if (length < 0) {
+                throw new IllegalArgumentException("Negative length");
+            }
+            require(length);
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        String readString() {
+            int length = readVarint();
+            if (length < 0) {
+                throw new IllegalArgumentException("Negative length");
+            }
+            require(length);
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        int remaining() {
+            return buffer.length - position;
+        }
+
+        private void require(int length) {
+            if (length > buffer.length - position) {
+                throw new IllegalArgumentException("Truncated session data");
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.chirper.frontend.infrastructure.session;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * セッションデータの保存先（SPI）
+ *
+ * JwtSessionManager はこのインターフェースを通してセッションデータを読み書きする。
+ * 実装は chirper.session.store で選択する（http / memory / file）。
+ */
+public interface SessionStore {
+
+    /**
+     * リクエストに対応するセッションデータを読み込む
+     *
+     * @param request HTTPリクエスト
+     * @return セッションデータ（セッションがない場合は {@link SessionData#EMPTY}）
+     */
+    SessionData load(HttpServletRequest request);
+
+    /**
+     * セッションデータを保存する（セッションがない場合は作成する）
+     *
+     * @param request HTTPリクエスト
+     * @param data 保存するデータ
+     */
+    void save(HttpServletRequest request, SessionData data);
+
+    /**
+     * セッションデータを削除する
+     *
+     * @param request HTTPリクエスト
+     */
+    void clear(HttpServletRequest request);
+}
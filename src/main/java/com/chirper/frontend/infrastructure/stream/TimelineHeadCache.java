@@ -0,0 +1,126 @@
+package com.chirper.frontend.infrastructure.stream;
+
+import com.chirper.frontend.application.dto.TweetDto;
+import com.chirper.frontend.domain.repository.IBackendApiRepository;
+import com.chirper.frontend.domain.valueobject.FieldProjection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ユーザーごとのタイムライン先頭（最新ツイートIDの並び）のキャッシュ
+ *
+ * タイムライン画面の表示やSSEのポーリングで取得した先頭を記録しておき、
+ * 新着件数の問い合わせにはBackendを呼ばずに応答する。
+ * 記録が古い（TTL切れ）場合のみBackendから取り直す。
+ */
+@Component
+public class TimelineHeadCache {
+
+    private static final String METRIC_NAME = "chirper.timeline.head.lookups";
+
+    /**
+     * 取り直しではツイートIDの並びだけを使うため、本文などは取得しない
+     */
+    static final FieldProjection HEAD_FIELDS = FieldProjection.of("tweetId");
+
+    private final IBackendApiRepository apiRepository;
+    private final Duration ttl;
+    private final int depth;
+    private final int maxEntries;
+    private final Map<String, Head> heads = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public TimelineHeadCache(
+            IBackendApiRepository apiRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chirper.timeline.head-cache.ttl:60s}") Duration ttl,
+            @Value("${chirper.timeline.head-cache.depth:20}") int depth,
+            @Value("${chirper.timeline.head-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.apiRepository = apiRepository;
+        this.ttl = ttl;
+        this.depth = depth;
+        this.maxEntries = maxEntries;
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .description("キャッシュから応答したタイムライン先頭の参照数")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .description("Backendから取り直したタイムライン先頭の参照数")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * タイムライン先頭のツイートIDを新しい順で取得する
+     *
+     * @param feedKey フィードの識別子（ユーザーID）
+     * @param jwtToken 取り直しに使うJWTトークン
+     * @return 最新ツイートIDのリスト（新しい順、最大depth件）
+     */
+    public List<String> getHead(String feedKey, String jwtToken) {
+        long now = System.nanoTime();
+        Head head = heads.get(feedKey);
+        if (head != null && !head.isExpired(now)) {
+            hitCounter.increment();
+            return head.tweetIds();
+        }
+
+        missCounter.increment();
+        List<TweetDto> tweets = apiRepository.getTimeline(jwtToken, 0, depth, HEAD_FIELDS).tweets();
+        return update(feedKey, tweets);
+    }
+
+    /**
+     * 取得済みのタイムライン先頭（1ページ目）を記録する
+     *
+     * @param feedKey フィードの識別子（ユーザーID）
+     * @param tweets 1ページ目のツイート（新しい順）
+     * @return 記録したツイートIDのリスト
+     */
+    public List<String> update(String feedKey, List<TweetDto> tweets) {
+        List<String> tweetIds = tweets.stream()
+                .limit(depth)
+                .map(TweetDto::tweetId)
+                .toList();
+
+        long now = System.nanoTime();
+        if (heads.size() >= maxEntries && !heads.containsKey(feedKey)) {
+            heads.values().removeIf(head -> head.isExpired(now));
+            if (heads.size() >= maxEntries) {
+                // 上限に達している場合は記録しない（次回の参照でBackendから取得する）
+                return tweetIds;
+            }
+        }
+        heads.put(feedKey, new Head(tweetIds, now + ttl.toNanos()));
+        return tweetIds;
+    }
+
+    /**
+     * 記録中の件数（テスト・監視用）
+     */
+    int size() {
+        return heads.size();
+    }
+
+    /**
+     * 記録したタイムライン先頭と有効期限
+     */
+    private record Head(List<String> tweetIds, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
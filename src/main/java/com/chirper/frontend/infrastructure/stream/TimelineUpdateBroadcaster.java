@@ -0,0 +1,271 @@
+package com.chirper.frontend.infrastructure.stream;
+
+import com.chirper.frontend.application.dto.TimelineDto;
+import com.chirper.frontend.application.dto.TweetDto;
+import com.chirper.frontend.application.service.ITimelineFormattingService;
+import com.chirper.frontend.domain.repository.IBackendApiRepository;
+import com.chirper.frontend.infrastructure.exception.BackendApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * タイムライン新着のSSE配信
+ *
+ * フィード（ユーザー）ごとに1つのポーラーだけがBackendのタイムライン先頭を定期取得し、
+ * 新着があれば描画済みHTMLを同じフィードの全購読者（タブ）へ配信する。
+ * 購読者が何人いてもBackendへの問い合わせはフィードごとに1回で済み、
+ * 最後の購読者が切断するとポーラーも停止する。
+ */
+@Component
+public class TimelineUpdateBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimelineUpdateBroadcaster.class);
+
+    static final String EVENT_NAME = "new-tweets";
+
+    private final IBackendApiRepository apiRepository;
+    private final ITimelineFormattingService formattingService;
+    private final TweetFragmentRenderer fragmentRenderer;
+    private final TimelineHeadCache headCache;
+    private final Duration pollInterval;
+    private final Duration emitterTimeout;
+    private final int pollSize;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Feed> feeds = new ConcurrentHashMap<>();
+
+    private final Counter pollCounter;
+    private final Counter eventCounter;
+
+    @Autowired
+    public TimelineUpdateBroadcaster(
+            IBackendApiRepository apiRepository,
+            ITimelineFormattingService formattingService,
+            TweetFragmentRenderer fragmentRenderer,
+            TimelineHeadCache headCache,
+            MeterRegistry meterRegistry,
+            @Value("${chirper.timeline.stream.poll-interval:15s}") Duration pollInterval,
+            @Value("${chirper.timeline.stream.timeout:10m}") Duration emitterTimeout,
+            @Value("${chirper.timeline.stream.poll-size:20}") int pollSize,
+            @Value("${chirper.timeline.stream.poll-threads:4}") int pollThreads
+    ) {
+        this.apiRepository = apiRepository;
+        this.formattingService = formattingService;
+        this.fragmentRenderer = fragmentRenderer;
+        this.headCache = headCache;
+        this.pollInterval = pollInterval;
+        this.emitterTimeout = emitterTimeout;
+        this.pollSize = pollSize;
+        this.scheduler = Executors.newScheduledThreadPool(pollThreads, runnable -> {
+            Thread thread = new Thread(runnable, "timeline-stream-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pollCounter = Counter.builder("chirper.timeline.stream.polls")
+                .description("新着確認のためのBackend問い合わせ数")
+                .register(meterRegistry);
+        this.eventCounter = Counter.builder("chirper.timeline.stream.events")
+                .description("購読者へ配信した新着イベント数")
+                .register(meterRegistry);
+        Gauge.builder("chirper.timeline.stream.feeds", feeds, Map::size)
+                .description("ポーリング中のフィード数")
+                .register(meterRegistry);
+        Gauge.builder("chirper.timeline.stream.subscribers", this, TimelineUpdateBroadcaster::subscriberCount)
+                .description("接続中の購読者数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * フィードの新着配信を購読する
+     *
+     * @param feedKey フィードの識別子（ユーザーID）
+     * @param jwtToken ポーリングに使うJWTトークン
+     * @param lastSeenTweetId クライアントが表示済みの最新ツイートID（未表示の場合null）
+     * @return SSEエミッター
+     */
+    public SseEmitter subscribe(String feedKey, String jwtToken, String lastSeenTweetId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+
+        feeds.compute(feedKey, (key, feed) -> {
+            Feed target = feed != null ? feed : startFeed(key, lastSeenTweetId);
+            // トークンは最後に接続したタブのもの（再ログイン後も有効なトークンで取得する）
+            target.jwtToken = jwtToken;
+            target.subscribers.add(emitter);
+            return target;
+        });
+
+        Runnable cleanup = () -> unsubscribe(feedKey, emitter);
+        emitter.onCompletion(cleanup);
+        // タイムアウト・エラー時も正常に完了させる（完了させないとSpringがAsyncRequestTimeoutExceptionを発生させる）
+        emitter.onTimeout(() -> {
+            cleanup.run();
+            emitter.complete();
+        });
+        emitter.onError(e -> {
+            cleanup.run();
+            emitter.complete();
+        });
+        return emitter;
+    }
+
+    /**
+     * すべての購読を終了してポーラーを停止する
+     */
+    @PreDestroy
+    public void shutdown() {
+        feeds.values().forEach(feed -> feed.subscribers.forEach(SseEmitter::complete));
+        feeds.clear();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 購読を解除する（最後の購読者の場合はポーラーも停止する）
+     */
+    void unsubscribe(String feedKey, SseEmitter emitter) {
+        feeds.computeIfPresent(feedKey, (key, feed) -> {
+            feed.subscribers.remove(emitter);
+            if (feed.subscribers.isEmpty()) {
+                feed.task.cancel(false);
+                return null;
+            }
+            return feed;
+        });
+    }
+
+    /**
+     * 指定フィードを即座にポーリングする（テスト用）
+     */
+    void pollNow(String feedKey) {
+        Feed feed = feeds.get(feedKey);
+        if (feed != null) {
+            poll(feedKey, feed);
+        }
+    }
+
+    /**
+     * フィードが把握している最新ツイートID（テスト用）
+     */
+    String headTweetId(String feedKey) {
+        Feed feed = feeds.get(feedKey);
+        return feed != null ? feed.headTweetId : null;
+    }
+
+    int feedCount() {
+        return feeds.size();
+    }
+
+    int subscriberCount() {
+        return feeds.values().stream().mapToInt(feed -> feed.subscribers.size()).sum();
+    }
+
+    private Feed startFeed(String feedKey, String lastSeenTweetId) {
+        Feed feed = new Feed(lastSeenTweetId);
+        feed.task = scheduler.scheduleWithFixedDelay(
+                () -> poll(feedKey, feed), pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        logger.debug("Started timeline stream poller for feed {}", feedKey);
+        return feed;
+    }
+
+    private void poll(String feedKey, Feed feed) {
+        pollCounter.increment();
+        TimelineDto timeline;
+        try {
+            timeline = apiRepository.getTimeline(feed.jwtToken, 0, pollSize);
+        } catch (BackendApiException e) {
+            if (e.getStatusCode() == 401) {
+                // トークン切れ: 切断してクライアントの再接続時に認証をやり直させる
+                feed.subscribers.forEach(SseEmitter::complete);
+            } else {
+                logger.debug("Timeline stream poll failed: {}", e.getMessage());
+            }
+            return;
+        } catch (Exception e) {
+            logger.debug("Timeline stream poll failed: {}", e.getMessage());
+            return;
+        }
+
+        List<TweetDto> tweets = timeline.tweets();
+        // 新着件数の問い合わせ（ポーリングAPI）もこの取得結果で応答できるようにする
+        headCache.update(feedKey, tweets);
+
+        String previousHead = feed.headTweetId;
+        List<TweetDto> fresh = newerThan(tweets, previousHead);
+        if (fresh.isEmpty()) {
+            // 新着なし: 中継プロキシのアイドル切断防止と切断済み購読者の検出を兼ねる
+            broadcast(feed, SseEmitter.event().comment("keep-alive"));
+            return;
+        }
+
+        // 既知の先頭が取得範囲に含まれない場合、取得範囲を超える新着がある
+        boolean hasMore = previousHead != null && fresh.size() == tweets.size() && tweets.size() >= pollSize;
+        feed.headTweetId = fresh.get(0).tweetId();
+
+        // 描画はフィードごとに1回だけ行い、全購読者で共有する
+        String html = fragmentRenderer.render(formattingService.formatTimeline(fresh, 0, 1).getTweets());
+        TimelineUpdateEvent event = new TimelineUpdateEvent(fresh.size(), hasMore, feed.headTweetId, html);
+        broadcast(feed, SseEmitter.event().name(EVENT_NAME).data(event, MediaType.APPLICATION_JSON));
+        eventCounter.increment(feed.subscribers.size());
+    }
+
+    /**
+     * 既知の先頭より新しいツイートを返す（タイムラインは新しい順）
+     */
+    private List<TweetDto> newerThan(List<TweetDto> tweets, String headTweetId) {
+        List<TweetDto> fresh = new ArrayList<>();
+        for (TweetDto tweet : tweets) {
+            if (tweet.tweetId().equals(headTweetId)) {
+                break;
+            }
+            fresh.add(tweet);
+        }
+        return fresh;
+    }
+
+    private void broadcast(Feed feed, SseEmitter.SseEventBuilder event) {
+        // イベントは1回だけ組み立てて全購読者に送る
+        Set<ResponseBodyEmitter.DataWithMediaType> payload = event.build();
+        for (SseEmitter emitter : feed.subscribers) {
+            try {
+                emitter.send(payload);
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    /**
+     * フィード（同じユーザーの購読者をまとめる単位）
+     */
+    private static final class Feed {
+        final Set<SseEmitter> subscribers = new CopyOnWriteArraySet<>();
+        volatile String jwtToken;
+        volatile String headTweetId;
+        volatile ScheduledFuture<?> task;
+
+        Feed(String headTweetId) {
+            this.headTweetId = headTweetId;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.chirper.frontend.infrastructure.stream;
+
+/**
+ * タイムライン新着通知イベント（SSEのデータ部）
+ *
+ * @param count 新着ツイート数
+ * @param hasMore 取得範囲を超える新着がある場合true（件数は下限値）
+ * @param headTweetId 最新のツイートID（クライアントが次回の既読位置として使う）
+ * @param html 新着ツイートの描画済みHTML
+ */
+public record TimelineUpdateEvent(
+        int count,
+        boolean hasMore,
+        String headTweetId,
+        String html
+) {
+}
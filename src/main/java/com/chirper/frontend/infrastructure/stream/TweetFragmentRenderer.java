@@ -0,0 +1,41 @@
+package com.chirper.frontend.infrastructure.stream;
+
+import com.chirper.frontend.domain.model.TweetViewModel;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * ツイート一覧フラグメントをリクエスト外でHTMLに描画する
+ *
+ * 描画結果は購読者間で共有するため、セッション固有の値（CSRFトークンなど）は含まない。
+ * 削除フォームのCSRFトークンはクライアント側で挿入時に補う。
+ */
+@Component
+public class TweetFragmentRenderer {
+
+    private static final String TEMPLATE = "components/tweet-list";
+    private static final Set<String> FRAGMENT = Set.of("tweetItems");
+
+    private final ITemplateEngine templateEngine;
+
+    public TweetFragmentRenderer(ITemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+    }
+
+    /**
+     * ツイートのリストをHTMLに描画
+     *
+     * @param tweets ツイートViewModelのリスト
+     * @return 描画されたHTML
+     */
+    public String render(List<TweetViewModel> tweets) {
+        Context context = new Context(Locale.JAPANESE);
+        context.setVariable("tweets", tweets);
+        return templateEngine.process(TEMPLATE, FRAGMENT, context);
+    }
+}
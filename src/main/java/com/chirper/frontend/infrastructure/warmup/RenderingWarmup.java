@@ -0,0 +1,150 @@
+package com.chirper.frontend.infrastructure.warmup;
+
+import com.chirper.frontend.infrastructure.stream.TweetFragmentRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 起動時の描画ウォームアップ
+ *
+ * ApplicationRunnerはWebサーバー起動後・readinessがACCEPTING_TRAFFICになる前に実行されるため、
+ * ここで各ページを合成データで描画しておけば、テンプレート/フラグメントのパースとキャッシュ、
+ * 静的リソースのフィンガープリント計算、描画経路のJITコンパイルが最初のユーザーより先に済む。
+ *
+ * ページはループバックの実HTTPリクエストで描画し、セキュリティフィルター・CSRF・
+ * ビュー解決を含めて本番と同じ経路を通す。ログインが必要なページは
+ * WarmupController が合成データで描画する（このクラスが発行するトークンでのみ応答）。
+ * ウォームアップはベストエフォートで、失敗しても起動は止めない。
+ */
+@Component
+@ConditionalOnProperty(name = "chirper.warmup.enabled", havingValue = "true")
+public class RenderingWarmup implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(RenderingWarmup.class);
+
+    /**
+     * ウォームアップ用エンドポイントの認証ヘッダー
+     */
+    public static final String TOKEN_HEADER = "X-Chirper-Warmup";
+
+    /**
+     * 実際のURLで描画する公開ページ
+     */
+    static final List<String> PUBLIC_PAGES = List.of("/", "/login", "/register");
+
+    /**
+     * WarmupController が合成データで描画するページ
+     */
+    static final List<String> SYNTHETIC_PAGES = List.of(
+            "timeline", "tweet-list", "profile", "profile-edit", "followers", "following");
+
+    private final TweetFragmentRenderer fragmentRenderer;
+    private final Environment environment;
+    private final int iterations;
+    private final String token = UUID.randomUUID().toString();
+
+    private volatile boolean active;
+
+    @Autowired
+    public RenderingWarmup(
+            TweetFragmentRenderer fragmentRenderer,
+            Environment environment,
+            @Value("${chirper.warmup.iterations:5}") int iterations
+    ) {
+        this.fragmentRenderer = fragmentRenderer;
+        this.environment = environment;
+        this.iterations = Math.max(1, iterations);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        active = true;
+        int failures = 0;
+        try {
+            RestClient client = createClient();
+            for (int i = 0; i < iterations; i++) {
+                failures += renderFragments();
+                if (client != null) {
+                    failures += renderPages(client);
+                }
+            }
+        } finally {
+            active = false;
+        }
+        logger.info("Rendering warmup finished in {} ms ({} iterations, {} failures)",
+                (System.nanoTime() - start) / 1_000_000, iterations, failures);
+    }
+
+    /**
+     * ウォームアップ用リクエストのトークンを検証する
+     *
+     * @param candidate リクエストヘッダーの値
+     * @return ウォームアップ実行中かつトークンが一致する場合true
+     */
+    public boolean isAuthorized(String candidate) {
+        return active && token.equals(candidate);
+    }
+
+    /**
+     * SSE配信で使うリクエスト外のフラグメント描画
+     */
+    private int renderFragments() {
+        try {
+            fragmentRenderer.render(WarmupSamples.tweets());
+            return 0;
+        } catch (RuntimeException e) {
+            logger.warn("Warmup render of tweet fragment failed: {}", e.getMessage());
+            return 1;
+        }
+    }
+
+    private int renderPages(RestClient client) {
+        int failures = 0;
+        for (String path : PUBLIC_PAGES) {
+            failures += get(client, path);
+        }
+        for (String page : SYNTHETIC_PAGES) {
+            failures += get(client, "/internal/warmup/" + page);
+        }
+        return failures;
+    }
+
+    private int get(RestClient client, String path) {
+        try {
+            client.get()
+                    .uri(path)
+                    .header(TOKEN_HEADER, token)
+                    .retrieve()
+                    .toBodilessEntity();
+            return 0;
+        } catch (RuntimeException e) {
+            logger.warn("Warmup request to {} failed: {}", path, e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * ループバック用クライアントを生成（組み込みサーバーがない場合はnull）
+     */
+    private RestClient createClient() {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null || port <= 0) {
+            logger.info("No local server port; skipping HTTP page warmup");
+            return null;
+        }
+        String contextPath = environment.getProperty("server.servlet.context-path", "");
+        return RestClient.create("http://127.0.0.1:" + port + contextPath);
+    }
+}
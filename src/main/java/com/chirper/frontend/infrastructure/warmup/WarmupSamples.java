@@ -0,0 +1,88 @@
+package com.chirper.frontend.infrastructure.warmup;
+
+import com.chirper.frontend.application.dto.UserProfileDto;
+import com.chirper.frontend.application.dto.UserSummaryDto;
+import com.chirper.frontend.domain.model.TimelineViewModel;
+import com.chirper.frontend.domain.model.TweetViewModel;
+import com.chirper.frontend.domain.valueobject.DisplayTimestamp;
+import com.chirper.frontend.domain.valueobject.TweetContent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ウォームアップ用の合成データ
+ *
+ * 本番の描画と同じ分岐（メンション・ハッシュタグ・URLのハイライト、いいね済み/未いいね、
+ * 相対時刻の各単位）を通るように値を選んでいる。
+ */
+public final class WarmupSamples {
+
+    public static final String USERNAME = "warmup";
+
+    private static final int TWEET_COUNT = 20;
+
+    private static final String[] CONTENTS = {
+            "こんにちは @alice #chirper https://example.com/warmup",
+            "今日はいい天気ですね",
+            "#java と #spring の話 @bob",
+            "<b>エスケープ</b> & \"引用\" のテスト"
+    };
+
+    private WarmupSamples() {
+    }
+
+    /**
+     * 合成ツイートのリストを生成
+     */
+    public static List<TweetViewModel> tweets() {
+        Instant now = Instant.now();
+        List<TweetViewModel> tweets = new ArrayList<>(TWEET_COUNT);
+        for (int i = 0; i < TWEET_COUNT; i++) {
+            tweets.add(new TweetViewModel(
+                    "warmup-tweet-" + i,
+                    "warmup-user-" + (i % 3),
+                    USERNAME + (i % 3),
+                    "ウォームアップ" + (i % 3),
+                    i % 2 == 0 ? null : "/images/default-avatar.png",
+                    new TweetContent(CONTENTS[i % CONTENTS.length]),
+                    // 秒・分・時間・日の各表現を通す
+                    new DisplayTimestamp(now.minus(Duration.ofMinutes((long) i * i * 37))),
+                    i * 3,
+                    i,
+                    i % 2 == 0,
+                    i % 5 == 0
+            ));
+        }
+        return tweets;
+    }
+
+    /**
+     * 合成タイムライン（複数ページ・ページネーション表示あり）を生成
+     */
+    public static TimelineViewModel timeline() {
+        return new TimelineViewModel(tweets(), 1, 10);
+    }
+
+    /**
+     * 合成プロフィールを生成
+     */
+    public static UserProfileDto profile() {
+        return new UserProfileDto("warmup-user-0", USERNAME, "warmup@example.com",
+                "ウォームアップ用のプロフィールです", 42, 7, false);
+    }
+
+    /**
+     * 合成ユーザー一覧（フォロワー/フォロー中）を生成
+     */
+    public static List<UserSummaryDto> users() {
+        List<UserSummaryDto> users = new ArrayList<>(TWEET_COUNT);
+        for (int i = 0; i < TWEET_COUNT; i++) {
+            users.add(new UserSummaryDto("warmup-user-" + i, USERNAME + i,
+                    i % 2 == 0 ? "自己紹介 #" + i : null, i % 3 == 0));
+        }
+        return users;
+    }
+}
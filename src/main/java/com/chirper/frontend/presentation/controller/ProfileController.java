@@ -3,6 +3,7 @@ package com.chirper.frontend.presentation.controller;
 import com.chirper.frontend.application.dto.UserProfileDto;
 import com.chirper.frontend.application.usecase.DisplayUserProfileUseCase;
 import com.chirper.frontend.application.usecase.UpdateProfileUseCase;
+import com.chirper.frontend.domain.valueobject.FieldProjection;
 import com.chirper.frontend.infrastructure.session.JwtSessionManager;
 import com.chirper.frontend.presentation.form.ProfileForm;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +23,18 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @Controller
 public class ProfileController {
 
+    /**
+     * profile.html が表示するフィールド（メールアドレスは所有者にのみ表示する）
+     */
+    private static final FieldProjection PROFILE_FIELDS =
+            FieldProjection.of("username", "bio", "followerCount", "followingCount");
+    private static final FieldProjection OWNER_PROFILE_FIELDS = PROFILE_FIELDS.with("email");
+
+    /**
+     * プロフィール編集フォームの初期値に使うフィールド
+     */
+    private static final FieldProjection EDIT_FORM_FIELDS = FieldProjection.of("bio");
+
     private final DisplayUserProfileUseCase displayUserProfileUseCase;
     private final UpdateProfileUseCase updateProfileUseCase;
     private final JwtSessionManager sessionManager;
@@ -41,13 +54,14 @@ public class ProfileController {
      */
     @GetMapping("/profile/{username}")
     public String profile(@PathVariable String username, HttpServletRequest request, Model model) {
-        // プロフィール取得
-        UserProfileDto profile = displayUserProfileUseCase.execute(username);
-
         // 現在のユーザーがプロフィール所有者かどうかを判定
         String currentUsername = sessionManager.getUsername(request);
         boolean isOwner = currentUsername != null && currentUsername.equals(username);
 
+        // プロフィール取得（所有者以外にはメールアドレスを取得しない）
+        UserProfileDto profile = displayUserProfileUseCase.execute(
+                username, isOwner ? OWNER_PROFILE_FIELDS : PROFILE_FIELDS);
+
         model.addAttribute("profile", profile);
         model.addAttribute("isOwner", isOwner);
         return "profile";
@@ -69,7 +83,7 @@ public class ProfileController {
             }
 
             // 現在のユーザープロフィールを取得
-            UserProfileDto currentProfile = displayUserProfileUseCase.execute(username);
+            UserProfileDto currentProfile = displayUserProfileUseCase.execute(username, EDIT_FORM_FIELDS);
 
             // ProfileFormに変換（displayNameとavatarUrlは現状未サポート）
             ProfileForm profileForm = new ProfileForm(
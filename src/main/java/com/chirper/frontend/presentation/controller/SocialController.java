@@ -3,7 +3,9 @@ package com.chirper.frontend.presentation.controller;
 import com.chirper.frontend.application.dto.FollowListDto;
 import com.chirper.frontend.application.usecase.FollowUserUseCase;
 import com.chirper.frontend.application.usecase.UnfollowUserUseCase;
+import com.chirper.frontend.domain.model.PaginationViewModel;
 import com.chirper.frontend.domain.repository.IBackendApiRepository;
+import com.chirper.frontend.domain.valueobject.FieldProjection;
 import com.chirper.frontend.infrastructure.session.JwtSessionManager;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Pattern;
@@ -27,6 +29,11 @@ import java.util.List;
 @Validated
 public class SocialController {
 
+    /**
+     * followers.html / following.html が各ユーザーについて表示するフィールド
+     */
+    private static final FieldProjection FOLLOW_LIST_FIELDS = FieldProjection.of("username", "bio");
+
     private final FollowUserUseCase followUserUseCase;
     private final UnfollowUserUseCase unfollowUserUseCase;
     private final IBackendApiRepository apiRepository;
@@ -107,18 +114,20 @@ public class SocialController {
                 throw new IllegalStateException("認証が必要です");
             }
 
-            FollowListDto followersDto = apiRepository.getFollowers(jwtToken, username, page, size);
+            FollowListDto followersDto = apiRepository.getFollowers(jwtToken, username, page, size, FOLLOW_LIST_FIELDS);
 
             model.addAttribute("username", username);
             model.addAttribute("followers", followersDto.users());
             model.addAttribute("currentPage", followersDto.currentPage());
             model.addAttribute("totalPages", followersDto.totalPages());
+            model.addAttribute("pagination", PaginationViewModel.of(followersDto.currentPage(), followersDto.totalPages()));
         } catch (Exception e) {
             model.addAttribute("error", e.getMessage());
             model.addAttribute("username", username);
             model.addAttribute("followers", java.util.Collections.emptyList());
             model.addAttribute("currentPage", 0);
             model.addAttribute("totalPages", 0);
+            model.addAttribute("pagination", PaginationViewModel.of(0, 0));
         }
         return "followers";
     }
@@ -140,18 +149,20 @@ public class SocialController {
                 throw new IllegalStateException("認証が必要です");
             }
 
-            FollowListDto followingDto = apiRepository.getFollowing(jwtToken, username, page, size);
+            FollowListDto followingDto = apiRepository.getFollowing(jwtToken, username, page, size, FOLLOW_LIST_FIELDS);
 
             model.addAttribute("username", username);
             model.addAttribute("following", followingDto.users());
             model.addAttribute("currentPage", followingDto.currentPage());
             model.addAttribute("totalPages", followingDto.totalPages());
+            model.addAttribute("pagination", PaginationViewModel.of(followingDto.currentPage(), followingDto.totalPages()));
         } catch (Exception e) {
             model.addAttribute("error", e.getMessage());
             model.addAttribute("username", username);
             model.addAttribute("following", java.util.Collections.emptyList());
             model.addAttribute("currentPage", 0);
             model.addAttribute("totalPages", 0);
+            model.addAttribute("pagination", PaginationViewModel.of(0, 0));
         }
         return "following";
     }
@@ -0,0 +1,71 @@
+package com.chirper.frontend.presentation.controller;
+
+import com.chirper.frontend.application.dto.ErrorResponse;
+import com.chirper.frontend.application.dto.NewTweetsResponse;
+import com.chirper.frontend.application.exception.UnauthorizedException;
+import com.chirper.frontend.application.usecase.CheckNewTweetsUseCase;
+import com.chirper.frontend.infrastructure.exception.BackendApiException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * タイムラインの非同期APIコントローラー
+ *
+ * SSEが使えないクライアント向けに、新着の有無だけを軽量に返す。
+ */
+@RestController
+@RequestMapping("/api/timeline")
+public class TimelineApiController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimelineApiController.class);
+
+    private final CheckNewTweetsUseCase checkNewTweetsUseCase;
+
+    public TimelineApiController(CheckNewTweetsUseCase checkNewTweetsUseCase) {
+        this.checkNewTweetsUseCase = checkNewTweetsUseCase;
+    }
+
+    /**
+     * 指定ツイートより新しいツイートの件数
+     */
+    @GetMapping("/new-count")
+    public ResponseEntity<NewTweetsResponse> newCount(
+            @RequestParam(required = false) String since,
+            HttpServletRequest request
+    ) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(checkNewTweetsUseCase.execute(request, since));
+    }
+
+    /**
+     * 認証エラー処理（API向けにリダイレクトではなく401を返す）
+     */
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ErrorResponse> handleUnauthorizedException(UnauthorizedException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(new ErrorResponse("UNAUTHORIZED", ex.getMessage(), List.of(), Instant.now()));
+    }
+
+    /**
+     * バックエンドAPIエラー処理（502を返す）
+     */
+    @ExceptionHandler(BackendApiException.class)
+    public ResponseEntity<ErrorResponse> handleBackendApiException(BackendApiException ex) {
+        logger.warn("Backend API error on new tweets check: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+                .body(new ErrorResponse("BACKEND_ERROR", "新着の確認に失敗しました", List.of(), Instant.now()));
+    }
+}
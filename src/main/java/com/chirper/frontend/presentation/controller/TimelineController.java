@@ -40,8 +40,33 @@ public class TimelineController {
 
         // モデルに追加
         model.addAttribute("timeline", timeline);
-        model.addAttribute("tweetForm", new TweetForm(""));
+        model.addAttribute("pageSize", size);
+        model.addAttribute("tweetForm", TweetForm.empty());
 
         return "timeline";
     }
+
+    /**
+     * タイムラインの続きのページ（無限スクロール用）
+     *
+     * レイアウト・ナビバー・投稿フォームを含まず、ツイート一覧のフラグメントのみを返す
+     */
+    @GetMapping("/timeline/fragment")
+    public String timelineFragment(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request,
+            Model model
+    ) {
+        // パラメータバリデーション（負の値や過大値を防ぐ）
+        page = Math.max(0, page);
+        size = Math.max(1, Math.min(100, size));  // 1〜100の範囲に制限
+
+        TimelineViewModel timeline = displayTimelineUseCase.execute(request, page, size);
+
+        model.addAttribute("timeline", timeline);
+        model.addAttribute("pageSize", size);
+
+        return "components/tweet-list :: tweetList";
+    }
 }
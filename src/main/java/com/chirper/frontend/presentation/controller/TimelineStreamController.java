@@ -0,0 +1,51 @@
+package com.chirper.frontend.presentation.controller;
+
+import com.chirper.frontend.application.exception.UnauthorizedException;
+import com.chirper.frontend.application.usecase.SubscribeTimelineUpdatesUseCase;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * タイムライン新着通知（Server-Sent Events）コントローラー
+ */
+@Controller
+public class TimelineStreamController {
+
+    private final SubscribeTimelineUpdatesUseCase subscribeTimelineUpdatesUseCase;
+
+    public TimelineStreamController(SubscribeTimelineUpdatesUseCase subscribeTimelineUpdatesUseCase) {
+        this.subscribeTimelineUpdatesUseCase = subscribeTimelineUpdatesUseCase;
+    }
+
+    /**
+     * タイムライン新着通知のストリーム
+     *
+     * 新着があると "new-tweets" イベントで件数と描画済みHTMLを送る
+     */
+    @GetMapping(value = "/timeline/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+            @RequestParam(required = false) String since,
+            HttpServletRequest request
+    ) {
+        SseEmitter emitter = subscribeTimelineUpdatesUseCase.execute(request, since);
+        return ResponseEntity.ok()
+                // リバースプロキシでのバッファリングを無効化
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    /**
+     * 未ログイン時はログイン画面へのリダイレクトではなく401を返す（EventSourceの再接続を止める）
+     */
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<Void> handleUnauthorized(UnauthorizedException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.chirper.frontend.presentation.controller;
+
+import com.chirper.frontend.application.dto.ErrorResponse;
+import com.chirper.frontend.application.dto.TweetActionResponse;
+import com.chirper.frontend.application.exception.UnauthorizedException;
+import com.chirper.frontend.application.usecase.LikeTweetUseCase;
+import com.chirper.frontend.application.usecase.RetweetUseCase;
+import com.chirper.frontend.application.usecase.UnlikeTweetUseCase;
+import com.chirper.frontend.infrastructure.exception.BackendApiException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * いいね/リツイートの非同期APIコントローラー
+ *
+ * 画面遷移を伴わずにJSONで操作結果を返す。
+ * Backendへの書き込みのみを行い、タイムラインの再取得はしない。
+ * Backendの書き込みAPIは件数を返さないため、操作後の状態のみを返し、件数はクライアントが調整する。
+ */
+@RestController
+@RequestMapping("/api/tweets")
+public class TweetActionApiController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TweetActionApiController.class);
+
+    private final LikeTweetUseCase likeTweetUseCase;
+    private final UnlikeTweetUseCase unlikeTweetUseCase;
+    private final RetweetUseCase retweetUseCase;
+
+    public TweetActionApiController(
+            LikeTweetUseCase likeTweetUseCase,
+            UnlikeTweetUseCase unlikeTweetUseCase,
+            RetweetUseCase retweetUseCase
+    ) {
+        this.likeTweetUseCase = likeTweetUseCase;
+        this.unlikeTweetUseCase = unlikeTweetUseCase;
+        this.retweetUseCase = retweetUseCase;
+    }
+
+    /**
+     * いいね
+     */
+    @PostMapping("/{id}/like")
+    public TweetActionResponse like(@PathVariable String id, HttpServletRequest request) {
+        likeTweetUseCase.execute(request, id);
+        return new TweetActionResponse(id, true);
+    }
+
+    /**
+     * いいね取り消し
+     */
+    @DeleteMapping("/{id}/like")
+    public TweetActionResponse unlike(@PathVariable String id, HttpServletRequest request) {
+        unlikeTweetUseCase.execute(request, id);
+        return new TweetActionResponse(id, false);
+    }
+
+    /**
+     * リツイート
+     */
+    @PostMapping("/{id}/retweet")
+    public TweetActionResponse retweet(@PathVariable String id, HttpServletRequest request) {
+        retweetUseCase.execute(request, id);
+        return new TweetActionResponse(id, true);
+    }
+
+    /**
+     * 認証エラー処理（API向けにリダイレクトではなく401を返す）
+     */
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ErrorResponse> handleUnauthorizedException(UnauthorizedException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(new ErrorResponse("UNAUTHORIZED", ex.getMessage(), List.of(), Instant.now()));
+    }
+
+    /**
+     * バックエンドAPIエラー処理（4xxはそのまま、それ以外は502を返す）
+     */
+    @ExceptionHandler(BackendApiException.class)
+    public ResponseEntity<ErrorResponse> handleBackendApiException(BackendApiException ex) {
+        logger.warn("Backend API error on tweet action: {}", ex.getMessage());
+        int statusCode = ex.getStatusCode();
+        int status = statusCode >= 400 && statusCode < 500
+                ? statusCode
+                : HttpStatus.BAD_GATEWAY.value();
+        return ResponseEntity.status(status)
+                .body(new ErrorResponse("BACKEND_ERROR", "操作に失敗しました", List.of(), Instant.now()));
+    }
+}
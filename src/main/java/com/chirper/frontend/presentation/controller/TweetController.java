@@ -50,7 +50,7 @@ public class TweetController {
 
         try {
             // ツイート投稿
-            submitTweetUseCase.execute(request, tweetForm.content());
+            submitTweetUseCase.execute(request, tweetForm.content(), tweetForm.idempotencyKey());
             redirectAttributes.addFlashAttribute("success", "ツイートを投稿しました");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
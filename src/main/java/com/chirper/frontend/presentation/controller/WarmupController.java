@@ -0,0 +1,93 @@
+package com.chirper.frontend.presentation.controller;
+
+import com.chirper.frontend.domain.model.PaginationViewModel;
+import com.chirper.frontend.infrastructure.warmup.RenderingWarmup;
+import com.chirper.frontend.infrastructure.warmup.WarmupSamples;
+import com.chirper.frontend.presentation.form.ProfileForm;
+import com.chirper.frontend.presentation.form.TweetForm;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+/**
+ * 起動時ウォームアップ用コントローラー
+ *
+ * ログインが必要なページを、Backendを呼ばずに合成データで描画する。
+ * RenderingWarmup の実行中に、同クラスが発行したトークン付きのリクエストにのみ応答し、
+ * それ以外は404を返す。
+ */
+@Controller
+@ConditionalOnProperty(name = "chirper.warmup.enabled", havingValue = "true")
+public class WarmupController {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final RenderingWarmup renderingWarmup;
+
+    public WarmupController(RenderingWarmup renderingWarmup) {
+        this.renderingWarmup = renderingWarmup;
+    }
+
+    /**
+     * 合成データでページを描画
+     */
+    @GetMapping("/internal/warmup/{page}")
+    public String render(
+            @PathVariable String page,
+            @RequestHeader(name = RenderingWarmup.TOKEN_HEADER, required = false) String token,
+            HttpServletResponse response,
+            Model model
+    ) {
+        if (!renderingWarmup.isAuthorized(token)) {
+            return notFound(response);
+        }
+
+        switch (page) {
+            case "timeline" -> {
+                model.addAttribute("timeline", WarmupSamples.timeline());
+                model.addAttribute("pageSize", PAGE_SIZE);
+                model.addAttribute("tweetForm", TweetForm.empty());
+                return "timeline";
+            }
+            case "tweet-list" -> {
+                model.addAttribute("timeline", WarmupSamples.timeline());
+                model.addAttribute("pageSize", PAGE_SIZE);
+                return "components/tweet-list :: tweetList";
+            }
+            case "profile" -> {
+                model.addAttribute("profile", WarmupSamples.profile());
+                model.addAttribute("isOwner", true);
+                return "profile";
+            }
+            case "profile-edit" -> {
+                model.addAttribute("profileForm", new ProfileForm("ウォームアップ", "自己紹介", ""));
+                return "profile-edit";
+            }
+            case "followers" -> {
+                model.addAttribute("username", WarmupSamples.USERNAME);
+                model.addAttribute("followers", WarmupSamples.users());
+                model.addAttribute("pagination", PaginationViewModel.of(1, 10));
+                return "followers";
+            }
+            case "following" -> {
+                model.addAttribute("username", WarmupSamples.USERNAME);
+                model.addAttribute("following", WarmupSamples.users());
+                model.addAttribute("pagination", PaginationViewModel.of(1, 10));
+                return "following";
+            }
+            default -> {
+                return notFound(response);
+            }
+        }
+    }
+
+    private String notFound(HttpServletResponse response) {
+        response.setStatus(HttpStatus.NOT_FOUND.value());
+        return "error/404";
+    }
+}
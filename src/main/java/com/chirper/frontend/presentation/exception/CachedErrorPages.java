@@ -0,0 +1,73 @@
+package com.chirper.frontend.presentation.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 描画済みエラーページのキャッシュ
+ *
+ * エラーページはリクエストごとに変わる内容を含まないため、初回に一度だけ描画してバイト列を保持し、
+ * 以降は同じバイト列を返す。Backend障害時にエラー応答が大量に発生しても、テンプレート処理のコストがかからない。
+ * 初回描画を遅延させるのは、静的リソースのURL変換（内容ハッシュ付きURL）がコンテキスト起動後に使えるようになるため。
+ */
+public class CachedErrorPages {
+
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    private static final String GENERIC_ERROR_MESSAGE = "サーバーエラーが発生しました";
+
+    private final ITemplateEngine templateEngine;
+    private final Map<String, byte[]> pages = new ConcurrentHashMap<>();
+
+    public CachedErrorPages(ITemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+    }
+
+    /**
+     * 404ページの応答
+     */
+    ResponseEntity<byte[]> notFound() {
+        return response(HttpStatus.NOT_FOUND, "error/404");
+    }
+
+    /**
+     * 500ページの応答
+     */
+    ResponseEntity<byte[]> serverError() {
+        return response(HttpStatus.INTERNAL_SERVER_ERROR, "error/500");
+    }
+
+    /**
+     * 429ページの本文（レスポンスへ直接書き込むインターセプター用）
+     */
+    public byte[] tooManyRequestsBody() {
+        return page("error/429");
+    }
+
+    private ResponseEntity<byte[]> response(HttpStatus status, String template) {
+        byte[] body = page(template);
+        return ResponseEntity.status(status)
+                .contentType(TEXT_HTML_UTF8)
+                .contentLength(body.length)
+                .body(body);
+    }
+
+    private byte[] page(String template) {
+        return pages.computeIfAbsent(template, this::render);
+    }
+
+    private byte[] render(String template) {
+        Context context = new Context(Locale.JAPANESE);
+        // 例外メッセージは内部情報を含みうるため画面には出さず、固定の文言のみを表示する
+        context.setVariable("error", GENERIC_ERROR_MESSAGE);
+        return templateEngine.process(template, context).getBytes(StandardCharsets.UTF_8);
+    }
+}
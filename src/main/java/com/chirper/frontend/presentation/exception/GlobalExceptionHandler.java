@@ -4,14 +4,18 @@ import com.chirper.frontend.application.exception.UnauthorizedException;
 import com.chirper.frontend.application.exception.ValidationException;
 import com.chirper.frontend.infrastructure.exception.BackendApiException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
-import org.springframework.ui.Model;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.servlet.NoHandlerFoundException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+import org.thymeleaf.ITemplateEngine;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -25,6 +29,12 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final CachedErrorPages errorPages;
+
+    public GlobalExceptionHandler(ITemplateEngine templateEngine) {
+        this.errorPages = new CachedErrorPages(templateEngine);
+    }
+
     /**
      * 認証エラー処理
      */
@@ -58,26 +68,49 @@ public class GlobalExceptionHandler {
 
     /**
      * バックエンドAPIエラー処理
+     *
+     * Backend障害時に大量に発生するため、事前描画済みのエラーページを返す。
+     * BackendApiExceptionはスタックトレースを持たないため、原因例外がある場合のみそれを出力する。
      */
     @ExceptionHandler(BackendApiException.class)
-    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public String handleBackendApiException(BackendApiException ex, Model model) {
-        logger.error("Backend API error: {}", ex.getMessage(), ex);
-        model.addAttribute("error", "サーバーエラーが発生しました");
-        model.addAttribute("message", ex.getMessage());
-        return "error/500";
+    public ResponseEntity<byte[]> handleBackendApiException(BackendApiException ex) {
+        if (ex.getCause() != null) {
+            logger.error("Backend API error: {}", ex.getMessage(), ex.getCause());
+        } else {
+            logger.error("Backend API error: {} (status {})", ex.getMessage(), ex.getStatusCode());
+        }
+        return errorPages.serverError();
+    }
+
+    /**
+     * 存在しないパスへのアクセス
+     */
+    @ExceptionHandler({NoResourceFoundException.class, NoHandlerFoundException.class})
+    public ResponseEntity<byte[]> handleNotFound(Exception ex) {
+        logger.debug("Not found: {}", ex.getMessage());
+        return errorPages.notFound();
+    }
+
+    /**
+     * 非同期リクエスト（SSEなど）のタイムアウト
+     *
+     * 開いたままのイベントストリームへエラーページを書き込まないよう、本文を返さずに終える。
+     */
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public void handleAsyncRequestTimeout(AsyncRequestTimeoutException ex, HttpServletResponse response) {
+        logger.debug("Async request timed out");
+        if (!response.isCommitted()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
     }
 
     /**
      * 一般的な例外処理
      */
     @ExceptionHandler(Exception.class)
-    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public String handleException(Exception ex, Model model) {
+    public ResponseEntity<byte[]> handleException(Exception ex) {
         logger.error("Unexpected error: {}", ex.getMessage(), ex);
-        model.addAttribute("error", "予期しないエラーが発生しました");
-        model.addAttribute("message", ex.getMessage());
-        return "error/500";
+        return errorPages.serverError();
     }
 
     /**
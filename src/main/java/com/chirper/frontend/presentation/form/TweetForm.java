@@ -1,14 +1,38 @@
 package com.chirper.frontend.presentation.form;
 
+import com.chirper.frontend.domain.valueobject.TweetLengthRules;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.util.UUID;
+
 /**
  * ツイート投稿フォーム
+ *
+ * idempotencyKey はフォーム表示ごとに発行し、二重送信・再送を同一の投稿として扱うために使う。
  */
 public record TweetForm(
         @NotBlank(message = "ツイート内容を入力してください")
-        @Size(min = 1, max = 280, message = "ツイートは1〜280文字で入力してください")
-        String content
+        @TweetLength(message = "ツイートは280文字以内で入力してください（全角文字は2文字、URLは23文字として数えます）")
+        String content,
+
+        @Size(max = 64, message = "不正なリクエストです")
+        String idempotencyKey
 ) {
+
+    private static final String LENGTH_RULES_JSON = TweetLengthRules.DEFAULT.toJson();
+
+    /**
+     * 新しい冪等性キーを持つ空のフォームを生成
+     */
+    public static TweetForm empty() {
+        return new TweetForm("", UUID.randomUUID().toString());
+    }
+
+    /**
+     * 文字数ルールのJSON（クライアントの文字数表示・送信前チェックで使う）
+     */
+    public String lengthRulesJson() {
+        return LENGTH_RULES_JSON;
+    }
 }
@@ -0,0 +1,28 @@
+package com.chirper.frontend.presentation.form;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ツイート本文が {@link com.chirper.frontend.domain.valueobject.TweetLengthRules#DEFAULT} の最大文字数以内であること
+ *
+ * nullは有効とみなす（必須チェックは @NotBlank で行う）。
+ */
+@Documented
+@Constraint(validatedBy = TweetLengthValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TweetLength {
+
+    String message() default "ツイートは280文字以内で入力してください";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
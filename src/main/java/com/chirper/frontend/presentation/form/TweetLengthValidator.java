@@ -0,0 +1,16 @@
+package com.chirper.frontend.presentation.form;
+
+import com.chirper.frontend.domain.valueobject.TweetLengthRules;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * {@link TweetLength} のバリデーター
+ */
+public class TweetLengthValidator implements ConstraintValidator<TweetLength, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || TweetLengthRules.DEFAULT.isWithinLimit(value);
+    }
+}
@@ -1,9 +1,23 @@
 // Chirper - Custom JavaScript
 
-// 定数定義
-const TWEET_MAX_LENGTH = 140;
+// 文字数ルールの既定値（サーバーの TweetLengthRules.DEFAULT と同じ。通常は data-length-rules から読み込む）
+const DEFAULT_TWEET_LENGTH_RULES = {
+    maxWeightedLength: 280,
+    scale: 100,
+    defaultWeight: 200,
+    urlLength: 23,
+    ranges: [
+        { start: 0x0000, end: 0x10FF, weight: 100 },
+        { start: 0x2000, end: 0x200D, weight: 100 },
+        { start: 0x2010, end: 0x201F, weight: 100 },
+        { start: 0x2032, end: 0x2037, weight: 100 }
+    ]
+};
 
 document.addEventListener('DOMContentLoaded', function() {
+    // 表示タイムゾーンをサーバーへ伝える
+    initTimeZoneCookie();
+
     // 文字数カウント機能
     initCharacterCounter();
 
@@ -15,8 +29,94 @@ document.addEventListener('DOMContentLoaded', function() {
 
     // フォローボタンの確認
     initFollowButtonConfirmation();
+
+    // タイムラインの無限スクロール
+    initInfiniteScroll();
+
+    // いいね/リツイートの非同期送信
+    initTweetActions();
+
+    // タイムライン新着通知（SSE）
+    initTimelineStream();
 });
 
+/**
+ * ブラウザのタイムゾーンを tz Cookie に保存（サーバーはこのタイムゾーンで日時を表示する）
+ */
+function initTimeZoneCookie() {
+    let zone;
+    try {
+        zone = Intl.DateTimeFormat().resolvedOptions().timeZone;
+    } catch (e) {
+        return;
+    }
+    if (!zone) return;
+
+    const current = document.cookie.split('; ').find(c => c.startsWith('tz='));
+    if (current === `tz=${zone}`) return;
+    document.cookie = `tz=${zone}; path=/; max-age=31536000; SameSite=Lax`;
+}
+
+/**
+ * テキストエリアに埋め込まれた文字数ルールを取得
+ */
+function tweetLengthRules(textarea) {
+    const json = textarea.dataset.lengthRules;
+    if (!json) return DEFAULT_TWEET_LENGTH_RULES;
+    try {
+        return JSON.parse(json);
+    } catch (e) {
+        return DEFAULT_TWEET_LENGTH_RULES;
+    }
+}
+
+/**
+ * 表示上の文字数を数える（サーバーの TweetLengthRules と同じ数え方）
+ *
+ * コードポイント単位で重みを合計し、URL（http:// または https:// から空白まで）は urlLength 文字とする。
+ */
+function weightedTweetLength(text, rules) {
+    let total = 0;
+    let i = 0;
+    while (i < text.length) {
+        const urlEnd = tweetUrlEnd(text, i);
+        if (urlEnd > i) {
+            total += rules.urlLength * rules.scale;
+            i = urlEnd;
+            continue;
+        }
+        // CRLFは1文字（サーバーと同じ数え方。textarea.valueの改行はLFのみ）
+        if (text[i] === '\r' && text[i + 1] === '\n') {
+            i++;
+            continue;
+        }
+        const codePoint = text.codePointAt(i);
+        const range = rules.ranges.find(r => codePoint >= r.start && codePoint <= r.end);
+        total += range ? range.weight : rules.defaultWeight;
+        i += codePoint > 0xFFFF ? 2 : 1;
+    }
+    return Math.floor(total / rules.scale);
+}
+
+/**
+ * i から始まるURLの終了位置（URLでない場合は i）
+ */
+function tweetUrlEnd(text, i) {
+    let start;
+    if (text.startsWith('https://', i)) {
+        start = i + 8;
+    } else if (text.startsWith('http://', i)) {
+        start = i + 7;
+    } else {
+        return i;
+    }
+    let end = start;
+    while (end < text.length && !/[ \t\n\x0B\f\r]/.test(text[end])) {
+        end++;
+    }
+    return end > start ? end : i;
+}
+
 /**
  * 文字数カウント機能の初期化
  */
@@ -24,15 +124,15 @@ function initCharacterCounter() {
     const tweetTextarea = document.querySelector('#content, #tweetContent');
     if (!tweetTextarea) return;
 
-    const maxLength = TWEET_MAX_LENGTH;
+    const rules = tweetLengthRules(tweetTextarea);
+    const maxLength = rules.maxWeightedLength;
     const counterElement = document.createElement('div');
     counterElement.className = 'char-count mt-2 text-end';
-    counterElement.textContent = `0 / ${maxLength}`;
 
     tweetTextarea.parentElement.appendChild(counterElement);
 
-    tweetTextarea.addEventListener('input', function() {
-        const currentLength = this.value.length;
+    const update = function() {
+        const currentLength = weightedTweetLength(tweetTextarea.value, rules);
         counterElement.textContent = `${currentLength} / ${maxLength}`;
 
         // 文字数に応じてスタイルを変更
@@ -42,7 +142,10 @@ function initCharacterCounter() {
         } else if (currentLength > maxLength * 0.9) {
             counterElement.classList.add('warning');
         }
-    });
+    };
+
+    tweetTextarea.addEventListener('input', update);
+    update();
 }
 
 /**
@@ -70,7 +173,8 @@ function initTweetFormValidation() {
             if (!textarea) return;
 
             const content = textarea.value.trim();
-            const maxLength = TWEET_MAX_LENGTH;
+            const rules = tweetLengthRules(textarea);
+            const maxLength = rules.maxWeightedLength;
 
             if (content.length === 0) {
                 e.preventDefault();
@@ -78,7 +182,8 @@ function initTweetFormValidation() {
                 return false;
             }
 
-            if (content.length > maxLength) {
+            // サーバーは送信された本文（前後の空白を含む）で判定するため、送信する値で数える
+            if (weightedTweetLength(textarea.value, rules) > maxLength) {
                 e.preventDefault();
                 alert(`ツイートは${maxLength}文字以内で入力してください`);
                 return false;
@@ -102,6 +207,303 @@ function initFollowButtonConfirmation() {
     });
 }
 
+/**
+ * タイムラインの無限スクロール
+ *
+ * 番兵要素が表示領域に入ったら次ページのツイート一覧フラグメントのみを取得して追記する。
+ * IntersectionObserver非対応のブラウザでは従来のページネーションをそのまま使う。
+ */
+function initInfiniteScroll() {
+    const container = document.getElementById('timelineTweets');
+    if (!container || !('IntersectionObserver' in window)) return;
+
+    const fragmentUrl = container.dataset.fragmentUrl;
+    let loading = false;
+
+    // JSが有効な場合はページネーションを隠す（非対応環境向けのフォールバックとして残す）
+    const pagination = container.parentElement.querySelector('nav .pagination');
+    if (pagination) {
+        pagination.closest('nav').classList.add('d-none');
+    }
+
+    const observer = new IntersectionObserver(entries => {
+        entries.forEach(entry => {
+            if (entry.isIntersecting) {
+                loadNextPage(entry.target);
+            }
+        });
+    }, { rootMargin: '400px 0px' });
+
+    function observeSentinel() {
+        const sentinel = container.querySelector('.timeline-sentinel');
+        if (sentinel) {
+            observer.observe(sentinel);
+        }
+    }
+
+    function loadNextPage(sentinel) {
+        if (loading) return;
+        loading = true;
+        observer.unobserve(sentinel);
+
+        const params = new URLSearchParams({
+            page: sentinel.dataset.nextPage,
+            size: sentinel.dataset.pageSize || '20'
+        });
+
+        fetch(`${fragmentUrl}?${params}`, { headers: { 'Accept': 'text/html' } })
+            .then(response => {
+                // セッション切れ等でログイン画面にリダイレクトされた場合は画面遷移する
+                if (response.redirected) {
+                    window.location.href = response.url;
+                    return null;
+                }
+                if (!response.ok) {
+                    throw new Error(`HTTP ${response.status}`);
+                }
+                return response.text();
+            })
+            .then(html => {
+                if (html === null) return;
+
+                const template = document.createElement('template');
+                template.innerHTML = html;
+
+                // ページ境界がずれて重複したツイートは追加しない
+                template.content.querySelectorAll('[data-tweet-id]').forEach(tweet => {
+                    const selector = `[data-tweet-id="${CSS.escape(tweet.dataset.tweetId)}"]`;
+                    if (container.querySelector(selector)) {
+                        tweet.parentElement.remove();
+                    }
+                });
+
+                sentinel.remove();
+                container.appendChild(template.content);
+                observeSentinel();
+            })
+            .catch(() => {
+                // 失敗時は番兵を残し、少し待ってから再試行する
+                setTimeout(() => observer.observe(sentinel), 5000);
+            })
+            .finally(() => {
+                loading = false;
+            });
+    }
+
+    observeSentinel();
+}
+
+/**
+ * タイムライン新着通知（Server-Sent Events）
+ *
+ * 新着を受信したらバナーに件数を表示し、クリックされたら受信済みのHTMLを一覧の先頭に挿入する。
+ * 配信されるHTMLは購読者間で共有されるためCSRFトークンを含まない。挿入時にページのトークンを補う。
+ * EventSource非対応、または接続できない環境では新着件数のみを30秒ごとにポーリングする。
+ */
+function initTimelineStream() {
+    const POLL_INTERVAL = 30000;
+    const MAX_STREAM_FAILURES = 3;
+
+    const banner = document.getElementById('newTweetsBanner');
+    if (!banner) return;
+
+    const container = document.getElementById('timelineTweets');
+    const streamUrl = banner.dataset.streamUrl;
+    const pollUrl = banner.dataset.pollUrl;
+    let pendingHtml = [];
+    let pendingCount = 0;
+    let hasMore = false;
+    let lastHeadId = null;
+    let retryDelay = 5000;
+    let failures = 0;
+
+    function newestTweetId() {
+        const first = container ? container.querySelector('[data-tweet-id]') : null;
+        return first ? first.dataset.tweetId : null;
+    }
+
+    function connect() {
+        const since = lastHeadId || newestTweetId();
+        const url = since ? `${streamUrl}?since=${encodeURIComponent(since)}` : streamUrl;
+        const source = new EventSource(url);
+
+        source.addEventListener('open', () => {
+            retryDelay = 5000;
+            failures = 0;
+        });
+
+        source.addEventListener('new-tweets', e => {
+            const data = JSON.parse(e.data);
+            // 後から届いたイベントほど新しいので先頭側に積む
+            pendingHtml.unshift(data.html);
+            pendingCount += data.count;
+            hasMore = hasMore || data.hasMore;
+            lastHeadId = data.headTweetId;
+
+            showBanner();
+        });
+
+        // 既読位置を付け直して再接続する（ブラウザの自動再接続は古い既読位置のままになるため使わない）
+        source.addEventListener('error', () => {
+            source.close();
+            failures++;
+            if (failures >= MAX_STREAM_FAILURES) {
+                startPolling();
+                return;
+            }
+            setTimeout(connect, retryDelay);
+            retryDelay = Math.min(retryDelay * 2, 60000);
+        });
+    }
+
+    // 件数のみのポーリング（クリック時は再読み込みで表示する）
+    function startPolling() {
+        const since = newestTweetId();
+
+        function poll() {
+            // 非表示のタブでは問い合わせない
+            if (document.hidden) return;
+
+            const url = since ? `${pollUrl}?since=${encodeURIComponent(since)}` : pollUrl;
+            fetch(url, { headers: { 'Accept': 'application/json' } })
+                .then(response => (response.ok && !response.redirected) ? response.json() : null)
+                .then(data => {
+                    if (!data || data.count === 0) return;
+                    pendingCount = data.count;
+                    hasMore = data.hasMore;
+                    showBanner();
+                })
+                .catch(() => {});
+        }
+
+        setInterval(poll, POLL_INTERVAL);
+    }
+
+    function showBanner() {
+        banner.textContent = `${pendingCount}${hasMore ? '+' : ''}件の新しいツイート`;
+        banner.classList.remove('d-none');
+    }
+
+    banner.addEventListener('click', () => {
+        // 一覧がまだない（ツイート0件の）画面や、HTMLを受信していない場合は再読み込みで表示する
+        if (!container || hasMore || pendingHtml.length === 0) {
+            window.location.reload();
+            return;
+        }
+
+        const template = document.createElement('template');
+        template.innerHTML = pendingHtml.join('');
+
+        template.content.querySelectorAll('[data-tweet-id]').forEach(tweet => {
+            const selector = `[data-tweet-id="${CSS.escape(tweet.dataset.tweetId)}"]`;
+            if (container.querySelector(selector)) {
+                tweet.parentElement.remove();
+            }
+        });
+
+        const csrfInput = document.querySelector('input[name="_csrf"]');
+        if (csrfInput) {
+            template.content.querySelectorAll('form[method="post"]').forEach(form => {
+                if (!form.querySelector('input[name="_csrf"]')) {
+                    form.appendChild(csrfInput.cloneNode());
+                }
+            });
+        }
+
+        container.prepend(template.content);
+        pendingHtml = [];
+        pendingCount = 0;
+        banner.classList.add('d-none');
+        window.scrollTo({ top: 0, behavior: 'smooth' });
+    });
+
+    if ('EventSource' in window) {
+        connect();
+    } else {
+        startPolling();
+    }
+}
+
+/**
+ * いいね/リツイートの非同期送信
+ *
+ * フォーム送信を横取りし、表示を先に更新（楽観的更新）してから/api/**へ送信する。
+ * 画面の再読み込みは行わず、失敗した場合は表示を元に戻す。
+ * サーバーは操作後の状態のみを返すため、件数は表示中の件数をクライアント側で増減する。
+ * 無限スクロールで追加されたツイートにも効くようにdocumentで委譲する。
+ */
+function initTweetActions() {
+    const ACTION_STYLES = {
+        like: { activeClass: 'btn-danger', activeIcon: '❤️', inactiveIcon: '🤍' },
+        retweet: { activeClass: 'btn-success' }
+    };
+
+    document.addEventListener('submit', function(e) {
+        const form = e.target.closest('form[data-tweet-action]');
+        if (!form || !form.dataset.apiUrl || !window.fetch) return;
+        e.preventDefault();
+
+        if (form.dataset.pending === 'true') return;
+
+        const action = form.dataset.tweetAction;
+        const wasActive = form.dataset.active === 'true';
+        const previousCount = parseInt(form.dataset.count, 10) || 0;
+
+        // リツイートの取り消しは未対応
+        if (action === 'retweet' && wasActive) return;
+
+        const method = wasActive ? 'DELETE' : 'POST';
+        const optimisticCount = wasActive ? Math.max(0, previousCount - 1) : previousCount + 1;
+
+        form.dataset.pending = 'true';
+        render(form, action, !wasActive, optimisticCount);
+
+        fetch(form.dataset.apiUrl, {
+            method: method,
+            headers: { 'Accept': 'application/json' }
+        })
+            .then(response => {
+                if (!response.ok) {
+                    throw new Error(`HTTP ${response.status}`);
+                }
+                return response.json();
+            })
+            .then(result => {
+                // サーバーの状態が楽観的更新と食い違う場合のみ元の表示に戻す
+                if (result.active === wasActive) {
+                    render(form, action, wasActive, previousCount);
+                }
+            })
+            .catch(() => {
+                render(form, action, wasActive, previousCount);
+            })
+            .finally(() => {
+                form.dataset.pending = 'false';
+            });
+    });
+
+    function render(form, action, active, count) {
+        const style = ACTION_STYLES[action];
+        const button = form.querySelector('button');
+
+        form.dataset.active = String(active);
+        form.dataset.count = String(count);
+
+        button.classList.toggle(style.activeClass, active);
+        button.classList.toggle('btn-outline-secondary', !active);
+
+        const countElement = form.querySelector('.action-count');
+        if (countElement) {
+            countElement.textContent = count;
+        }
+
+        const iconElement = form.querySelector('.action-icon');
+        if (iconElement && style.activeIcon) {
+            iconElement.textContent = active ? style.activeIcon : style.inactiveIcon;
+        }
+    }
+}
+
 /**
  * 画像プレビュー機能（将来実装用）
  */
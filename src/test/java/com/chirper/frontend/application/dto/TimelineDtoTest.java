@@ -0,0 +1,89 @@
+package com.chirper.frontend.application.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimelineDtoTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void shouldResolveUserIndexesToSharedUsers() {
+        // Arrange
+        List<TimelineUserDto> users = List.of(
+                new TimelineUserDto("user1", "alice"),
+                new TimelineUserDto("user2", "bob"));
+        List<TimelineDto.TweetEntry> entries = List.of(
+                normalized("t1", 0), normalized("t2", 1), normalized("t3", 0));
+
+        // Act
+        TimelineDto timeline = TimelineDto.fromJson(entries, users, 0, 1, 3);
+
+        // Assert
+        List<TweetDto> tweets = timeline.tweets();
+        assertEquals(List.of("alice", "bob", "alice"), tweets.stream().map(TweetDto::username).toList());
+        assertSame(tweets.get(0).userId(), tweets.get(2).userId());
+        assertSame(tweets.get(0).username(), tweets.get(2).username());
+        assertEquals(3, timeline.totalElements());
+    }
+
+    @Test
+    void shouldShareAuthorStringsInLegacyPayload() {
+        // Arrange: 従来形式では各ツイートが別インスタンスの文字列を持つ
+        List<TimelineDto.TweetEntry> entries = List.of(
+                legacy("t1", new String("user1"), new String("alice")),
+                legacy("t2", new String("user1"), new String("alice")));
+
+        // Act
+        List<TweetDto> tweets = TimelineDto.fromJson(entries, null, 0, 1, 2).tweets();
+
+        // Assert
+        assertEquals("alice", tweets.get(1).username());
+        assertSame(tweets.get(0).username(), tweets.get(1).username());
+    }
+
+    @Test
+    void shouldKeepUsernameWhenLegacyAuthorRenamedWithinPage() {
+        // Arrange
+        List<TimelineDto.TweetEntry> entries = List.of(
+                legacy("t1", "user1", "alice"),
+                legacy("t2", "user1", "alice2"));
+
+        // Act
+        List<TweetDto> tweets = TimelineDto.fromJson(entries, null, 0, 1, 2).tweets();
+
+        // Assert
+        assertEquals("alice", tweets.get(0).username());
+        assertEquals("alice2", tweets.get(1).username());
+    }
+
+    @Test
+    void shouldRejectOutOfRangeUserIndex() {
+        // Arrange
+        List<TimelineDto.TweetEntry> entries = List.of(normalized("t1", 1));
+        List<TimelineUserDto> users = List.of(new TimelineUserDto("user1", "alice"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> TimelineDto.fromJson(entries, users, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> TimelineDto.fromJson(entries, null, 0, 1, 1));
+    }
+
+    @Test
+    void shouldKeepNullAndEmptyTweets() {
+        // Act & Assert
+        assertNull(TimelineDto.fromJson(null, null, 0, 0, 0).tweets());
+        assertTrue(TimelineDto.fromJson(List.of(), null, 0, 0, 0).tweets().isEmpty());
+    }
+
+    private TimelineDto.TweetEntry normalized(String tweetId, int user) {
+        return new TimelineDto.TweetEntry(tweetId, user, null, null, "content", CREATED_AT, 0, 0, false, false);
+    }
+
+    private TimelineDto.TweetEntry legacy(String tweetId, String userId, String username) {
+        return new TimelineDto.TweetEntry(tweetId, null, userId, username, "content", CREATED_AT, 0, 0, false, false);
+    }
+}
@@ -0,0 +1,29 @@
+package com.chirper.frontend.application.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TooManyAttemptsExceptionTest {
+
+    @Test
+    void shouldCreateTooManyAttemptsException() {
+        // Arrange
+        String message = "ログインの試行回数が多すぎます";
+
+        // Act
+        TooManyAttemptsException exception = new TooManyAttemptsException(message);
+
+        // Assert
+        assertEquals(message, exception.getMessage());
+    }
+
+    @Test
+    void shouldNotCaptureStackTrace() {
+        // Act
+        TooManyAttemptsException exception = new TooManyAttemptsException("ログインの試行回数が多すぎます");
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+    }
+}
@@ -31,4 +31,13 @@ class UnauthorizedExceptionTest {
         assertEquals(message, exception.getMessage());
         assertEquals(cause, exception.getCause());
     }
+
+    @Test
+    void shouldNotCaptureStackTrace() {
+        // Act
+        UnauthorizedException exception = new UnauthorizedException("ログインが必要です");
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+    }
 }
@@ -42,4 +42,13 @@ class ValidationExceptionTest {
         assertEquals(message, exception.getMessage());
         assertEquals(1, exception.getErrors().size());
     }
+
+    @Test
+    void shouldNotCaptureStackTrace() {
+        // Act
+        ValidationException exception = new ValidationException(List.of(new FieldError("content", "必須です")));
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+    }
 }
@@ -0,0 +1,115 @@
+package com.chirper.frontend.application.usecase;
+
+import com.chirper.frontend.application.dto.NewTweetsResponse;
+import com.chirper.frontend.application.exception.UnauthorizedException;
+import com.chirper.frontend.infrastructure.session.JwtSessionManager;
+import com.chirper.frontend.infrastructure.stream.TimelineHeadCache;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckNewTweetsUseCaseTest {
+
+    @Mock
+    private TimelineHeadCache headCache;
+
+    @Mock
+    private JwtSessionManager sessionManager;
+
+    @Mock
+    private HttpServletRequest request;
+
+    private CheckNewTweetsUseCase checkNewTweetsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        checkNewTweetsUseCase = new CheckNewTweetsUseCase(headCache, sessionManager);
+    }
+
+    @Test
+    void shouldCountTweetsNewerThanSince() {
+        // Arrange
+        when(sessionManager.getJwtToken(request)).thenReturn("valid-token");
+        when(sessionManager.getUserId(request)).thenReturn("user123");
+        when(headCache.getHead("user123", "valid-token")).thenReturn(List.of("tweet3", "tweet2", "tweet1"));
+
+        // Act
+        NewTweetsResponse response = checkNewTweetsUseCase.execute(request, "tweet1");
+
+        // Assert
+        assertEquals(2, response.count());
+        assertEquals("tweet3", response.cursor());
+        assertFalse(response.hasMore());
+    }
+
+    @Test
+    void shouldReturnZeroWhenUpToDate() {
+        // Arrange
+        when(sessionManager.getJwtToken(request)).thenReturn("valid-token");
+        when(sessionManager.getUserId(request)).thenReturn("user123");
+        when(headCache.getHead("user123", "valid-token")).thenReturn(List.of("tweet3", "tweet2"));
+
+        // Act
+        NewTweetsResponse response = checkNewTweetsUseCase.execute(request, "tweet3");
+
+        // Assert
+        assertEquals(0, response.count());
+        assertEquals("tweet3", response.cursor());
+    }
+
+    @Test
+    void shouldReportHasMoreWhenSinceIsOutOfRange() {
+        // Arrange
+        when(sessionManager.getJwtToken(request)).thenReturn("valid-token");
+        when(sessionManager.getUserId(request)).thenReturn("user123");
+        when(headCache.getHead("user123", "valid-token")).thenReturn(List.of("tweet9", "tweet8"));
+
+        // Act
+        NewTweetsResponse response = checkNewTweetsUseCase.execute(request, "tweet1");
+
+        // Assert
+        assertEquals(2, response.count());
+        assertTrue(response.hasMore());
+    }
+
+    @Test
+    void shouldKeepCursorWhenTimelineIsEmpty() {
+        // Arrange
+        when(sessionManager.getJwtToken(request)).thenReturn("valid-token");
+        when(sessionManager.getUserId(request)).thenReturn("user123");
+        when(headCache.getHead("user123", "valid-token")).thenReturn(List.of());
+
+        // Act
+        NewTweetsResponse response = checkNewTweetsUseCase.execute(request, null);
+
+        // Assert
+        assertEquals(0, response.count());
+        assertNull(response.cursor());
+        assertFalse(response.hasMore());
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void shouldThrowUnauthorizedExceptionForInvalidToken(String token) {
+        // Arrange
+        when(sessionManager.getJwtToken(request)).thenReturn(token);
+
+        // Act & Assert
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class,
+                () -> checkNewTweetsUseCase.execute(request, "tweet1"));
+
+        assertEquals("ログインが必要です", exception.getMessage());
+        verifyNoInteractions(headCache);
+    }
+}
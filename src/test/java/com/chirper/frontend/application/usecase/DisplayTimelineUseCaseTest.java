@@ -7,6 +7,7 @@ import com.chirper.frontend.application.service.ITimelineFormattingService;
 import com.chirper.frontend.domain.model.TimelineViewModel;
 import com.chirper.frontend.domain.repository.IBackendApiRepository;
 import com.chirper.frontend.infrastructure.session.JwtSessionManager;
+import com.chirper.frontend.infrastructure.stream.TimelineHeadCache;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,9 @@ class DisplayTimelineUseCaseTest {
     @Mock
     private JwtSessionManager sessionManager;
 
+    @Mock
+    private TimelineHeadCache headCache;
+
     @Mock
     private HttpServletRequest request;
 
@@ -45,7 +49,8 @@ class DisplayTimelineUseCaseTest {
         displayTimelineUseCase = new DisplayTimelineUseCase(
                 apiRepository,
                 formattingService,
-                sessionManager
+                sessionManager,
+                headCache
         );
     }
 
@@ -89,4 +94,34 @@ class DisplayTimelineUseCaseTest {
         assertEquals("ログインが必要です", exception.getMessage());
         verify(apiRepository, never()).getTimeline(any(), anyInt(), anyInt());
     }
+
+    @Test
+    void shouldRecordTimelineHeadOnFirstPage() {
+        // Arrange
+        List<TweetDto> tweets = List.of(
+                new TweetDto("2", "user1", "testuser", "Hello!", Instant.now(), 0, 0, false, false),
+                new TweetDto("1", "user1", "testuser", "Hi!", Instant.now(), 0, 0, false, false));
+        when(sessionManager.getJwtToken(request)).thenReturn("jwt-token-123");
+        when(sessionManager.getUserId(request)).thenReturn("user123");
+        when(apiRepository.getTimeline("jwt-token-123", 0, 20)).thenReturn(new TimelineDto(tweets, 0, 1, 2L));
+
+        // Act
+        displayTimelineUseCase.execute(request, 0, 20);
+
+        // Assert - 新着確認がBackendを呼ばずに応答できるよう先頭を記録する
+        verify(headCache).update("user123", tweets);
+    }
+
+    @Test
+    void shouldNotRecordTimelineHeadOnLaterPages() {
+        // Arrange
+        when(sessionManager.getJwtToken(request)).thenReturn("jwt-token-123");
+        when(apiRepository.getTimeline("jwt-token-123", 2, 20)).thenReturn(new TimelineDto(List.of(), 2, 3, 40L));
+
+        // Act
+        displayTimelineUseCase.execute(request, 2, 20);
+
+        // Assert
+        verifyNoInteractions(headCache);
+    }
 }
@@ -2,6 +2,7 @@ package com.chirper.frontend.application.usecase;
 
 import com.chirper.frontend.application.dto.UserProfileDto;
 import com.chirper.frontend.domain.repository.IBackendApiRepository;
+import com.chirper.frontend.domain.valueobject.FieldProjection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -57,4 +58,22 @@ class DisplayUserProfileUseCaseTest {
                 () -> displayUserProfileUseCase.execute(username));
         verify(apiRepository).getUserProfile(username);
     }
+
+    @Test
+    void shouldFetchOnlyRequestedFields() {
+        // Arrange
+        String username = "testuser";
+        FieldProjection fields = FieldProjection.of("username", "bio");
+        UserProfileDto partialProfile = new UserProfileDto(null, username, null, "Bio text", 0, 0, false);
+        when(apiRepository.getUserProfile(username, fields)).thenReturn(partialProfile);
+
+        // Act
+        UserProfileDto result = displayUserProfileUseCase.execute(username, fields);
+
+        // Assert
+        assertEquals("Bio text", result.bio());
+        assertNull(result.email());
+        verify(apiRepository).getUserProfile(username, fields);
+        verify(apiRepository, never()).getUserProfile(username);
+    }
 }
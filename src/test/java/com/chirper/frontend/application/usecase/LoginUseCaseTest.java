@@ -1,6 +1,7 @@
 package com.chirper.frontend.application.usecase;
 
 import com.chirper.frontend.application.dto.LoginResponse;
+import com.chirper.frontend.application.exception.TooManyAttemptsException;
 import com.chirper.frontend.application.exception.UnauthorizedException;
 import com.chirper.frontend.application.exception.ValidationException;
 import com.chirper.frontend.domain.repository.IBackendApiRepository;
@@ -8,6 +9,7 @@ import com.chirper.frontend.domain.service.IClientValidationService;
 import com.chirper.frontend.domain.valueobject.FieldError;
 import com.chirper.frontend.domain.valueobject.ValidationResult;
 import com.chirper.frontend.infrastructure.exception.BackendApiException;
+import com.chirper.frontend.infrastructure.ratelimit.LoginAttemptThrottler;
 import com.chirper.frontend.infrastructure.session.JwtSessionManager;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +37,9 @@ class LoginUseCaseTest {
     @Mock
     private JwtSessionManager sessionManager;
 
+    @Mock
+    private LoginAttemptThrottler throttler;
+
     @Mock
     private HttpServletRequest request;
 
@@ -42,7 +47,7 @@ class LoginUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        loginUseCase = new LoginUseCase(apiRepository, validationService, sessionManager);
+        loginUseCase = new LoginUseCase(apiRepository, validationService, sessionManager, throttler);
     }
 
     @Test
@@ -55,6 +60,7 @@ class LoginUseCaseTest {
 
         when(validationService.validateLoginForm(username, password))
                 .thenReturn(ValidationResult.valid());
+        when(throttler.tryAcquire(eq(username), any())).thenReturn(true);
         when(apiRepository.login(username, password))
                 .thenReturn(new LoginResponse(jwtToken, userId));
 
@@ -66,6 +72,8 @@ class LoginUseCaseTest {
         assertEquals(jwtToken, response.jwtToken());
         assertEquals(userId, response.userId());
         verify(sessionManager).saveJwtToken(request, jwtToken, userId, username);
+        // 成功した試行は予約を取り消す
+        verify(throttler).release(eq(username), any());
     }
 
     @Test
@@ -99,6 +107,7 @@ class LoginUseCaseTest {
 
         when(validationService.validateLoginForm(username, password))
                 .thenReturn(ValidationResult.valid());
+        when(throttler.tryAcquire(eq(username), any())).thenReturn(true);
         when(apiRepository.login(username, password))
                 .thenThrow(new UnauthorizedException("ユーザー名またはパスワードが正しくありません"));
 
@@ -109,6 +118,8 @@ class LoginUseCaseTest {
 
         assertEquals("ユーザー名またはパスワードが正しくありません", exception.getMessage());
         verify(sessionManager, never()).saveJwtToken(any(), any(), any(), any());
+        verify(throttler).recordFailure(eq(username), any());
+        verify(throttler, never()).release(any(), any());
     }
 
     @Test
@@ -119,6 +130,7 @@ class LoginUseCaseTest {
 
         when(validationService.validateLoginForm(username, password))
                 .thenReturn(ValidationResult.valid());
+        when(throttler.tryAcquire(eq(username), any())).thenReturn(true);
         when(apiRepository.login(username, password))
                 .thenThrow(new BackendApiException("Server error", 500));
 
@@ -129,5 +141,29 @@ class LoginUseCaseTest {
 
         assertEquals("Server error", exception.getMessage());
         verify(sessionManager, never()).saveJwtToken(any(), any(), any(), any());
+        verify(throttler, never()).recordFailure(any(), any());
+        // Backendの障害は認証失敗として数えない
+        verify(throttler).release(eq(username), any());
+    }
+
+    @Test
+    void shouldRejectWithoutCallingBackendWhenThrottled() {
+        // Arrange
+        String username = "testuser";
+        String password = "password123";
+
+        when(validationService.validateLoginForm(username, password))
+                .thenReturn(ValidationResult.valid());
+        when(request.getRemoteAddr()).thenReturn("192.0.2.1");
+        when(throttler.tryAcquire(username, "192.0.2.1")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(TooManyAttemptsException.class, () ->
+                loginUseCase.execute(request, username, password)
+        );
+
+        verify(apiRepository, never()).login(any(), any());
+        verify(sessionManager, never()).saveJwtToken(any(), any(), any(), any());
+        verify(throttler, never()).release(any(), any());
     }
 }
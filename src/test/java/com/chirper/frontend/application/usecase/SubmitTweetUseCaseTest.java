@@ -7,6 +7,9 @@ import com.chirper.frontend.domain.repository.IBackendApiRepository;
 import com.chirper.frontend.domain.service.IClientValidationService;
 import com.chirper.frontend.domain.valueobject.FieldError;
 import com.chirper.frontend.domain.valueobject.ValidationResult;
+import com.chirper.frontend.infrastructure.exception.BackendApiException;
+import com.chirper.frontend.infrastructure.idempotency.SubmissionDeduplicator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import com.chirper.frontend.infrastructure.session.JwtSessionManager;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +20,7 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
@@ -42,7 +46,9 @@ class SubmitTweetUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        submitTweetUseCase = new SubmitTweetUseCase(apiRepository, validationService, sessionManager);
+        SubmissionDeduplicator deduplicator = new SubmissionDeduplicator(
+                new SimpleMeterRegistry(), Duration.ofMinutes(5), 100);
+        submitTweetUseCase = new SubmitTweetUseCase(apiRepository, validationService, sessionManager, deduplicator);
     }
 
     @Test
@@ -103,4 +109,67 @@ class SubmitTweetUseCaseTest {
         assertEquals("ログインが必要です", exception.getMessage());
         verify(apiRepository, never()).createTweet(any(), any());
     }
+
+    @Test
+    void shouldReturnFirstResultForDuplicateSubmission() {
+        // Arrange
+        String content = "Hello, world!";
+        String jwtToken = "valid-token";
+        String idempotencyKey = "key-123";
+        TweetDto expectedTweet = new TweetDto(
+                "tweet123", "user123", "testuser", content,
+                Instant.now(), 0, 0, false, false
+        );
+
+        when(validationService.validateTweetForm(content)).thenReturn(ValidationResult.valid());
+        when(sessionManager.getJwtToken(request)).thenReturn(jwtToken);
+        when(apiRepository.createTweet(jwtToken, content, idempotencyKey)).thenReturn(expectedTweet);
+
+        // Act - 二重送信
+        TweetDto first = submitTweetUseCase.execute(request, content, idempotencyKey);
+        TweetDto second = submitTweetUseCase.execute(request, content, idempotencyKey);
+
+        // Assert - Backendは1回だけ呼ばれ、同じ結果が返る
+        assertSame(first, second);
+        verify(apiRepository, times(1)).createTweet(jwtToken, content, idempotencyKey);
+    }
+
+    @Test
+    void shouldSubmitAgainForDifferentIdempotencyKey() {
+        // Arrange
+        String content = "Hello, world!";
+        String jwtToken = "valid-token";
+
+        when(validationService.validateTweetForm(content)).thenReturn(ValidationResult.valid());
+        when(sessionManager.getJwtToken(request)).thenReturn(jwtToken);
+
+        // Act
+        submitTweetUseCase.execute(request, content, "key-1");
+        submitTweetUseCase.execute(request, content, "key-2");
+
+        // Assert
+        verify(apiRepository).createTweet(jwtToken, content, "key-1");
+        verify(apiRepository).createTweet(jwtToken, content, "key-2");
+    }
+
+    @Test
+    void shouldAllowRetryAfterFailedSubmission() {
+        // Arrange
+        String content = "Hello, world!";
+        String jwtToken = "valid-token";
+        String idempotencyKey = "key-123";
+
+        when(validationService.validateTweetForm(content)).thenReturn(ValidationResult.valid());
+        when(sessionManager.getJwtToken(request)).thenReturn(jwtToken);
+        when(apiRepository.createTweet(jwtToken, content, idempotencyKey))
+                .thenThrow(new BackendApiException("Backend APIエラー", 503))
+                .thenReturn(null);
+
+        // Act & Assert - 失敗した送信は記録されず、同じキーで再試行できる
+        assertThrows(BackendApiException.class,
+                () -> submitTweetUseCase.execute(request, content, idempotencyKey));
+        submitTweetUseCase.execute(request, content, idempotencyKey);
+
+        verify(apiRepository, times(2)).createTweet(jwtToken, content, idempotencyKey);
+    }
 }
@@ -0,0 +1,79 @@
+package com.chirper.frontend.application.usecase;
+
+import com.chirper.frontend.application.exception.UnauthorizedException;
+import com.chirper.frontend.infrastructure.session.JwtSessionManager;
+import com.chirper.frontend.infrastructure.stream.TimelineUpdateBroadcaster;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubscribeTimelineUpdatesUseCaseTest {
+
+    @Mock
+    private TimelineUpdateBroadcaster broadcaster;
+
+    @Mock
+    private JwtSessionManager sessionManager;
+
+    @Mock
+    private HttpServletRequest request;
+
+    private SubscribeTimelineUpdatesUseCase subscribeTimelineUpdatesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        subscribeTimelineUpdatesUseCase = new SubscribeTimelineUpdatesUseCase(broadcaster, sessionManager);
+    }
+
+    @Test
+    void shouldSubscribeToUserFeed() {
+        // Arrange
+        SseEmitter emitter = new SseEmitter();
+        when(sessionManager.getJwtToken(request)).thenReturn("valid-token");
+        when(sessionManager.getUserId(request)).thenReturn("user123");
+        when(broadcaster.subscribe("user123", "valid-token", "tweet1")).thenReturn(emitter);
+
+        // Act
+        SseEmitter result = subscribeTimelineUpdatesUseCase.execute(request, "tweet1");
+
+        // Assert
+        assertSame(emitter, result);
+    }
+
+    @Test
+    void shouldFallBackToTokenWhenUserIdIsMissing() {
+        // Arrange
+        when(sessionManager.getJwtToken(request)).thenReturn("valid-token");
+        when(sessionManager.getUserId(request)).thenReturn(null);
+
+        // Act
+        subscribeTimelineUpdatesUseCase.execute(request, null);
+
+        // Assert
+        verify(broadcaster).subscribe("valid-token", "valid-token", null);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void shouldThrowUnauthorizedExceptionForInvalidToken(String token) {
+        // Arrange
+        when(sessionManager.getJwtToken(request)).thenReturn(token);
+
+        // Act & Assert
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class,
+                () -> subscribeTimelineUpdatesUseCase.execute(request, null));
+
+        assertEquals("ログインが必要です", exception.getMessage());
+        verifyNoInteractions(broadcaster);
+    }
+}
@@ -0,0 +1,127 @@
+package com.chirper.frontend.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginationViewModelTest {
+
+    @Test
+    void getLinks_総ページ数が1以下の場合は空リストを返す() {
+        // Arrange
+        PaginationViewModel pagination = PaginationViewModel.of(0, 1);
+
+        // Act & Assert
+        assertTrue(pagination.getLinks().isEmpty(), "単一ページの場合、リンクは生成されない");
+        assertFalse(pagination.isDisplayable(), "単一ページの場合、ページネーションは表示しない");
+    }
+
+    @Test
+    void getLinks_総ページ数が少ない場合は全ページを省略なしで返す() {
+        // Arrange
+        PaginationViewModel pagination = PaginationViewModel.of(1, 4);
+
+        // Act
+        List<PaginationViewModel.PageLink> links = pagination.getLinks();
+
+        // Assert
+        assertEquals(List.of("1", "2", "3", "4"), labels(links), "4ページの場合、全ページが省略なしで表示される");
+        assertTrue(links.get(1).isCurrent(), "現在ページがアクティブになる");
+    }
+
+    @Test
+    void getLinks_中間ページの場合は先頭と末尾と前後のページを省略記号で区切って返す() {
+        // Arrange
+        PaginationViewModel pagination = PaginationViewModel.of(50, 100);
+
+        // Act
+        List<String> labels = labels(pagination.getLinks());
+
+        // Assert
+        assertEquals(List.of("1", "…", "49", "50", "51", "52", "53", "…", "100"), labels,
+                "現在ページ±2と先頭/末尾のみが表示される");
+    }
+
+    @Test
+    void getLinks_先頭付近のページの場合は先頭側の省略記号を出さない() {
+        // Arrange
+        PaginationViewModel pagination = PaginationViewModel.of(1, 100);
+
+        // Act
+        List<String> labels = labels(pagination.getLinks());
+
+        // Assert
+        assertEquals(List.of("1", "2", "3", "4", "…", "100"), labels);
+    }
+
+    @Test
+    void getLinks_末尾付近のページの場合は末尾側の省略記号を出さない() {
+        // Arrange
+        PaginationViewModel pagination = PaginationViewModel.of(98, 100);
+
+        // Act
+        List<String> labels = labels(pagination.getLinks());
+
+        // Assert
+        assertEquals(List.of("1", "…", "97", "98", "99", "100"), labels);
+    }
+
+    @Test
+    void getLinks_ウィンドウが先頭に隣接する場合は省略記号を出さない() {
+        // Arrange: 現在ページ3 (表示4) の場合、ウィンドウは1〜5で先頭(0)に隣接する
+        PaginationViewModel pagination = PaginationViewModel.of(3, 10);
+
+        // Act
+        List<String> labels = labels(pagination.getLinks());
+
+        // Assert
+        assertEquals(List.of("1", "2", "3", "4", "5", "6", "…", "10"), labels);
+    }
+
+    @Test
+    void getLinks_総ページ数に関わらずリンク数は一定以下に収まる() {
+        // Arrange
+        PaginationViewModel small = PaginationViewModel.of(500, 1_000);
+        PaginationViewModel large = PaginationViewModel.of(500_000, 1_000_000);
+
+        // Act & Assert
+        int maxLinks = 2 * PaginationViewModel.DEFAULT_RADIUS + 5;
+        assertTrue(small.getLinks().size() <= maxLinks);
+        assertEquals(small.getLinks().size(), large.getLinks().size(),
+                "総ページ数が増えてもリンク数は変わらない");
+    }
+
+    @Test
+    void hasPreviousPageとhasNextPage_先頭と末尾で正しく判定する() {
+        // Arrange
+        PaginationViewModel first = PaginationViewModel.of(0, 3);
+        PaginationViewModel last = PaginationViewModel.of(2, 3);
+
+        // Act & Assert
+        assertFalse(first.hasPreviousPage());
+        assertTrue(first.hasNextPage());
+        assertEquals(1, first.getNextPage());
+        assertTrue(last.hasPreviousPage());
+        assertFalse(last.hasNextPage());
+        assertEquals(1, last.getPreviousPage());
+    }
+
+    @Test
+    void constructor_負の値の場合は例外をスローする() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new PaginationViewModel(-1, 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new PaginationViewModel(0, -1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new PaginationViewModel(0, 1, -1));
+    }
+
+    /**
+     * リンクを表示ラベルの文字列リストに変換するヘルパーメソッド
+     */
+    private List<String> labels(List<PaginationViewModel.PageLink> links) {
+        return links.stream()
+                .map(link -> link.isEllipsis() ? "…" : String.valueOf(link.getLabel()))
+                .toList();
+    }
+}
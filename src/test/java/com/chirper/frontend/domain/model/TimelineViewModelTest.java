@@ -77,6 +77,25 @@ class TimelineViewModelTest {
         assertFalse(viewModel.isEmpty(), "ツイートリストにデータがある場合、isEmptyはfalseを返す");
     }
 
+    @Test
+    void getPagination_現在ページと総ページ数からページネーションを構築する() {
+        // Arrange
+        TimelineViewModel viewModel = new TimelineViewModel(
+            Collections.emptyList(),
+            5,   // currentPage
+            1000 // totalPages
+        );
+
+        // Act
+        PaginationViewModel pagination = viewModel.getPagination();
+
+        // Assert
+        assertEquals(5, pagination.getCurrentPage());
+        assertEquals(1000, pagination.getTotalPages());
+        assertTrue(pagination.getLinks().size() <= 2 * PaginationViewModel.DEFAULT_RADIUS + 5,
+            "総ページ数が多くてもリンク数はウィンドウ幅に収まる");
+    }
+
     @Test
     void constructor_ツイートリストがnullの場合は例外をスローする() {
         // Act & Assert
@@ -2,6 +2,7 @@ package com.chirper.frontend.domain.model;
 
 import com.chirper.frontend.domain.valueobject.TweetContent;
 import com.chirper.frontend.domain.valueobject.DisplayTimestamp;
+import com.chirper.frontend.domain.valueobject.UserIdentity;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
@@ -111,6 +112,29 @@ class TweetViewModelTest {
         });
     }
 
+    @Test
+    void constructor_投稿者を共有して構築できる() {
+        // Arrange
+        UserIdentity author = new UserIdentity("user1", "alice", null, null);
+
+        // Act
+        TweetViewModel first = new TweetViewModel("tweet1", author, null, null, 0, 0, false, false);
+        TweetViewModel second = new TweetViewModel("tweet2", author, null, null, 0, 0, false, false);
+
+        // Assert
+        assertSame(first.getAuthor(), second.getAuthor());
+        assertEquals("user1", second.getUserId());
+        assertEquals("alice", second.getDisplayName(), "表示名がない場合はユーザー名を返す");
+        assertTrue(second.canDelete("user1"));
+    }
+
+    @Test
+    void constructor_投稿者がnullの場合は例外をスローする() {
+        // Act & Assert
+        assertThrows(NullPointerException.class, () ->
+            new TweetViewModel("tweet1", (UserIdentity) null, null, null, 0, 0, false, false));
+    }
+
     /**
      * 基本的なTweetViewModelを生成するヘルパーメソッド
      */
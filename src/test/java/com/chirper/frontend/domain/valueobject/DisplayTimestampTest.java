@@ -3,6 +3,7 @@ package com.chirper.frontend.domain.valueobject;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -95,6 +96,89 @@ class DisplayTimestampTest {
             "絶対時刻形式である: " + result);
     }
 
+    @Test
+    void toRelativeTime_RenderClockの現在時刻を基準にする() {
+        // Arrange
+        Instant now = Instant.parse("2025-12-23T14:30:00Z");
+        RenderClock clock = new RenderClock(now, ZoneId.of("UTC"));
+
+        // Act & Assert
+        assertEquals("たった今", new DisplayTimestamp(now.minusSeconds(59)).toRelativeTime(clock));
+        assertEquals("1分前", new DisplayTimestamp(now.minusSeconds(60)).toRelativeTime(clock));
+        assertEquals("59分前", new DisplayTimestamp(now.minus(59, ChronoUnit.MINUTES)).toRelativeTime(clock));
+        assertEquals("1時間前", new DisplayTimestamp(now.minus(60, ChronoUnit.MINUTES)).toRelativeTime(clock));
+        assertEquals("23時間前", new DisplayTimestamp(now.minus(24, ChronoUnit.HOURS).plusSeconds(1)).toRelativeTime(clock));
+        assertEquals("1日前", new DisplayTimestamp(now.minus(24, ChronoUnit.HOURS)).toRelativeTime(clock));
+        assertEquals("6日前", new DisplayTimestamp(now.minus(7, ChronoUnit.DAYS).plusSeconds(1)).toRelativeTime(clock));
+        assertEquals("12月16日", new DisplayTimestamp(now.minus(7, ChronoUnit.DAYS)).toRelativeTime(clock));
+    }
+
+    @Test
+    void toRelativeTime_未来の時刻の場合はたった今を返す() {
+        // Arrange
+        Instant now = Instant.parse("2025-12-23T14:30:00Z");
+        RenderClock clock = new RenderClock(now, ZoneId.of("UTC"));
+
+        // Act & Assert
+        assertEquals("たった今", new DisplayTimestamp(now.plus(5, ChronoUnit.MINUTES)).toRelativeTime(clock));
+    }
+
+    @Test
+    void toRelativeTime_秒未満の端数は切り捨てる() {
+        // Arrange: 59.9秒前
+        Instant now = Instant.parse("2025-12-23T14:30:00.100Z");
+        Instant timestamp = Instant.parse("2025-12-23T14:29:00.200Z");
+
+        // Act
+        String result = new DisplayTimestamp(timestamp).toRelativeTime(new RenderClock(now, ZoneId.of("UTC")));
+
+        // Assert
+        assertEquals("たった今", result);
+    }
+
+    @Test
+    void toRelativeTime_日付はRenderClockのタイムゾーンで表示する() {
+        // Arrange: UTCでは12月15日、東京では12月16日
+        Instant now = Instant.parse("2025-12-23T14:30:00Z");
+        DisplayTimestamp timestamp = new DisplayTimestamp(Instant.parse("2025-12-15T20:00:00Z"));
+
+        // Act & Assert
+        assertEquals("12月15日", timestamp.toRelativeTime(new RenderClock(now, ZoneId.of("UTC"))));
+        assertEquals("12月16日", timestamp.toRelativeTime(new RenderClock(now, ZoneId.of("Asia/Tokyo"))));
+    }
+
+    @Test
+    void toAbsoluteTime_RenderClockのタイムゾーンで表示する() {
+        // Arrange
+        DisplayTimestamp timestamp = new DisplayTimestamp(Instant.parse("2025-12-23T14:30:45Z"));
+        RenderClock clock = new RenderClock(Instant.parse("2025-12-24T00:00:00Z"), ZoneId.of("Asia/Tokyo"));
+
+        // Act & Assert
+        assertEquals("2025年12月23日 14:30", timestamp.toAbsoluteTime(new RenderClock(clock.getNow(), ZoneId.of("UTC"))));
+        assertEquals("2025年12月23日 23:30", timestamp.toAbsoluteTime(clock));
+    }
+
+    @Test
+    void toAbsoluteTime_同じ分の時刻は整形済みの文字列を共有する() {
+        // Arrange
+        RenderClock clock = new RenderClock(Instant.parse("2025-12-24T00:00:00Z"), ZoneId.of("UTC"));
+        DisplayTimestamp first = new DisplayTimestamp(Instant.parse("2025-12-23T14:30:05Z"));
+        DisplayTimestamp second = new DisplayTimestamp(Instant.parse("2025-12-23T14:30:55Z"));
+
+        // Act & Assert
+        assertSame(first.toAbsoluteTime(clock), second.toAbsoluteTime(clock), "キャッシュされた文字列が返される");
+    }
+
+    @Test
+    void toRelativeTime_RenderClockがnullの場合はシステムの現在時刻を使う() {
+        // Arrange
+        DisplayTimestamp timestamp = new DisplayTimestamp(Instant.now().minus(5, ChronoUnit.MINUTES));
+
+        // Act & Assert
+        assertEquals("5分前", timestamp.toRelativeTime(null));
+        assertTrue(timestamp.toAbsoluteTime(null).matches("\\d{4}年\\d{1,2}月\\d{1,2}日 \\d{1,2}:\\d{2}"));
+    }
+
     @Test
     void constructor_nullの場合は例外をスローする() {
         // Act & Assert
@@ -0,0 +1,80 @@
+package com.chirper.frontend.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldProjectionTest {
+
+    @Test
+    void of_指定した順序でクエリ値を生成する() {
+        // Arrange & Act
+        FieldProjection projection = FieldProjection.of("username", "bio");
+
+        // Assert
+        assertEquals(Optional.of("username,bio"), projection.queryValue());
+        assertEquals(List.of("username", "bio"), projection.getFields());
+        assertFalse(projection.isAll());
+    }
+
+    @Test
+    void of_重複したフィールドは1つにまとめる() {
+        // Arrange & Act
+        FieldProjection projection = FieldProjection.of("bio", "username", "bio");
+
+        // Assert
+        assertEquals(Optional.of("bio,username"), projection.queryValue());
+    }
+
+    @Test
+    void of_不正なフィールド名の場合は例外をスローする() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> FieldProjection.of());
+        assertThrows(IllegalArgumentException.class, () -> FieldProjection.of("bio", null));
+        assertThrows(IllegalArgumentException.class, () -> FieldProjection.of("bio&admin=true"));
+        assertThrows(IllegalArgumentException.class, () -> FieldProjection.of("user name"));
+    }
+
+    @Test
+    void ALL_クエリ値を持たずすべてのフィールドを含む() {
+        // Act & Assert
+        assertTrue(FieldProjection.ALL.isAll());
+        assertEquals(Optional.empty(), FieldProjection.ALL.queryValue());
+        assertTrue(FieldProjection.ALL.includes("email"));
+    }
+
+    @Test
+    void includes_指定したフィールドのみ含む() {
+        // Arrange
+        FieldProjection projection = FieldProjection.of("username", "bio");
+
+        // Act & Assert
+        assertTrue(projection.includes("bio"));
+        assertFalse(projection.includes("email"));
+    }
+
+    @Test
+    void with_フィールドを追加した射影を返し元の射影は変更しない() {
+        // Arrange
+        FieldProjection base = FieldProjection.of("username", "bio");
+
+        // Act
+        FieldProjection extended = base.with("email");
+
+        // Assert
+        assertTrue(extended.includes("email"));
+        assertFalse(base.includes("email"));
+        assertSame(FieldProjection.ALL, FieldProjection.ALL.with("email"));
+    }
+
+    @Test
+    void equals_同じフィールドの射影は等しい() {
+        // Act & Assert
+        assertEquals(FieldProjection.of("username", "bio"), FieldProjection.of("username", "bio"));
+        assertEquals(FieldProjection.of("username", "bio").hashCode(), FieldProjection.of("username", "bio").hashCode());
+        assertNotEquals(FieldProjection.of("username", "bio"), FieldProjection.of("bio", "username"));
+    }
+}
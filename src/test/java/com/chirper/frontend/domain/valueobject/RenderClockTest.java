@@ -0,0 +1,40 @@
+package com.chirper.frontend.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderClockTest {
+
+    @Test
+    void constructor_現在時刻とタイムゾーンを保持する() {
+        // Arrange
+        Instant now = Instant.parse("2025-12-23T14:30:00Z");
+
+        // Act
+        RenderClock clock = new RenderClock(now, ZoneId.of("Asia/Tokyo"));
+
+        // Assert
+        assertEquals(now, clock.getNow());
+        assertEquals(ZoneId.of("Asia/Tokyo"), clock.getZone());
+    }
+
+    @Test
+    void constructor_nullの場合は例外をスローする() {
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> new RenderClock(null, ZoneId.of("UTC")));
+        assertThrows(NullPointerException.class, () -> new RenderClock(Instant.now(), null));
+    }
+
+    @Test
+    void system_システムのタイムゾーンを使う() {
+        // Act
+        RenderClock clock = RenderClock.system();
+
+        // Assert
+        assertEquals(ZoneId.systemDefault(), clock.getZone());
+    }
+}
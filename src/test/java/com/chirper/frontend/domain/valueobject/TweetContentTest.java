@@ -64,6 +64,38 @@ class TweetContentTest {
         });
     }
 
+    @Test
+    void constructor_全角文字は2文字として数える() {
+        // Act & Assert
+        assertDoesNotThrow(() -> new TweetContent("あ".repeat(140)));
+        assertThrows(IllegalArgumentException.class, () -> new TweetContent("あ".repeat(141)));
+    }
+
+    @Test
+    void constructor_URLは長さに関わらず23文字として数える() {
+        // Arrange: 257文字 + 空白 + 長いURL（23文字として数える）= 281文字
+        String text = "a".repeat(256) + " https://example.com/" + "x".repeat(100);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new TweetContent("a" + text));
+        assertDoesNotThrow(() -> new TweetContent(text));
+    }
+
+    @Test
+    void ofPublished_投稿済みの本文は文字数を検査しない() {
+        // Act
+        TweetContent content = TweetContent.ofPublished("あ".repeat(280));
+
+        // Assert
+        assertEquals(280, content.getRawText().length());
+    }
+
+    @Test
+    void ofPublished_空文字列の場合は例外をスローする() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> TweetContent.ofPublished(" "));
+    }
+
     @Test
     void toHighlightedHtml_メンションを含むツイートの場合はリンクに変換される() {
         // Arrange
@@ -126,4 +158,51 @@ class TweetContentTest {
         // Act & Assert
         assertEquals(originalText, content.getRawText());
     }
+
+    @Test
+    void toHighlightedHtml_エンティティを含まない本文はエスケープのみ行う() {
+        // Arrange
+        TweetContent content = new TweetContent("<b>太字</b> & \"引用\"");
+
+        // Act
+        String html = content.toHighlightedHtml();
+
+        // Assert
+        assertEquals("&lt;b&gt;太字&lt;/b&gt; &amp; &quot;引用&quot;", html);
+    }
+
+    @Test
+    void getMentions_エンティティを含まない本文は共有の空リストを返す() {
+        // Arrange
+        TweetContent first = new TweetContent("ただのテキスト");
+        TweetContent second = new TweetContent("別のテキスト");
+
+        // Act & Assert
+        assertTrue(first.getMentions().isEmpty());
+        assertTrue(first.getHashtags().isEmpty());
+        assertTrue(first.getUrls().isEmpty());
+        assertSame(first.getMentions(), second.getMentions(), "空リストはインスタンス間で共有される");
+    }
+
+    @Test
+    void getMentions_必要になった時点で抽出する() {
+        // Arrange
+        TweetContent content = new TweetContent("@alice と @bob に #挨拶");
+
+        // Act & Assert
+        assertEquals(2, content.getMentions().size());
+        assertEquals("bob", content.getMentions().get(1).getUsername());
+        assertEquals(1, content.getHashtags().size());
+        assertTrue(content.getUrls().isEmpty());
+        assertSame(content.getMentions(), content.getMentions(), "抽出は1回だけ行う");
+    }
+
+    @Test
+    void getMentions_抽出結果は変更できない() {
+        // Arrange
+        TweetContent content = new TweetContent("@alice こんにちは");
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> content.getMentions().clear());
+    }
 }
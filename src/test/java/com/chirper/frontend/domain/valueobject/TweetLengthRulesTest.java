@@ -0,0 +1,97 @@
+package com.chirper.frontend.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TweetLengthRulesTest {
+
+    private final TweetLengthRules rules = TweetLengthRules.DEFAULT;
+
+    @Test
+    void weightedLength_ラテン文字は1文字として数える() {
+        // Act & Assert
+        assertEquals(5, rules.weightedLength("hello"));
+        assertEquals(0, rules.weightedLength(""));
+    }
+
+    @Test
+    void weightedLength_全角文字は2文字として数える() {
+        // Act & Assert
+        assertEquals(10, rules.weightedLength("こんにちは"));
+        assertEquals(7, rules.weightedLength("abc漢字"));
+    }
+
+    @Test
+    void weightedLength_サロゲートペアは1コードポイントとして数える() {
+        // Act & Assert: 絵文字はUTF-16で2単位だが1コードポイント（重み2）
+        assertEquals(3, rules.weightedLength("😀a"));
+    }
+
+    @Test
+    void weightedLength_一般句読点の範囲は1文字として数える() {
+        // Act & Assert: ‘ ’ と — は1文字
+        assertEquals(14, rules.weightedLength("‘quote’ — dash"));
+    }
+
+    @Test
+    void weightedLength_URLは長さに関わらず固定長で数える() {
+        // Act & Assert
+        assertEquals(23, rules.weightedLength("https://example.com/" + "x".repeat(200)));
+        assertEquals(30, rules.weightedLength("see http://example.com/path ok"));
+    }
+
+    @Test
+    void weightedLength_スキームのみの場合はURLとして扱わない() {
+        // Act & Assert
+        assertEquals(9, rules.weightedLength("http:// x"));
+    }
+
+    @Test
+    void weightedLength_CRLFの改行はLFと同じく1文字として数える() {
+        // Act & Assert: ブラウザはtextareaの改行をCRLFで送信する
+        assertEquals(rules.weightedLength("a\nb\nc"), rules.weightedLength("a\r\nb\r\nc"));
+        assertEquals(5, rules.weightedLength("a\r\nb\r\nc"));
+        assertEquals(1, rules.weightedLength("\r"));
+    }
+
+    @Test
+    void isWithinLimit_改行を含む最大文字数ちょうどの本文はCRLFで送信されても有効() {
+        // Arrange: 画面上（LF）で280文字ちょうどの複数行の本文
+        String lf = "a".repeat(139) + "\n" + "b".repeat(139) + "\n";
+        String crlf = lf.replace("\n", "\r\n");
+
+        // Act & Assert
+        assertEquals(280, rules.weightedLength(lf));
+        assertTrue(rules.isWithinLimit(crlf));
+    }
+
+    @Test
+    void isWithinLimit_最大文字数ちょうどの場合は有効() {
+        // Act & Assert
+        assertTrue(rules.isWithinLimit("a".repeat(280)));
+        assertFalse(rules.isWithinLimit("a".repeat(281)));
+        assertTrue(rules.isWithinLimit("あ".repeat(140)));
+        assertFalse(rules.isWithinLimit("あ".repeat(141)));
+    }
+
+    @Test
+    void toJson_クライアントに渡すルールをすべて含む() {
+        // Act
+        String json = new TweetLengthRules(10, 100, 200, 5,
+                List.of(new TweetLengthRules.WeightRange(0, 127, 100))).toJson();
+
+        // Assert
+        assertEquals("{\"maxWeightedLength\":10,\"scale\":100,\"defaultWeight\":200,\"urlLength\":5,"
+                + "\"ranges\":[{\"start\":0,\"end\":127,\"weight\":100}]}", json);
+    }
+
+    @Test
+    void constructor_不正な設定の場合は例外をスローする() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new TweetLengthRules(0, 100, 200, 23, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new TweetLengthRules(280, 0, 200, 23, List.of()));
+    }
+}
@@ -0,0 +1,44 @@
+package com.chirper.frontend.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserIdentityTest {
+
+    @Test
+    void getDisplayName_表示名がある場合は表示名を返す() {
+        // Arrange
+        UserIdentity identity = new UserIdentity("user1", "alice", "Alice Smith", "https://example.com/a.png");
+
+        // Act & Assert
+        assertEquals("Alice Smith", identity.getDisplayName());
+        assertEquals("alice", identity.getUsername());
+        assertEquals("https://example.com/a.png", identity.getAvatarUrl());
+    }
+
+    @Test
+    void getDisplayName_表示名がない場合はユーザー名を返す() {
+        // Arrange
+        UserIdentity identity = new UserIdentity("user1", "alice", null, null);
+
+        // Act & Assert
+        assertEquals("alice", identity.getDisplayName());
+    }
+
+    @Test
+    void getDisplayName_表示名がユーザー名と同じ場合はユーザー名のインスタンスを返す() {
+        // Arrange
+        String username = "alice";
+        UserIdentity identity = new UserIdentity("user1", username, new String("alice"), null);
+
+        // Act & Assert
+        assertSame(username, identity.getDisplayName(), "同じ内容の文字列は重複して保持しない");
+    }
+
+    @Test
+    void constructor_ユーザーIDがnullの場合は例外をスローする() {
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> new UserIdentity(null, "alice", null, null));
+    }
+}
@@ -18,6 +18,16 @@ class ValidationResultTest {
         assertTrue(result.getErrors().isEmpty());
     }
 
+    @Test
+    void valid_毎回同じインスタンスを返す() {
+        // Act
+        ValidationResult first = ValidationResult.valid();
+        ValidationResult second = ValidationResult.valid();
+
+        // Assert
+        assertSame(first, second, "有効な結果は不変のため共有される");
+    }
+
     @Test
     void invalid_エラーがある場合はValidationResultを作成できる() {
         // Arrange
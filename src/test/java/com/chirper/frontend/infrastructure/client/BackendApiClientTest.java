@@ -6,19 +6,35 @@ import com.chirper.frontend.application.dto.RegisterResponse;
 import com.chirper.frontend.application.dto.TimelineDto;
 import com.chirper.frontend.application.dto.TweetDto;
 import com.chirper.frontend.application.dto.UserProfileDto;
+import com.chirper.frontend.domain.valueobject.FieldProjection;
 import com.chirper.frontend.infrastructure.exception.BackendApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
 import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -156,6 +172,147 @@ class BackendApiClientTest {
         assertFalse(request.getPath().contains("size=500"));
     }
 
+    @Test
+    void shouldPreferCborAndDecodeCborTimeline() throws Exception {
+        // Given: CBORに対応したBackendの代わりにCBORでタイムラインを返す
+        TimelineDto timeline = new TimelineDto(List.of(new TweetDto(
+                "tweet1", "user1", "alice", "hello", Instant.parse("2024-01-01T00:00:00Z"), 3, 1, true, false)),
+                0, 1, 1);
+        byte[] cbor = Jackson2ObjectMapperBuilder.cbor().build().writeValueAsBytes(timeline);
+
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(new Buffer().write(cbor))
+                .addHeader("Content-Type", "application/cbor"));
+
+        // When
+        TimelineDto response = client.getTimeline("valid-token", 0, 20);
+
+        // Then
+        assertEquals(timeline, response);
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals("application/cbor, application/json;q=0.9", request.getHeader("Accept"));
+    }
+
+    @Test
+    void shouldFallBackToJsonWhenBackendIgnoresCbor() {
+        // Given: CBOR非対応のBackendはAcceptに関わらずJSONを返す
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"tweetId\":\"tweet1\",\"username\":\"alice\"}")
+                .addHeader("Content-Type", "application/json"));
+
+        // When
+        TweetDto tweet = client.getTweet("tweet1");
+
+        // Then
+        assertEquals("alice", tweet.username());
+    }
+
+    @Test
+    void shouldRequestAndDecodeGzipCompressedTimeline() throws Exception {
+        // Given: 圧縮に対応したBackendの代わりにgzipで圧縮したJSONを返す
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResponseCompression compression = new ResponseCompression(meterRegistry, true,
+                DataSize.ofKilobytes(2), DataSize.ofKilobytes(512));
+        BackendApiClient compressingClient = new BackendApiClient(
+                WebClient.builder().baseUrl(mockWebServer.url("/").toString()).build(),
+                new BackendJsonCodec(8192, 64, false, compression));
+        String responseJson = "{\"tweets\":[{\"tweetId\":\"tweet1\",\"userId\":\"user1\",\"username\":\"alice\","
+                + "\"content\":\"" + "hello ".repeat(500) + "\",\"createdAt\":\"2024-01-01T00:00:00Z\"}],"
+                + "\"currentPage\":0,\"totalPages\":1,\"totalElements\":1}";
+        Buffer gzipped = new Buffer();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped.outputStream())) {
+            gzip.write(responseJson.getBytes(StandardCharsets.UTF_8));
+        }
+        long wireSize = gzipped.size();
+
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(gzipped)
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Content-Encoding", "gzip"));
+
+        // When
+        TimelineDto response = compressingClient.getTimeline("valid-token", 0, 20);
+
+        // Then
+        assertEquals("alice", response.tweets().get(0).username());
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals("gzip, deflate", request.getHeader("Accept-Encoding"));
+        assertEquals(wireSize, meterRegistry.get(ResponseCompression.BYTES_METRIC)
+                .tag("operation", "timeline").tag("stage", "wire").summary().totalAmount());
+        assertEquals(responseJson.length(), meterRegistry.get(ResponseCompression.BYTES_METRIC)
+                .tag("operation", "timeline").tag("stage", "decoded").summary().totalAmount());
+    }
+
+    @Test
+    void shouldResolveNormalizedTimelineUsers() {
+        // Given: 3件のツイートが2人の投稿者をユーザー表の添字で参照する
+        String responseJson = "{\"users\":[{\"userId\":\"user1\",\"username\":\"alice\"},"
+                + "{\"userId\":\"user2\",\"username\":\"bob\"}],"
+                + "\"tweets\":["
+                + "{\"tweetId\":\"t1\",\"user\":0,\"content\":\"a\",\"createdAt\":\"2024-01-01T00:00:00Z\",\"likeCount\":1},"
+                + "{\"tweetId\":\"t2\",\"user\":1,\"content\":\"b\",\"createdAt\":\"2024-01-01T00:00:00Z\"},"
+                + "{\"tweetId\":\"t3\",\"user\":0,\"content\":\"c\",\"createdAt\":\"2024-01-01T00:00:00Z\",\"likedByCurrentUser\":true}],"
+                + "\"currentPage\":0,\"totalPages\":1,\"totalElements\":3}";
+
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(responseJson)
+                .addHeader("Content-Type", "application/json"));
+
+        // When
+        TimelineDto response = client.getTimeline("valid-token", 0, 20);
+
+        // Then
+        List<TweetDto> tweets = response.tweets();
+        assertEquals(3, tweets.size());
+        assertEquals("alice", tweets.get(0).username());
+        assertEquals("user2", tweets.get(1).userId());
+        assertEquals(1, tweets.get(0).likeCount());
+        assertTrue(tweets.get(2).likedByCurrentUser());
+        assertSame(tweets.get(0).username(), tweets.get(2).username());
+        assertEquals(3, response.totalElements());
+    }
+
+    @Test
+    void shouldThrowBackendApiExceptionOnUnknownTimelineUserIndex() {
+        // Given
+        String responseJson = "{\"users\":[],\"tweets\":[{\"tweetId\":\"t1\",\"user\":0}],"
+                + "\"currentPage\":0,\"totalPages\":1,\"totalElements\":1}";
+
+        mockWebServer.enqueue(new MockResponse()
+                .setBody(responseJson)
+                .addHeader("Content-Type", "application/json"));
+
+        // When & Then
+        assertThrows(BackendApiException.class, () -> client.getTimeline("valid-token", 0, 20));
+    }
+
+    @Test
+    void shouldSendFieldsParameterForProjectedReads() throws InterruptedException {
+        // Given
+        FieldProjection fields = FieldProjection.of("username", "bio");
+        String emptyPage = "{\"currentPage\":0,\"totalPages\":1}";
+        mockWebServer.enqueue(new MockResponse().setBody(emptyPage).addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse().setBody(emptyPage).addHeader("Content-Type", "application/json"));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"username\":\"testuser\",\"bio\":\"hello\"}")
+                .addHeader("Content-Type", "application/json"));
+
+        // When
+        client.getTimeline("valid-token", 0, 20, FieldProjection.of("tweetId"));
+        client.getFollowers("valid-token", "testuser", 1, 20, fields);
+        UserProfileDto profile = client.getUserProfile("testuser", fields);
+
+        // Then
+        assertEquals("/api/v1/timeline?page=0&size=20&fields=tweetId", mockWebServer.takeRequest().getPath());
+        assertEquals("/api/v1/users/testuser/followers?page=1&size=20&fields=username,bio",
+                mockWebServer.takeRequest().getPath());
+        assertEquals("/api/v1/users/testuser?fields=username,bio", mockWebServer.takeRequest().getPath());
+        // 取得しなかったフィールドはnull・0になる
+        assertEquals("hello", profile.bio());
+        assertNull(profile.email());
+        assertEquals(0, profile.followerCount());
+    }
+
     @Test
     void shouldGetUserProfileSuccessfully() throws InterruptedException {
         // Given
@@ -202,6 +359,130 @@ class BackendApiClientTest {
         assertTrue(request.getBody().readUtf8().contains("\"content\":\"Hello, Chirper!\""));
     }
 
+    @Test
+    void shouldSendIdempotencyKeyHeaderWhenCreatingTweet() throws InterruptedException {
+        // Given
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(201)
+                .setBody("{\"tweetId\":\"tweet123\"}")
+                .addHeader("Content-Type", "application/json"));
+
+        // When
+        client.createTweet("valid-token", "Hello, Chirper!", "key-123");
+
+        // Then
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals("key-123", request.getHeader("Idempotency-Key"));
+    }
+
+    @Test
+    void shouldNotSendIdempotencyKeyHeaderWithoutKey() throws InterruptedException {
+        // Given
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(201)
+                .setBody("{\"tweetId\":\"tweet123\"}")
+                .addHeader("Content-Type", "application/json"));
+
+        // When
+        client.createTweet("valid-token", "Hello, Chirper!");
+
+        // Then
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertNull(request.getHeader("Idempotency-Key"));
+    }
+
+    @Test
+    void shouldRetryCreateTweetWithSameIdempotencyKeyOnTransientErrorWhenBackendHonorsKey() throws InterruptedException {
+        // Given: BackendがIdempotency-Keyで重複を排除する設定
+        BackendApiClient idempotentClient = new BackendApiClient(
+                WebClient.builder().baseUrl(mockWebServer.url("/").toString()).build(),
+                new BackendJsonCodec(), true);
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(201)
+                .setBody("{\"tweetId\":\"tweet123\"}")
+                .addHeader("Content-Type", "application/json"));
+
+        // When
+        TweetDto result = idempotentClient.createTweet("valid-token", "Hello, Chirper!", "key-123");
+
+        // Then
+        assertEquals("tweet123", result.tweetId());
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals("key-123", mockWebServer.takeRequest().getHeader("Idempotency-Key"));
+        assertEquals("key-123", mockWebServer.takeRequest().getHeader("Idempotency-Key"));
+    }
+
+    @Test
+    void shouldNotRetryCreateTweetOnTransientErrorByDefault() {
+        // Given: 503はBackendが投稿済みの可能性があるため、重複排除の保証がなければ再送しない
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        // When & Then
+        BackendApiException exception = assertThrows(BackendApiException.class,
+                () -> client.createTweet("valid-token", "Hello, Chirper!", "key-123"));
+        assertEquals(503, exception.getStatusCode());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void shouldNotRetryCreateTweetWhenConnectionDropsAfterRequestIsSent() {
+        // Given: リクエスト送信後に切断（Backendが投稿を作成済みの可能性がある）
+        mockWebServer.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(201)
+                .setBody("{\"tweetId\":\"tweet123\"}")
+                .addHeader("Content-Type", "application/json"));
+
+        // When & Then
+        assertThrows(BackendApiException.class,
+                () -> client.createTweet("valid-token", "Hello, Chirper!", "key-123"));
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void shouldTreatOnlyConnectFailuresAsRetryableByDefault() {
+        // Given
+        URI uri = URI.create("http://backend/api/v1/tweets");
+        WebClientRequestException connectRefused = new WebClientRequestException(
+                new ConnectException("Connection refused"), HttpMethod.POST, uri, HttpHeaders.EMPTY);
+        WebClientRequestException readTimeout = new WebClientRequestException(
+                new TimeoutException("read timed out"), HttpMethod.POST, uri, HttpHeaders.EMPTY);
+        WebClientResponseException unavailable = new WebClientResponseException(
+                503, "Service Unavailable", HttpHeaders.EMPTY, null, null);
+
+        // When & Then
+        assertTrue(BackendApiClient.isRetryableWriteFailure(connectRefused, false));
+        assertFalse(BackendApiClient.isRetryableWriteFailure(readTimeout, false));
+        assertFalse(BackendApiClient.isRetryableWriteFailure(unavailable, false));
+        assertTrue(BackendApiClient.isRetryableWriteFailure(readTimeout, true));
+        assertTrue(BackendApiClient.isRetryableWriteFailure(unavailable, true));
+    }
+
+    @Test
+    void shouldNotRetryCreateTweetWithoutIdempotencyKey() {
+        // Given
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        // When & Then
+        BackendApiException exception = assertThrows(BackendApiException.class,
+                () -> client.createTweet("valid-token", "Hello, Chirper!"));
+        assertEquals(503, exception.getStatusCode());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void shouldNotRetryCreateTweetOnClientError() {
+        // Given
+        mockWebServer.enqueue(new MockResponse().setResponseCode(400));
+
+        // When & Then
+        BackendApiException exception = assertThrows(BackendApiException.class,
+                () -> client.createTweet("valid-token", "", "key-123"));
+        assertEquals(400, exception.getStatusCode());
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
     @Test
     void shouldFollowUserSuccessfully() throws InterruptedException {
         // Given
@@ -0,0 +1,145 @@
+package com.chirper.frontend.infrastructure.client;
+
+import com.chirper.frontend.application.dto.FollowListDto;
+import com.chirper.frontend.application.dto.TimelineDto;
+import com.chirper.frontend.application.dto.TweetDto;
+import com.chirper.frontend.application.dto.UserProfileDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BackendJsonCodecTest {
+
+    private static final String TIMELINE_JSON = "{\"tweets\":["
+            + "{\"tweetId\":\"t1\",\"userId\":\"user1\",\"username\":\"alice\",\"content\":\"hello\","
+            + "\"createdAt\":\"2024-01-01T00:00:00Z\",\"likeCount\":2,\"unknownField\":true}],"
+            + "\"currentPage\":0,\"totalPages\":1,\"totalElements\":1}";
+
+    private final BackendJsonCodec codec = new BackendJsonCodec(1024, 64);
+
+    @Test
+    void shouldDecodeTimelineAndIgnoreUnknownProperties() {
+        // When
+        TimelineDto timeline = codec.readTimeline(buffer(TIMELINE_JSON));
+
+        // Then
+        TweetDto tweet = timeline.tweets().get(0);
+        assertEquals("alice", tweet.username());
+        assertEquals("hello", tweet.content());
+        assertEquals(Instant.parse("2024-01-01T00:00:00Z"), tweet.createdAt());
+        assertEquals(2, tweet.likeCount());
+    }
+
+    @Test
+    void shouldShareIdentifierStringsAcrossResponses() {
+        // When
+        TweetDto first = codec.readTimeline(buffer(TIMELINE_JSON)).tweets().get(0);
+        TweetDto second = codec.readTimeline(buffer(TIMELINE_JSON)).tweets().get(0);
+        FollowListDto followers = codec.readFollowList(buffer(
+                "{\"users\":[{\"userId\":\"user1\",\"username\":\"alice\",\"bio\":\"hello\"}],"
+                        + "\"currentPage\":0,\"totalPages\":1,\"totalItems\":1}"));
+
+        // Then
+        assertSame(first.tweetId(), second.tweetId());
+        assertSame(first.userId(), second.userId());
+        assertSame(first.username(), followers.users().get(0).username());
+    }
+
+    @Test
+    void shouldNotPoolFreeTextFields() {
+        // When
+        TweetDto first = codec.readTimeline(buffer(TIMELINE_JSON)).tweets().get(0);
+        TweetDto second = codec.readTimeline(buffer(TIMELINE_JSON)).tweets().get(0);
+
+        // Then
+        assertEquals(first.content(), second.content());
+        assertNotSame(first.content(), second.content());
+    }
+
+    @Test
+    void shouldKeepNullAndNumericIdentifiers() {
+        // When
+        UserProfileDto profile = codec.readUserProfile(buffer(
+                "{\"userId\":123,\"username\":null,\"followerCount\":1}"));
+
+        // Then
+        assertEquals("123", profile.userId());
+        assertNull(profile.username());
+        assertEquals(1, profile.followerCount());
+    }
+
+    @Test
+    void shouldTolerateFieldsOmittedByProjection() {
+        // When: fields=tweetId で取得したタイムライン
+        TimelineDto timeline = codec.readTimeline(buffer(
+                "{\"tweets\":[{\"tweetId\":\"t1\"}],\"currentPage\":0,\"totalPages\":1,\"totalElements\":1}"));
+
+        // Then
+        TweetDto tweet = timeline.tweets().get(0);
+        assertEquals("t1", tweet.tweetId());
+        assertNull(tweet.content());
+        assertNull(tweet.createdAt());
+        assertEquals(0, tweet.likeCount());
+        assertFalse(tweet.likedByCurrentUser());
+    }
+
+    @Test
+    void shouldSelectReaderByContentType() throws Exception {
+        // Given
+        TweetDto tweet = new TweetDto("t1", "user1", "alice", "hello", Instant.parse("2024-01-01T00:00:00Z"),
+                1, 0, false, false);
+        byte[] cbor = Jackson2ObjectMapperBuilder.cbor().build().writeValueAsBytes(tweet);
+
+        // When
+        TweetDto fromCbor = codec.tweet().read(response(MediaType.APPLICATION_CBOR, cbor));
+        TweetDto fromJson = codec.tweet().read(response(MediaType.APPLICATION_JSON,
+                "{\"tweetId\":\"t1\",\"username\":\"alice\"}".getBytes(StandardCharsets.UTF_8)));
+        TweetDto withoutContentType = codec.tweet().read(response(null,
+                "{\"tweetId\":\"t1\"}".getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertEquals(tweet, fromCbor);
+        assertSame(fromCbor.username(), fromJson.username());
+        assertEquals("t1", withoutContentType.tweetId());
+    }
+
+    @Test
+    void shouldReturnNullForEmptyBody() {
+        // When & Then
+        assertNull(codec.timeline().read(ResponseEntity.<DataBuffer>ok().build()));
+    }
+
+    @Test
+    void shouldAcceptCborOnlyWhenEnabled() {
+        // When & Then
+        assertEquals("application/cbor, application/json;q=0.9", codec.acceptHeader());
+        assertEquals("application/json", new BackendJsonCodec(1024, 64, false).acceptHeader());
+    }
+
+    @Test
+    void shouldThrowDecodingExceptionOnInvalidJson() {
+        // When & Then
+        assertThrows(DecodingException.class, () -> codec.readTweet(buffer("invalid-json")));
+    }
+
+    private ResponseEntity<DataBuffer> response(MediaType contentType, byte[] body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (contentType != null) {
+            builder.contentType(contentType);
+        }
+        return builder.body(DefaultDataBufferFactory.sharedInstance.wrap(body));
+    }
+
+    private DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,76 @@
+package com.chirper.frontend.infrastructure.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CanonicalStringPoolTest {
+
+    @Test
+    void shouldReturnSameInstanceForSameContent() {
+        // Given
+        CanonicalStringPool pool = new CanonicalStringPool(64, 16);
+        char[] first = "xxalicexx".toCharArray();
+        char[] second = "alice".toCharArray();
+
+        // When
+        String a = pool.canonicalize(first, 2, 5);
+        String b = pool.canonicalize(second, 0, 5);
+
+        // Then
+        assertEquals("alice", a);
+        assertSame(a, b);
+    }
+
+    @Test
+    void shouldNotPoolStringsLongerThanMaxLength() {
+        // Given
+        CanonicalStringPool pool = new CanonicalStringPool(64, 4);
+        char[] chars = "alice".toCharArray();
+
+        // When
+        String a = pool.canonicalize(chars, 0, chars.length);
+        String b = pool.canonicalize(chars, 0, chars.length);
+
+        // Then
+        assertEquals(a, b);
+        assertNotSame(a, b);
+    }
+
+    @Test
+    void shouldReplaceSlotOnCollisionWithoutGrowing() {
+        // Given: スロット1つのプールでは異なる文字列が常に衝突する
+        CanonicalStringPool pool = new CanonicalStringPool(1, 16);
+
+        // When
+        String alice = pool.canonicalize("alice".toCharArray(), 0, 5);
+        String bob = pool.canonicalize("bob".toCharArray(), 0, 3);
+        String aliceAgain = pool.canonicalize("alice".toCharArray(), 0, 5);
+
+        // Then
+        assertEquals("bob", bob);
+        assertEquals(alice, aliceAgain);
+        assertNotSame(alice, aliceAgain);
+        assertEquals(1, pool.slots());
+    }
+
+    @Test
+    void shouldRoundSlotsUpToPowerOfTwo() {
+        // When & Then
+        assertEquals(1024, new CanonicalStringPool(1000, 16).slots());
+        assertEquals(8, new CanonicalStringPool(8, 16).slots());
+    }
+
+    @Test
+    void shouldReturnEmptyStringForZeroLength() {
+        // When & Then
+        assertEquals("", new CanonicalStringPool(8, 16).canonicalize(new char[0], 0, 0));
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new CanonicalStringPool(0, 16));
+        assertThrows(IllegalArgumentException.class, () -> new CanonicalStringPool(8, -1));
+    }
+}
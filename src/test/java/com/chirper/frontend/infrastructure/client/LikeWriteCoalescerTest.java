@@ -0,0 +1,194 @@
+package com.chirper.frontend.infrastructure.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeWriteCoalescerTest {
+
+    private static final String JWT_TOKEN = "valid-token";
+    private static final String TWEET_ID = "tweet123";
+
+    @Mock
+    private BackendApiClient apiClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LikeWriteCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // タイマーで送信されないよう十分長いsettle windowを使い、flushで明示的に送信する
+        coalescer = new LikeWriteCoalescer(apiClient, meterRegistry, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    void shouldSendOnlyFinalStateAfterRapidToggles() {
+        // When: いいね → 解除 → いいね
+        coalescer.submit(JWT_TOKEN, TWEET_ID, true);
+        coalescer.submit(JWT_TOKEN, TWEET_ID, false);
+        coalescer.submit(JWT_TOKEN, TWEET_ID, true);
+        coalescer.flush(JWT_TOKEN);
+
+        // Then
+        verify(apiClient, times(1)).likeTweet(JWT_TOKEN, TWEET_ID);
+        verify(apiClient, never()).unlikeTweet(any(), any());
+        assertEquals(3.0, count("requested"));
+        assertEquals(1.0, count("sent"));
+        assertEquals(2.0, count("suppressed"));
+    }
+
+    @Test
+    void shouldSendFinalStateEvenWhenTogglesReturnToFirstClick() {
+        // When: いいね → 解除（Backend上の元の状態は分からないため、解除を送る）
+        coalescer.submit(JWT_TOKEN, TWEET_ID, true);
+        coalescer.submit(JWT_TOKEN, TWEET_ID, false);
+        coalescer.flush(JWT_TOKEN);
+
+        // Then
+        verify(apiClient).unlikeTweet(JWT_TOKEN, TWEET_ID);
+        verify(apiClient, never()).likeTweet(any(), any());
+        assertEquals(1.0, count("sent"));
+        assertEquals(1.0, count("suppressed"));
+        assertEquals(0, coalescer.pendingCount());
+    }
+
+    @Test
+    void shouldSendUnlikeWhenFinalStateIsUnliked() {
+        // When
+        coalescer.submit(JWT_TOKEN, TWEET_ID, false);
+        coalescer.flush(JWT_TOKEN);
+
+        // Then
+        verify(apiClient).unlikeTweet(JWT_TOKEN, TWEET_ID);
+        assertEquals(1.0, count("sent"));
+        assertEquals(0.0, count("suppressed"));
+    }
+
+    @Test
+    void shouldFlushOnlyTheGivenSession() {
+        // When
+        coalescer.submit(JWT_TOKEN, TWEET_ID, true);
+        coalescer.submit("other-token", TWEET_ID, true);
+        coalescer.flush(JWT_TOKEN);
+
+        // Then
+        verify(apiClient).likeTweet(JWT_TOKEN, TWEET_ID);
+        verify(apiClient, never()).likeTweet("other-token", TWEET_ID);
+        assertEquals(1, coalescer.pendingCount());
+    }
+
+    @Test
+    void shouldSendAfterSettleWindow() {
+        // Given
+        LikeWriteCoalescer fastCoalescer = new LikeWriteCoalescer(apiClient, meterRegistry, Duration.ofMillis(20));
+
+        try {
+            // When
+            fastCoalescer.submit(JWT_TOKEN, TWEET_ID, true);
+
+            // Then
+            verify(apiClient, timeout(2000)).likeTweet(JWT_TOKEN, TWEET_ID);
+        } finally {
+            fastCoalescer.shutdown();
+        }
+    }
+
+    @Test
+    void shouldNotPropagateBackendErrors() {
+        // Given
+        doThrow(new RuntimeException("backend down")).when(apiClient).likeTweet(JWT_TOKEN, TWEET_ID);
+
+        // When & Then
+        coalescer.submit(JWT_TOKEN, TWEET_ID, true);
+        assertDoesNotThrow(() -> coalescer.flush(JWT_TOKEN));
+        assertEquals(0.0, count("sent"));
+        assertEquals(1.0, count("failed"));
+    }
+
+    @Test
+    void shouldReturnWithoutWaitingForSlowBackend() throws InterruptedException {
+        // Given: Backendの応答が返らない
+        CountDownLatch backend = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            backend.await();
+            return null;
+        }).when(apiClient).likeTweet(JWT_TOKEN, TWEET_ID);
+        LikeWriteCoalescer fastCoalescer = new LikeWriteCoalescer(apiClient, meterRegistry, Duration.ofMillis(500));
+
+        try {
+            // When
+            long startedAt = System.nanoTime();
+            fastCoalescer.submit(JWT_TOKEN, TWEET_ID, true);
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+            // Then: 登録はsettle windowもBackendも待たずに戻る
+            assertTrue(elapsedMillis < 500, "submit waited " + elapsedMillis + "ms");
+            verify(apiClient, timeout(2000)).likeTweet(JWT_TOKEN, TWEET_ID);
+        } finally {
+            backend.countDown();
+            fastCoalescer.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRecordWritesBeyondSenderQueueCapacity() throws InterruptedException {
+        // Given: 送信用スレッド1つ・待ち行列1件で、最初の送信が返らない
+        CountDownLatch backend = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            backend.await();
+            return null;
+        }).when(apiClient).likeTweet(eq(JWT_TOKEN), anyString());
+        LikeWriteCoalescer bounded = new LikeWriteCoalescer(apiClient, meterRegistry, Duration.ofMinutes(1), 1, 1);
+
+        try {
+            // When: 送信中1件・待ち1件・溢れ1件
+            bounded.submit(JWT_TOKEN, "tweet1", true);
+            bounded.submit(JWT_TOKEN, "tweet2", true);
+            bounded.submit(JWT_TOKEN, "tweet3", true);
+            CompletableFuture.runAsync(() -> bounded.flush(JWT_TOKEN));
+
+            // Then
+            verify(apiClient, timeout(2000)).likeTweet(eq(JWT_TOKEN), anyString());
+            long deadline = System.currentTimeMillis() + 2000;
+            while (count("rejected") < 1.0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1.0, count("rejected"));
+        } finally {
+            backend.countDown();
+            bounded.shutdown();
+        }
+    }
+
+    @Test
+    void shouldFlushPendingWritesOnShutdown() {
+        // When
+        coalescer.submit(JWT_TOKEN, TWEET_ID, true);
+        coalescer.shutdown();
+
+        // Then
+        verify(apiClient).likeTweet(JWT_TOKEN, TWEET_ID);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("chirper.like.writes").tag("outcome", outcome).counter().count();
+    }
+}
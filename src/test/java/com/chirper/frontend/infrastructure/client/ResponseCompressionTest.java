@@ -0,0 +1,162 @@
+package com.chirper.frontend.infrastructure.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCompressionTest {
+
+    private static final String BODY = "{\"tweetId\":\"tweet123\",\"content\":\"" + "a".repeat(4000) + "\"}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ResponseCompression compression;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        compression = new ResponseCompression(meterRegistry, true,
+                DataSize.ofKilobytes(2), DataSize.ofKilobytes(512));
+    }
+
+    @Test
+    void shouldRequestCompressionForUnobservedOperation() {
+        // When
+        ResponseCompression.Operation operation = compression.operation("timeline");
+
+        // Then: 未観測の操作は大きいレスポンスとみなす
+        assertEquals("gzip, deflate", operation.acceptEncoding());
+    }
+
+    @Test
+    void shouldDecodeGzipAndRecordWireAndDecodedBytes() throws IOException {
+        // Given
+        ResponseCompression.Operation operation = compression.operation("timeline");
+        byte[] gzipped = gzip(BODY.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        String decoded = operation.decode("gzip", wrap(gzipped), ResponseCompressionTest::readString);
+
+        // Then
+        assertEquals(BODY, decoded);
+        assertEquals(gzipped.length, summaryTotal("timeline", "wire"));
+        assertEquals(BODY.length(), summaryTotal("timeline", "decoded"));
+        assertTrue(gzipped.length < BODY.length(), "繰り返しの多いボディは圧縮で小さくなる");
+        assertEquals(1, meterRegistry.get(ResponseCompression.DECODE_METRIC)
+                .tag("operation", "timeline").tag("encoding", "gzip").timer().count());
+    }
+
+    @Test
+    void shouldDecodeDeflateAndIdentity() throws IOException {
+        // Given
+        ResponseCompression.Operation operation = compression.operation("tweet");
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+
+        // When & Then
+        assertEquals(BODY, operation.decode("deflate", wrap(deflate(body)), ResponseCompressionTest::readString));
+        assertEquals(BODY, operation.decode(null, wrap(body), ResponseCompressionTest::readString));
+        assertEquals(BODY, operation.decode("identity", wrap(body), ResponseCompressionTest::readString));
+    }
+
+    @Test
+    void shouldStopRequestingCompressionForSmallResponses() throws IOException {
+        // Given
+        ResponseCompression.Operation operation = compression.operation("login");
+        byte[] small = "{\"token\":\"jwt\"}".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        operation.decode(null, wrap(small), ResponseCompressionTest::readString);
+
+        // Then
+        assertEquals(small.length, operation.averageDecodedSize());
+        assertEquals("identity", operation.acceptEncoding());
+    }
+
+    @Test
+    void shouldRequestCompressionAgainWhenResponsesGrow() throws IOException {
+        // Given
+        ResponseCompression.Operation operation = compression.operation("follow_list");
+        operation.decode(null, wrap("{}".getBytes(StandardCharsets.UTF_8)), ResponseCompressionTest::readString);
+        byte[] large = BODY.getBytes(StandardCharsets.UTF_8);
+
+        // When: 移動平均が閾値を超えるまで大きいレスポンスを受け取る
+        for (int i = 0; i < 8 && "identity".equals(operation.acceptEncoding()); i++) {
+            operation.decode(null, wrap(large), ResponseCompressionTest::readString);
+        }
+
+        // Then
+        assertEquals("gzip, deflate", operation.acceptEncoding());
+    }
+
+    @Test
+    void shouldNotRequestCompressionWhenDisabled() {
+        // When
+        ResponseCompression.Operation operation = ResponseCompression.disabled().operation("timeline");
+
+        // Then
+        assertEquals("identity", operation.acceptEncoding());
+    }
+
+    @Test
+    void shouldRejectUnsupportedEncoding() {
+        // Given
+        ResponseCompression.Operation operation = compression.operation("timeline");
+
+        // When & Then
+        assertThrows(IOException.class, () -> operation.decode("br",
+                wrap(BODY.getBytes(StandardCharsets.UTF_8)), ResponseCompressionTest::readString));
+    }
+
+    @Test
+    void shouldRejectResponseExceedingDecodedLimit() throws IOException {
+        // Given: 小さく圧縮されるが展開後は上限を超えるボディ
+        ResponseCompression limited = new ResponseCompression(meterRegistry, true,
+                DataSize.ofKilobytes(2), DataSize.ofKilobytes(1));
+        ResponseCompression.Operation operation = limited.operation("timeline");
+        byte[] bomb = gzip(new byte[64 * 1024]);
+
+        // When & Then
+        assertThrows(IOException.class, () -> operation.decode("gzip", wrap(bomb), ResponseCompressionTest::readString));
+    }
+
+    private double summaryTotal(String operation, String stage) {
+        return meterRegistry.get(ResponseCompression.BYTES_METRIC)
+                .tag("operation", operation).tag("stage", stage).summary().totalAmount();
+    }
+
+    private static DataBuffer wrap(byte[] bytes) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+    }
+
+    private static String readString(InputStream in) throws IOException {
+        return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream deflate = new DeflaterOutputStream(out)) {
+            deflate.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -52,4 +52,19 @@ class BackendApiExceptionTest {
         assertNull(exception.getErrorCode());
         assertEquals(cause, exception.getCause());
     }
+
+    @Test
+    void shouldNotCaptureStackTrace() {
+        // Given
+        Throwable cause = new RuntimeException("Network timeout");
+
+        // When
+        BackendApiException exception = new BackendApiException("Backend API error", 503);
+        BackendApiException wrapped = new BackendApiException("Connection Error", cause);
+
+        // Then - 原因例外のスタックトレースは保持される
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, wrapped.getStackTrace().length);
+        assertTrue(cause.getStackTrace().length > 0);
+    }
 }
@@ -0,0 +1,65 @@
+package com.chirper.frontend.infrastructure.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EtagRouteCsrfTokenRequestHandlerTest {
+
+    private final CsrfToken token = new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", UUID.randomUUID().toString());
+    private final EtagRouteCsrfTokenRequestHandler handler =
+            new EtagRouteCsrfTokenRequestHandler(List.of("/profile/*", "/followers/*"));
+
+    @Test
+    void shouldRenderPlainTokenOnEtagRoute() {
+        // When
+        String first = renderedToken("/profile/alice");
+        String second = renderedToken("/profile/alice");
+
+        // Then: 同じ内容のページが同じETagになるよう、毎回同じトークンを描画する
+        assertEquals(token.getToken(), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void shouldKeepMaskingTokenOutsideEtagRoutes() {
+        // When
+        String first = renderedToken("/timeline");
+        String second = renderedToken("/timeline");
+
+        // Then: BREACH対策のマスクを維持する
+        assertNotEquals(token.getToken(), first);
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void shouldAcceptBothMaskedAndPlainTokens() {
+        // Given
+        String masked = renderedToken("/timeline");
+        String plain = renderedToken("/profile/alice");
+
+        // When & Then
+        assertEquals(token.getToken(), handler.resolveCsrfTokenValue(submitted(masked), token));
+        assertEquals(token.getToken(), handler.resolveCsrfTokenValue(submitted(plain), token));
+        assertNotEquals(token.getToken(), handler.resolveCsrfTokenValue(submitted("bogus"), token));
+    }
+
+    private String renderedToken(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        handler.handle(request, new MockHttpServletResponse(), () -> token);
+        return ((CsrfToken) request.getAttribute(CsrfToken.class.getName())).getToken();
+    }
+
+    private MockHttpServletRequest submitted(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/logout");
+        request.setParameter("_csrf", value);
+        return request;
+    }
+}
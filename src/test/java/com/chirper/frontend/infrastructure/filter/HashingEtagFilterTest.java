@@ -0,0 +1,202 @@
+package com.chirper.frontend.infrastructure.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HashingEtagFilterTest {
+
+    private static final String PAGE = "<html><body>プロフィール</body></html>";
+
+    private SimpleMeterRegistry meterRegistry;
+    private HashingEtagFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new HashingEtagFilter(meterRegistry, List.of("/profile/*", "/followers/*"));
+    }
+
+    @Test
+    void shouldAddWeakEtagToEnabledRoute() throws Exception {
+        // When
+        MockHttpServletResponse response = perform(get("/profile/alice"), writerChain(PAGE));
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertNotNull(response.getHeader("ETag"));
+        assertTrue(response.getHeader("ETag").startsWith("W/\""));
+        assertEquals("private, no-cache", response.getHeader("Cache-Control"));
+        assertEquals(PAGE, response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(PAGE.getBytes(StandardCharsets.UTF_8).length, response.getContentLength());
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenEtagMatches() throws Exception {
+        // Given
+        String etag = perform(get("/profile/alice"), writerChain(PAGE)).getHeader("ETag");
+        MockHttpServletRequest request = get("/profile/alice");
+        request.addHeader("If-None-Match", etag);
+
+        // When
+        MockHttpServletResponse response = perform(request, writerChain(PAGE));
+
+        // Then
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(1.0, meterRegistry.get("chirper.http.etag").tag("outcome", "not_modified").counter().count());
+    }
+
+    @Test
+    void shouldReturnFullPageWhenContentChanged() throws Exception {
+        // Given
+        String etag = perform(get("/profile/alice"), writerChain(PAGE)).getHeader("ETag");
+        MockHttpServletRequest request = get("/profile/alice");
+        request.addHeader("If-None-Match", etag);
+
+        // When
+        MockHttpServletResponse response = perform(request, writerChain(PAGE + "<!-- changed -->"));
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertNotEquals(etag, response.getHeader("ETag"));
+    }
+
+    @Test
+    void shouldComputeSameEtagForOutputStreamAndWriter() throws Exception {
+        // When
+        String fromWriter = perform(get("/profile/alice"), writerChain(PAGE)).getHeader("ETag");
+        String fromStream = perform(get("/profile/alice"), (req, res) -> {
+            res.setCharacterEncoding("UTF-8");
+            res.getOutputStream().write(PAGE.getBytes(StandardCharsets.UTF_8));
+        }).getHeader("ETag");
+
+        // Then
+        assertEquals(fromWriter, fromStream);
+    }
+
+    @Test
+    void shouldSkipRoutesThatAreNotEnabled() throws Exception {
+        // When
+        MockHttpServletResponse response = perform(get("/timeline"), writerChain(PAGE));
+
+        // Then
+        assertNull(response.getHeader("ETag"));
+        assertEquals(PAGE, response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldSkipNonGetRequests() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/profile/alice");
+
+        // When
+        MockHttpServletResponse response = perform(request, writerChain(PAGE));
+
+        // Then
+        assertNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void shouldNotTagErrorResponses() throws Exception {
+        // When
+        MockHttpServletResponse response = perform(get("/profile/alice"), (req, res) -> {
+            ((HttpServletResponse) res).setStatus(500);
+            res.getWriter().write("error");
+        });
+
+        // Then
+        assertEquals(500, response.getStatus());
+        assertNull(response.getHeader("ETag"));
+        assertEquals("error", response.getContentAsString());
+    }
+
+    @Test
+    void shouldPassThroughRedirects() throws Exception {
+        // When
+        MockHttpServletResponse response = perform(get("/profile/alice"),
+                (req, res) -> ((HttpServletResponse) res).sendRedirect("/login"));
+
+        // Then
+        assertEquals("/login", response.getRedirectedUrl());
+        assertNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void shouldStreamResponsesThatStartAsyncProcessing() throws Exception {
+        // Given: SSEのように非同期処理を開始し、ハンドラーが戻った後も書き込むレスポンス
+        MockHttpServletRequest request = get("/profile/alice");
+        request.setAsyncSupported(true);
+        AtomicReference<ServletResponse> asyncResponse = new AtomicReference<>();
+
+        // When
+        MockHttpServletResponse response = perform(request, (req, res) -> {
+            req.startAsync();
+            res.setContentType("text/event-stream;charset=UTF-8");
+            res.getWriter().write("data: first\n\n");
+            asyncResponse.set(res);
+        });
+        asyncResponse.get().getWriter().write("data: second\n\n");
+        asyncResponse.get().flushBuffer();
+
+        // Then
+        assertNull(response.getHeader("ETag"));
+        assertEquals("data: first\n\ndata: second\n\n", response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldDelegateWriteListenerToUnderlyingStream() throws Exception {
+        // Given
+        ServletOutputStream underlying = mock(ServletOutputStream.class);
+        HttpServletResponse response = new HttpServletResponseWrapper(new MockHttpServletResponse()) {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return underlying;
+            }
+        };
+        MockHttpServletRequest request = get("/profile/alice");
+        request.setAsyncSupported(true);
+        WriteListener listener = mock(WriteListener.class);
+
+        // When
+        assertDoesNotThrow(() -> filter.doFilter(request, response, (req, res) -> {
+            req.startAsync();
+            res.getOutputStream().setWriteListener(listener);
+        }));
+
+        // Then
+        verify(underlying).setWriteListener(listener);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+
+    private FilterChain writerChain(String body) {
+        return (req, res) -> {
+            res.setContentType("text/html;charset=UTF-8");
+            res.getWriter().write(body);
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.chirper.frontend.infrastructure.filter;
+
+import com.chirper.frontend.domain.valueobject.RenderClock;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderClockFilterTest {
+
+    private RenderClockFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RenderClockFilter("UTC");
+    }
+
+    @Test
+    void shouldExposeRenderClockAsRequestAttribute() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/timeline");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        RenderClock clock = (RenderClock) request.getAttribute(RenderClockFilter.REQUEST_ATTRIBUTE);
+        assertNotNull(clock);
+        assertEquals(ZoneId.of("UTC"), clock.getZone());
+    }
+
+    @Test
+    void shouldUseZoneFromCookie() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/timeline");
+        request.setCookies(new Cookie(RenderClockFilter.ZONE_COOKIE, "Asia/Tokyo"));
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        RenderClock clock = (RenderClock) request.getAttribute(RenderClockFilter.REQUEST_ATTRIBUTE);
+        assertEquals(ZoneId.of("Asia/Tokyo"), clock.getZone());
+    }
+
+    @Test
+    void shouldFallBackToDefaultZoneForUnknownCookieValue() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/timeline");
+        request.setCookies(new Cookie(RenderClockFilter.ZONE_COOKIE, "Mars/Olympus_Mons"));
+
+        // When & Then
+        assertEquals(ZoneId.of("UTC"), filter.resolveZone(request));
+    }
+
+    @Test
+    void shouldReuseResolvedZoneInstances() {
+        // Given
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/timeline");
+        first.setCookies(new Cookie(RenderClockFilter.ZONE_COOKIE, "Europe/Paris"));
+        MockHttpServletRequest second = new MockHttpServletRequest("GET", "/timeline");
+        second.setCookies(new Cookie(RenderClockFilter.ZONE_COOKIE, "Europe/Paris"));
+
+        // When & Then
+        assertSame(filter.resolveZone(first), filter.resolveZone(second));
+    }
+
+    @Test
+    void shouldSkipStaticResources() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/css/style.css");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertNull(request.getAttribute(RenderClockFilter.REQUEST_ATTRIBUTE));
+    }
+
+    @Test
+    void shouldUseSystemZoneWhenDefaultIsBlank() {
+        // Given
+        RenderClockFilter systemFilter = new RenderClockFilter("");
+
+        // When & Then
+        assertEquals(ZoneId.systemDefault(),
+                systemFilter.resolveZone(new MockHttpServletRequest("GET", "/timeline")));
+    }
+}
@@ -0,0 +1,145 @@
+package com.chirper.frontend.infrastructure.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubmissionDeduplicatorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SubmissionDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new SubmissionDeduplicator(meterRegistry, Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    void shouldExecuteOnlyOnceForSameKey() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String first = deduplicator.execute("session", "key", () -> "result-" + calls.incrementAndGet());
+        String second = deduplicator.execute("session", "key", () -> "result-" + calls.incrementAndGet());
+
+        // Then
+        assertEquals("result-1", first);
+        assertEquals("result-1", second);
+        assertEquals(1, calls.get());
+        assertEquals(1.0, count("executed"));
+        assertEquals(1.0, count("deduplicated"));
+    }
+
+    @Test
+    void shouldSeparateScopes() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When - 別セッションで同じキーが使われても別の送信として扱う
+        deduplicator.execute("session-a", "key", calls::incrementAndGet);
+        deduplicator.execute("session-b", "key", calls::incrementAndGet);
+
+        // Then
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldWaitForInFlightExecution() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When - 1回目の実行中に同じキーで再送
+            Future<Integer> first = executor.submit(() -> deduplicator.execute("session", "key", () -> {
+                started.countDown();
+                await(release);
+                return calls.incrementAndGet();
+            }));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+            Future<Integer> second = executor.submit(
+                    () -> deduplicator.execute("session", "key", calls::incrementAndGet));
+            release.countDown();
+
+            // Then
+            assertEquals(1, first.get(1, TimeUnit.SECONDS));
+            assertEquals(1, second.get(1, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldForgetFailedExecution() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        assertThrows(IllegalStateException.class, () -> deduplicator.execute("session", "key", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("backend down");
+        }));
+        Integer retried = deduplicator.execute("session", "key", calls::incrementAndGet);
+
+        // Then
+        assertEquals(2, retried);
+        assertEquals(1, deduplicator.size());
+    }
+
+    @Test
+    void shouldExecuteAgainAfterTtlExpires() throws InterruptedException {
+        // Given
+        SubmissionDeduplicator shortLived = new SubmissionDeduplicator(meterRegistry, Duration.ofMillis(1), 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        shortLived.execute("session", "key", calls::incrementAndGet);
+        Thread.sleep(10);
+        shortLived.execute("session", "key", calls::incrementAndGet);
+
+        // Then
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldBypassWhenTableIsFull() {
+        // Given
+        SubmissionDeduplicator small = new SubmissionDeduplicator(meterRegistry, Duration.ofMinutes(5), 1);
+        small.execute("session", "key-1", () -> "first");
+
+        // When
+        String result = small.execute("session", "key-2", () -> "second");
+
+        // Then - 上限に達しても送信自体は行う
+        assertEquals("second", result);
+        assertEquals(1, small.size());
+        assertEquals(1.0, count("bypassed"));
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("chirper.submissions").tag("outcome", outcome).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
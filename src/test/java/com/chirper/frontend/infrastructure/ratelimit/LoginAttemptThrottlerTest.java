@@ -0,0 +1,193 @@
+package com.chirper.frontend.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginAttemptThrottlerTest {
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private LoginAttemptThrottler throttler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        meterRegistry = new SimpleMeterRegistry();
+        throttler = new LoginAttemptThrottler(meterRegistry, Duration.ofMinutes(15), 5, 1024, 1000, 3, 5, clock::get);
+    }
+
+    @Test
+    void shouldThrottleUsernameAfterRepeatedFailures() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            assertTrue(throttler.tryAcquire("alice", "192.0.2." + i));
+            throttler.recordFailure("alice", "192.0.2." + i);
+        }
+
+        // When & Then: 別の接続元からでも同じユーザー名は拒否する
+        assertFalse(throttler.tryAcquire("alice", "192.0.2.100"));
+        assertFalse(throttler.tryAcquire("ALICE", "192.0.2.100"));
+        assertTrue(throttler.tryAcquire("bob", "192.0.2.100"));
+        assertEquals(2.0, count("throttled_username"));
+    }
+
+    @Test
+    void shouldThrottleAddressAcrossUsernames() {
+        // Given: 1つの接続元から異なるユーザー名で失敗を繰り返す
+        for (int i = 0; i < 5; i++) {
+            assertTrue(throttler.tryAcquire("user" + i, "192.0.2.1"));
+            throttler.recordFailure("user" + i, "192.0.2.1");
+        }
+
+        // When & Then
+        assertFalse(throttler.tryAcquire("someone", "192.0.2.1"));
+        assertTrue(throttler.tryAcquire("someone", "192.0.2.2"));
+        assertEquals(1.0, count("throttled_address"));
+    }
+
+    @Test
+    void shouldAllowAgainAfterWindowPasses() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            throttler.tryAcquire("alice", "192.0.2.1");
+            throttler.recordFailure("alice", "192.0.2.1");
+        }
+        assertFalse(throttler.tryAcquire("alice", "192.0.2.1"));
+
+        // When
+        clock.addAndGet(Duration.ofMinutes(16).toMillis());
+
+        // Then
+        assertTrue(throttler.tryAcquire("alice", "192.0.2.1"));
+    }
+
+    @Test
+    void shouldNotThrottleOtherUsernamesWhenFailuresAreSpreadAcrossManyNames() {
+        // Given: 多数のユーザー名にそれぞれ上限未満の失敗を分散させる（接続元の上限には達しない設定）
+        LoginAttemptThrottler spread = new LoginAttemptThrottler(
+                meterRegistry, Duration.ofMinutes(15), 5, 1024, 100_000, 3, 1_000_000, clock::get);
+        for (int i = 0; i < 20_000; i++) {
+            for (int attempt = 0; attempt < 2; attempt++) {
+                spread.tryAcquire("user" + i, "192.0.2.1");
+                spread.recordFailure("user" + i, "192.0.2.1");
+            }
+        }
+
+        // When & Then: 件数が混ざらないため、失敗していないユーザーも上限未満のユーザーも拒否されない
+        assertTrue(spread.tryAcquire("victim", "198.51.100.1"));
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(spread.tryAcquire("user" + i, "198.51.100." + (i % 200)));
+        }
+    }
+
+    @Test
+    void shouldCountAttemptsAwaitingBackendAgainstLimit() {
+        // When: Backendの応答を待っている間に同じユーザー名で続けて試行する
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (throttler.tryAcquire("alice", "192.0.2." + i)) {
+                allowed++;
+            }
+        }
+
+        // Then: 応答待ちの試行も数えるため上限までしか許可しない
+        assertEquals(3, allowed);
+    }
+
+    @Test
+    void shouldNotExceedLimitUnderConcurrentAttempts() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        List<Future<?>> attempts = new ArrayList<>();
+
+        // When: 異なる接続元から同じユーザー名へ一斉に試行する
+        try {
+            for (int i = 0; i < 100; i++) {
+                String address = "192.0.2." + i;
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    if (throttler.tryAcquire("alice", address)) {
+                        allowed.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> attempt : attempts) {
+                attempt.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(3, allowed.get());
+    }
+
+    @Test
+    void shouldReleaseReservationWhenAttemptIsNotAFailure() {
+        // When: 成功した試行は予約を取り消す
+        for (int i = 0; i < 10; i++) {
+            assertTrue(throttler.tryAcquire("alice", "192.0.2.1"));
+            throttler.release("alice", "192.0.2.1");
+        }
+
+        // Then
+        assertTrue(throttler.tryAcquire("alice", "192.0.2.1"));
+    }
+
+    @Test
+    void shouldNotCountRejectedAttempts() {
+        // Given: ユーザー名の上限に達する
+        for (int i = 0; i < 3; i++) {
+            throttler.tryAcquire("alice", "192.0.2.1");
+            throttler.recordFailure("alice", "192.0.2.1");
+        }
+
+        // When: 拒否された試行は接続元の件数に残らない
+        for (int i = 0; i < 10; i++) {
+            assertFalse(throttler.tryAcquire("alice", "192.0.2.1"));
+        }
+
+        // Then
+        assertTrue(throttler.tryAcquire("bob", "192.0.2.1"));
+    }
+
+    @Test
+    void shouldCountOutcomes() {
+        // When
+        throttler.tryAcquire("alice", "192.0.2.1");
+        throttler.recordFailure("alice", "192.0.2.1");
+
+        // Then
+        assertEquals(1.0, count("allowed"));
+        assertEquals(1.0, count("failed"));
+    }
+
+    @Test
+    void shouldHandleMissingAddress() {
+        // When & Then
+        assertDoesNotThrow(() -> throttler.recordFailure("alice", null));
+        assertTrue(throttler.tryAcquire("alice", null));
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("chirper.login.attempts").tag("outcome", outcome).counter().count();
+    }
+}
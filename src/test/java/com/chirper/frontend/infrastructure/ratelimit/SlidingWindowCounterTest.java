@@ -0,0 +1,121 @@
+package com.chirper.frontend.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowCounterTest {
+
+    private AtomicLong clock;
+    private SlidingWindowCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        // 1分 × 5区間 = 5分のウィンドウ
+        counter = new SlidingWindowCounter(100_000, 5, 60_000, clock::get);
+    }
+
+    @Test
+    void shouldCountIncrementsPerKey() {
+        // When
+        counter.increment("alice");
+        counter.increment("alice");
+        int count = counter.increment("alice");
+
+        // Then
+        assertEquals(3, count);
+        assertEquals(3, counter.count("alice"));
+        assertEquals(0, counter.count("bob"));
+    }
+
+    @Test
+    void shouldNotMixCountsOfOtherKeys() {
+        // Given: 多数のキーをそれぞれ数える
+        for (int i = 0; i < 1000; i++) {
+            counter.increment("user" + i);
+            counter.increment("user" + i);
+        }
+
+        // When & Then: どのキーも自分の件数だけを返し、数えていないキーは0
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(2, counter.count("user" + i));
+        }
+        assertEquals(0, counter.count("victim"));
+    }
+
+    @Test
+    void shouldKeepCountsWithinWindow() {
+        // Given
+        counter.increment("alice");
+        clock.addAndGet(60_000);
+        counter.increment("alice");
+
+        // When
+        clock.addAndGet(3 * 60_000);
+
+        // Then
+        assertEquals(2, counter.count("alice"));
+    }
+
+    @Test
+    void shouldDropCountsOlderThanWindow() {
+        // Given
+        counter.increment("alice");
+        clock.addAndGet(60_000);
+        counter.increment("alice");
+
+        // When: 最初の区間がウィンドウから外れる
+        clock.addAndGet(4 * 60_000);
+
+        // Then
+        assertEquals(1, counter.count("alice"));
+    }
+
+    @Test
+    void shouldUndoIncrementOnDecrement() {
+        // Given: 前の区間に加算した件数も取り消せる
+        counter.increment("alice");
+        clock.addAndGet(60_000);
+
+        // When
+        counter.decrement("alice");
+        counter.decrement("alice");
+        counter.decrement("bob");
+
+        // Then
+        assertEquals(0, counter.count("alice"));
+        assertEquals(1, counter.increment("alice"));
+        assertEquals(0, counter.count("bob"));
+    }
+
+    @Test
+    void shouldRemoveKeyWhenAllCountsExpire() {
+        // Given
+        counter.increment("alice");
+
+        // When
+        clock.addAndGet(5 * 60_000);
+
+        // Then
+        assertEquals(0, counter.count("alice"));
+        assertEquals(0, counter.size());
+    }
+
+    @Test
+    void shouldForgetLeastRecentlyUsedKeysBeyondLimit() {
+        // Given: 上限16キー（1ストライプあたり1キー）
+        SlidingWindowCounter bounded = new SlidingWindowCounter(16, 5, 60_000, clock::get);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            bounded.increment("user" + i);
+        }
+
+        // Then
+        assertTrue(bounded.size() <= 16);
+    }
+}
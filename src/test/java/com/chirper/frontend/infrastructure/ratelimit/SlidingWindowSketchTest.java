@@ -0,0 +1,130 @@
+package com.chirper.frontend.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowSketchTest {
+
+    private AtomicLong clock;
+    private SlidingWindowSketch sketch;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        // 1分 × 5区間 = 5分のウィンドウ
+        sketch = new SlidingWindowSketch(4, 1024, 5, 60_000, clock::get);
+    }
+
+    @Test
+    void shouldCountIncrementsPerKey() {
+        // When
+        sketch.increment("192.0.2.1");
+        sketch.increment("192.0.2.1");
+        int count = sketch.increment("192.0.2.1");
+
+        // Then
+        assertEquals(3, count);
+        assertEquals(3, sketch.estimate("192.0.2.1"));
+        assertEquals(0, sketch.estimate("192.0.2.2"));
+    }
+
+    @Test
+    void shouldKeepCountsWithinWindow() {
+        // Given
+        sketch.increment("192.0.2.1");
+        clock.addAndGet(60_000);
+        sketch.increment("192.0.2.1");
+
+        // When
+        clock.addAndGet(3 * 60_000);
+
+        // Then
+        assertEquals(2, sketch.estimate("192.0.2.1"));
+    }
+
+    @Test
+    void shouldDropCountsOlderThanWindow() {
+        // Given
+        sketch.increment("192.0.2.1");
+        clock.addAndGet(60_000);
+        sketch.increment("192.0.2.1");
+
+        // When: 最初の区間だけウィンドウの外に出る
+        clock.addAndGet(4 * 60_000);
+
+        // Then
+        assertEquals(1, sketch.estimate("192.0.2.1"));
+    }
+
+    @Test
+    void shouldUndoIncrementOnDecrement() {
+        // Given
+        sketch.increment("192.0.2.1");
+        clock.addAndGet(60_000);
+        sketch.increment("192.0.2.1");
+
+        // When
+        sketch.decrement("192.0.2.1");
+
+        // Then
+        assertEquals(1, sketch.estimate("192.0.2.1"));
+    }
+
+    @Test
+    void shouldNotGoBelowZeroOnDecrement() {
+        // When
+        sketch.decrement("192.0.2.1");
+        sketch.increment("192.0.2.1");
+
+        // Then
+        assertEquals(1, sketch.estimate("192.0.2.1"));
+    }
+
+    @Test
+    void shouldResetReusedSlot() {
+        // Given
+        sketch.increment("192.0.2.1");
+
+        // When: ウィンドウ1周後に同じスロットへ書き込む
+        clock.addAndGet(5 * 60_000);
+        int count = sketch.increment("192.0.2.1");
+
+        // Then
+        assertEquals(1, count);
+    }
+
+    @Test
+    void shouldNeverUnderestimateWithManyKeys() {
+        // Given: 列数より多いキーで衝突を起こす
+        SlidingWindowSketch small = new SlidingWindowSketch(4, 64, 1, 60_000, clock::get);
+        for (int i = 0; i < 1000; i++) {
+            small.increment("key" + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            small.increment("target");
+        }
+
+        // When
+        int estimate = small.estimate("target");
+
+        // Then
+        assertTrue(estimate >= 10);
+    }
+
+    @Test
+    void shouldUseFixedNumberOfCounters() {
+        assertEquals(5 * 4 * 1024, sketch.counterCount());
+        assertEquals(2 * 1 * 1024, new SlidingWindowSketch(1, 1000, 2, 1000, clock::get).counterCount());
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowSketch(0, 16, 1, 1000, clock::get));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowSketch(1, 16, 0, 1000, clock::get));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowSketch(1, 16, 1, 0, clock::get));
+    }
+}
@@ -0,0 +1,149 @@
+package com.chirper.frontend.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private AtomicLong clock;
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        limiter = new TokenBucketRateLimiter(3, 1000, 1024, clock::get);
+    }
+
+    @Test
+    void shouldAllowBurstUpToCapacity() {
+        // When & Then
+        assertEquals(0, limiter.tryAcquire("alice"));
+        assertEquals(0, limiter.tryAcquire("alice"));
+        assertEquals(0, limiter.tryAcquire("alice"));
+        assertTrue(limiter.tryAcquire("alice") > 0);
+    }
+
+    @Test
+    void shouldReturnWaitUntilNextToken() {
+        // Given
+        exhaust("alice");
+        clock.addAndGet(400);
+
+        // When
+        long wait = limiter.tryAcquire("alice");
+
+        // Then
+        assertEquals(600, wait);
+    }
+
+    @Test
+    void shouldRefillOverTime() {
+        // Given
+        exhaust("alice");
+
+        // When
+        clock.addAndGet(1000);
+
+        // Then
+        assertEquals(0, limiter.tryAcquire("alice"));
+        assertTrue(limiter.tryAcquire("alice") > 0);
+    }
+
+    @Test
+    void shouldAccumulatePartialRefills() {
+        // Given
+        exhaust("alice");
+
+        // When: 500msずつ2回経過すれば1回分回復する
+        clock.addAndGet(500);
+        assertTrue(limiter.tryAcquire("alice") > 0);
+        clock.addAndGet(500);
+
+        // Then
+        assertEquals(0, limiter.tryAcquire("alice"));
+    }
+
+    @Test
+    void shouldNotRefillBeyondCapacity() {
+        // Given
+        limiter.tryAcquire("alice");
+
+        // When
+        clock.addAndGet(60_000);
+
+        // Then
+        exhaust("alice");
+        assertTrue(limiter.tryAcquire("alice") > 0);
+    }
+
+    @Test
+    void shouldKeepSeparateBucketsPerKey() {
+        // Given
+        exhaust("alice");
+
+        // When & Then
+        assertEquals(0, limiter.tryAcquire("bob"));
+    }
+
+    @Test
+    void shouldRoundSlotsUpToPowerOfTwo() {
+        assertEquals(1024, new TokenBucketRateLimiter(1, 1, 1000).slots());
+        assertEquals(1024, new TokenBucketRateLimiter(1, 1, 1024).slots());
+        assertEquals(1, new TokenBucketRateLimiter(1, 1, 1).slots());
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, 1000, 16));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TokenBucketRateLimiter(TokenBucketRateLimiter.MAX_CAPACITY + 1, 1000, 16));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, 0, 16));
+    }
+
+    @Test
+    void shouldNotGrantMoreThanCapacityUnderContention() throws Exception {
+        // Given: 時間が進まない状態で多数のスレッドが同じキーを取り合う
+        TokenBucketRateLimiter shared = new TokenBucketRateLimiter(100, 60_000, 16, clock::get);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // When
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 100; j++) {
+                        if (shared.tryAcquire("alice") == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(100, granted.get());
+    }
+
+    private void exhaust(String key) {
+        while (limiter.tryAcquire(key) == 0) {
+            // 残りトークンを使い切る
+        }
+    }
+}
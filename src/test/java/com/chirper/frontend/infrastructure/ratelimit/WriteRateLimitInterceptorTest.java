@@ -0,0 +1,142 @@
+package com.chirper.frontend.infrastructure.ratelimit;
+
+import com.chirper.frontend.infrastructure.ratelimit.WriteRateLimitInterceptor.Rule;
+import com.chirper.frontend.infrastructure.session.JwtSessionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteRateLimitInterceptorTest {
+
+    private static final String PAGE_HTML = "<html><h1>429</h1></html>";
+
+    @Mock
+    private JwtSessionManager sessionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WriteRateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AtomicLong clock = new AtomicLong(1_000_000);
+        TokenBucketRateLimiter tweet = new TokenBucketRateLimiter(1, 6000, 64, clock::get);
+        TokenBucketRateLimiter like = new TokenBucketRateLimiter(1, 1000, 64, clock::get);
+        interceptor = new WriteRateLimitInterceptor(sessionManager, List.of(
+                new Rule("tweet", Set.of("POST"), "/tweets", tweet),
+                new Rule("like", Set.of("POST", "DELETE"), "/api/tweets/*/like", like)
+        ), () -> PAGE_HTML.getBytes(StandardCharsets.UTF_8), meterRegistry);
+    }
+
+    @Test
+    void shouldAllowFirstRequestAndRejectWhenLimitExceeded() throws Exception {
+        // Given
+        when(sessionManager.getUserId(any())).thenReturn("user1");
+
+        // When
+        boolean first = interceptor.preHandle(request("POST", "/tweets"), new MockHttpServletResponse(), null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean second = interceptor.preHandle(request("POST", "/tweets"), response, null);
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(429, response.getStatus());
+        assertEquals("6", response.getHeader("Retry-After"));
+        // フォーム送信の画面遷移にはHTMLの429ページを返す
+        assertTrue(response.getContentType().startsWith("text/html"));
+        assertEquals(PAGE_HTML, response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(1.0, count("tweet", "allowed"));
+        assertEquals(1.0, count("tweet", "rejected"));
+    }
+
+    @Test
+    void shouldReturnJsonBodyForApiRequests() throws Exception {
+        // Given
+        when(sessionManager.getUserId(any())).thenReturn("user1");
+        interceptor.preHandle(request("POST", "/api/tweets/t1/like"), new MockHttpServletResponse(), null);
+
+        // When: いいね解除も同じバケットを使う
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean allowed = interceptor.preHandle(request("DELETE", "/api/tweets/t2/like"), response, null);
+
+        // Then
+        assertFalse(allowed);
+        assertEquals(429, response.getStatus());
+        assertEquals("application/json", response.getContentType());
+        assertTrue(response.getContentAsString().contains("\"code\":\"RATE_LIMITED\""));
+    }
+
+    @Test
+    void shouldLimitEachUserSeparately() throws Exception {
+        // Given
+        when(sessionManager.getUserId(any())).thenReturn("user1", "user2");
+
+        // When & Then
+        assertTrue(interceptor.preHandle(request("POST", "/tweets"), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request("POST", "/tweets"), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void shouldLimitEachActionSeparately() throws Exception {
+        // Given
+        when(sessionManager.getUserId(any())).thenReturn("user1");
+
+        // When & Then
+        assertTrue(interceptor.preHandle(request("POST", "/tweets"), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request("POST", "/api/tweets/t1/like"), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void shouldFallBackToRemoteAddressWhenNotLoggedIn() throws Exception {
+        // Given: 未ログイン（ユーザーIDなし）
+        MockHttpServletRequest first = request("POST", "/tweets");
+        first.setRemoteAddr("192.0.2.1");
+        MockHttpServletRequest other = request("POST", "/tweets");
+        other.setRemoteAddr("192.0.2.2");
+        MockHttpServletRequest again = request("POST", "/tweets");
+        again.setRemoteAddr("192.0.2.1");
+
+        // When & Then
+        assertTrue(interceptor.preHandle(first, new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(other, new MockHttpServletResponse(), null));
+        assertFalse(interceptor.preHandle(again, new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void shouldIgnoreRequestsOutsideRules() throws Exception {
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertTrue(interceptor.preHandle(request("GET", "/tweets"), new MockHttpServletResponse(), null));
+            assertTrue(interceptor.preHandle(request("POST", "/tweets/t1/delete"), new MockHttpServletResponse(), null));
+        }
+        verifyNoInteractions(sessionManager);
+    }
+
+    private MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private double count(String action, String outcome) {
+        return meterRegistry.get("chirper.ratelimit.requests")
+                .tag("action", action)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
@@ -6,7 +6,9 @@ import com.chirper.frontend.application.dto.RegisterResponse;
 import com.chirper.frontend.application.dto.TimelineDto;
 import com.chirper.frontend.application.dto.TweetDto;
 import com.chirper.frontend.application.dto.UserProfileDto;
+import com.chirper.frontend.domain.valueobject.FieldProjection;
 import com.chirper.frontend.infrastructure.client.BackendApiClient;
+import com.chirper.frontend.infrastructure.client.LikeWriteCoalescer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,9 +29,12 @@ class BackendApiRepositoryImplTest {
     @Mock
     private BackendApiClient apiClient;
 
+    @Mock
+    private LikeWriteCoalescer likeWriteCoalescer;
+
     @BeforeEach
     void setUp() {
-        repository = new BackendApiRepositoryImpl(apiClient);
+        repository = new BackendApiRepositoryImpl(apiClient, likeWriteCoalescer);
     }
 
     @Test
@@ -82,6 +87,22 @@ class BackendApiRepositoryImplTest {
         verify(apiClient).getTimeline(jwtToken, page, size);
     }
 
+    @Test
+    void shouldFlushPendingLikesBeforeGetTimeline() {
+        // Given
+        String jwtToken = "valid-token";
+        when(apiClient.getTimeline(jwtToken, 0, 20))
+                .thenReturn(new TimelineDto(Collections.emptyList(), 0, 1, 0));
+
+        // When
+        repository.getTimeline(jwtToken, 0, 20);
+
+        // Then - read-your-writes: 保留中の書き込みを送信してから取得する
+        var inOrder = inOrder(likeWriteCoalescer, apiClient);
+        inOrder.verify(likeWriteCoalescer).flush(jwtToken);
+        inOrder.verify(apiClient).getTimeline(jwtToken, 0, 20);
+    }
+
     @Test
     void shouldDelegateGetUserProfile() {
         // Given
@@ -113,7 +134,7 @@ class BackendApiRepositoryImplTest {
     }
 
     @Test
-    void shouldDelegateLikeTweet() {
+    void shouldCoalesceLikeTweet() {
         // Given
         String jwtToken = "valid-token";
         String tweetId = "tweet123";
@@ -121,8 +142,9 @@ class BackendApiRepositoryImplTest {
         // When
         repository.likeTweet(jwtToken, tweetId);
 
-        // Then
-        verify(apiClient).likeTweet(jwtToken, tweetId);
+        // Then - 直接送信せず、書き込みをまとめるキューに登録する
+        verify(likeWriteCoalescer).submit(jwtToken, tweetId, true);
+        verify(apiClient, never()).likeTweet(any(), any());
     }
 
     @Test
@@ -157,6 +179,26 @@ class BackendApiRepositoryImplTest {
         verify(apiClient).createTweet(jwtToken, content);
     }
 
+    @Test
+    void shouldDelegateCreateTweetWithIdempotencyKey() {
+        // Given
+        String jwtToken = "valid-token";
+        String content = "Hello, world!";
+        String idempotencyKey = "key-123";
+        TweetDto expectedResponse = new TweetDto(
+                "tweet123", "user123", "testuser", content,
+                Instant.now(), 0, 0, false, false
+        );
+        when(apiClient.createTweet(jwtToken, content, idempotencyKey)).thenReturn(expectedResponse);
+
+        // When
+        TweetDto result = repository.createTweet(jwtToken, content, idempotencyKey);
+
+        // Then
+        assertEquals(expectedResponse, result);
+        verify(apiClient).createTweet(jwtToken, content, idempotencyKey);
+    }
+
     @Test
     void shouldDelegateUpdateProfile() {
         // Given
@@ -193,7 +235,7 @@ class BackendApiRepositoryImplTest {
     }
 
     @Test
-    void shouldDelegateUnlikeTweet() {
+    void shouldCoalesceUnlikeTweet() {
         // Given
         String jwtToken = "valid-token";
         String tweetId = "tweet123";
@@ -201,8 +243,9 @@ class BackendApiRepositoryImplTest {
         // When
         repository.unlikeTweet(jwtToken, tweetId);
 
-        // Then
-        verify(apiClient).unlikeTweet(jwtToken, tweetId);
+        // Then - 直接送信せず、書き込みをまとめるキューに登録する
+        verify(likeWriteCoalescer).submit(jwtToken, tweetId, false);
+        verify(apiClient, never()).unlikeTweet(any(), any());
     }
 
     @Test
@@ -271,4 +314,26 @@ class BackendApiRepositoryImplTest {
         assertEquals(expectedResponse, result);
         verify(apiClient).getFollowing(jwtToken, username, page, size);
     }
+
+    @Test
+    void shouldDelegateProjectedReads() {
+        // Given
+        String jwtToken = "valid-token";
+        FieldProjection fields = FieldProjection.of("username", "bio");
+        FollowListDto followList = new FollowListDto(Collections.emptyList(), 0, 1, 0);
+        UserProfileDto profile = new UserProfileDto(null, "testuser", null, "bio", 0, 0, false);
+        TimelineDto timeline = new TimelineDto(Collections.emptyList(), 0, 1, 0);
+        when(apiClient.getFollowers(jwtToken, "testuser", 0, 20, fields)).thenReturn(followList);
+        when(apiClient.getFollowing(jwtToken, "testuser", 0, 20, fields)).thenReturn(followList);
+        when(apiClient.getUserProfile("testuser", fields)).thenReturn(profile);
+        when(apiClient.getTimeline(jwtToken, 0, 20, fields)).thenReturn(timeline);
+
+        // When & Then
+        assertEquals(followList, repository.getFollowers(jwtToken, "testuser", 0, 20, fields));
+        assertEquals(followList, repository.getFollowing(jwtToken, "testuser", 0, 20, fields));
+        assertEquals(profile, repository.getUserProfile("testuser", fields));
+        assertEquals(timeline, repository.getTimeline(jwtToken, 0, 20, fields));
+        // 射影付きでも保留中のいいねを先に送信する
+        verify(likeWriteCoalescer).flush(jwtToken);
+    }
 }
@@ -1,9 +1,12 @@
 package com.chirper.frontend.infrastructure.service;
 
+import com.chirper.frontend.domain.valueobject.FieldError;
 import com.chirper.frontend.domain.valueobject.ValidationResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ClientValidationServiceTest {
@@ -43,6 +46,47 @@ class ClientValidationServiceTest {
         assertFalse(result.isValid());
     }
 
+    @Test
+    void shouldReturnSharedResultWhenLoginFormIsValid() {
+        // When
+        ValidationResult first = service.validateLoginForm("validuser", "password123");
+        ValidationResult second = service.validateLoginForm("otheruser", "password456");
+
+        // Then
+        assertSame(ValidationResult.valid(), first);
+        assertSame(first, second);
+    }
+
+    @Test
+    void shouldReportOnlyLengthErrorForShortUsernameWithValidChars() {
+        // When
+        ValidationResult result = service.validateLoginForm("ab", "password123");
+
+        // Then
+        assertEquals(List.of("ユーザー名は3文字以上である必要があります"), messages(result));
+    }
+
+    @Test
+    void shouldReportLengthAndCharErrorsTogether() {
+        // When
+        ValidationResult result = service.validateLoginForm("a!", "short");
+
+        // Then
+        assertEquals(List.of(
+                "ユーザー名は3文字以上である必要があります",
+                "ユーザー名は英数字とアンダースコアのみ使用できます",
+                "パスワードは8文字以上である必要があります"), messages(result));
+    }
+
+    @Test
+    void shouldRejectUsernameWithNonAsciiLetters() {
+        // When
+        ValidationResult result = service.validateLoginForm("ユーザー名です", "password123");
+
+        // Then
+        assertEquals(List.of("ユーザー名は英数字とアンダースコアのみ使用できます"), messages(result));
+    }
+
     // Registration Form Validation Tests
     @Test
     void shouldValidateValidRegistrationForm() {
@@ -84,6 +128,27 @@ class ClientValidationServiceTest {
         assertFalse(result.isValid());
     }
 
+    @Test
+    void shouldAcceptEmailWithAllowedSymbols() {
+        // When
+        ValidationResult result = service.validateRegistrationForm(
+                "validuser", "first.last+tag_1@mail-1.example.com", "password123", "password123");
+
+        // Then
+        assertTrue(result.isValid());
+    }
+
+    @Test
+    void shouldRejectMalformedEmails() {
+        for (String email : List.of("@example.com", "user@", "user@@example.com", "a@b@c", "user name@example.com", "user@exa_mple.com")) {
+            // When
+            ValidationResult result = service.validateRegistrationForm("validuser", email, "password123", "password123");
+
+            // Then
+            assertEquals(List.of("有効なメールアドレスを入力してください"), messages(result), email);
+        }
+    }
+
     // Tweet Form Validation Tests
     @Test
     void shouldValidateValidTweetForm() {
@@ -127,6 +192,22 @@ class ClientValidationServiceTest {
         assertTrue(result.isValid());
     }
 
+    @Test
+    void shouldReturnLengthErrorMessageForTooLongTweet() {
+        // When
+        ValidationResult result = service.validateTweetForm("あ".repeat(281));
+
+        // Then
+        assertEquals(List.of("ツイートは280文字以内である必要があります"), messages(result));
+    }
+
+    @Test
+    void shouldCountCjkCharactersAsTwo() {
+        // When & Then
+        assertTrue(service.validateTweetForm("あ".repeat(140)).isValid());
+        assertFalse(service.validateTweetForm("あ".repeat(141)).isValid());
+    }
+
     // Profile Edit Form Validation Tests
     @Test
     void shouldValidateValidProfileEditForm() {
@@ -182,4 +263,8 @@ class ClientValidationServiceTest {
         // Then
         assertTrue(result.isValid());
     }
+
+    private List<String> messages(ValidationResult result) {
+        return result.getErrors().stream().map(FieldError::getMessage).toList();
+    }
 }
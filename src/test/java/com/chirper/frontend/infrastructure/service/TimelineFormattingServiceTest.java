@@ -85,4 +85,41 @@ class TimelineFormattingServiceTest {
         assertEquals(5, result.getTotalPages());
         assertTrue(result.hasNextPage());
     }
+
+    @Test
+    void shouldShareAuthorAcrossTweetsOfSameUser() {
+        // Given
+        Instant now = Instant.now();
+        List<TweetDto> tweets = List.of(
+                new TweetDto("tweet1", "user1", "alice", "first", now, 0, 0, false, false),
+                new TweetDto("tweet2", "user2", "bob", "second", now, 0, 0, false, false),
+                new TweetDto("tweet3", "user1", "alice", "third", now, 0, 0, false, false)
+        );
+
+        // When
+        List<TweetViewModel> result = service.formatTimeline(tweets, 0, 1).getTweets();
+
+        // Then
+        assertSame(result.get(0).getAuthor(), result.get(2).getAuthor());
+        assertNotSame(result.get(0).getAuthor(), result.get(1).getAuthor());
+        assertEquals("alice", result.get(2).getDisplayName());
+    }
+
+    @Test
+    void shouldShareEmptyEntityListsForPlainText() {
+        // Given
+        Instant now = Instant.now();
+        List<TweetDto> tweets = List.of(
+                new TweetDto("tweet1", "user1", "alice", "plain text", now, 0, 0, false, false),
+                new TweetDto("tweet2", "user2", "bob", "more plain text", now, 0, 0, false, false)
+        );
+
+        // When
+        List<TweetViewModel> result = service.formatTimeline(tweets, 0, 1).getTweets();
+
+        // Then
+        assertTrue(result.get(0).getContent().getMentions().isEmpty());
+        assertSame(result.get(0).getContent().getMentions(), result.get(1).getContent().getMentions());
+        assertSame(result.get(0).getContent().getUrls(), result.get(1).getContent().getHashtags());
+    }
 }
@@ -0,0 +1,135 @@
+package com.chirper.frontend.infrastructure.session;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSessionStoreTest {
+
+    private static final SessionData DATA = new SessionData("header.payload.signature", "user123", "testuser");
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldSurviveStoreRestart() {
+        // Given
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        newStore(Duration.ofHours(1)).save(request(loginResponse), DATA);
+
+        // When - 新しいインスタンス（再起動相当）で読み込む
+        MockHttpServletRequest next = request(new MockHttpServletResponse());
+        next.setCookies(loginResponse.getCookie("CHIRPER_SESSION"));
+        SessionData loaded = newStore(Duration.ofHours(1)).load(next);
+
+        // Then
+        assertEquals(DATA, loaded);
+    }
+
+    @Test
+    void shouldStoreCompactEncodedBytes() throws IOException {
+        // When
+        newStore(Duration.ofHours(1)).save(request(new MockHttpServletResponse()), DATA);
+
+        // Then
+        try (Stream<Path> files = Files.list(directory)) {
+            Path file = files.filter(path -> path.toString().endsWith(".session")).findFirst().orElseThrow();
+            assertArrayEquals(SessionDataCodec.encode(DATA), Files.readAllBytes(file));
+        }
+    }
+
+    @Test
+    void shouldDeleteFileOnClear() throws IOException {
+        // Given
+        FileSessionStore store = newStore(Duration.ofHours(1));
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        store.save(request(loginResponse), DATA);
+        MockHttpServletRequest logout = request(new MockHttpServletResponse());
+        logout.setCookies(loginResponse.getCookie("CHIRPER_SESSION"));
+
+        // When
+        store.clear(logout);
+
+        // Then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void shouldTreatExpiredFilesAsMissingAndPurgeThem() throws IOException {
+        // Given
+        FileSessionStore store = newStore(Duration.ofMinutes(30));
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        store.save(request(first), DATA);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        store.save(request(second), DATA);
+        ageAllFiles(Duration.ofHours(1));
+
+        // When
+        MockHttpServletRequest next = request(new MockHttpServletResponse());
+        next.setCookies(first.getCookie("CHIRPER_SESSION"));
+        SessionData loaded = store.load(next);
+        int purged = store.purgeExpired();
+
+        // Then
+        assertEquals(SessionData.EMPTY, loaded);
+        assertEquals(1, purged, "読み込み時に1件削除済みのため、残りの1件を削除する");
+    }
+
+    @Test
+    void shouldDiscardCorruptedFiles() throws IOException {
+        // Given
+        FileSessionStore store = newStore(Duration.ofHours(1));
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        store.save(request(loginResponse), DATA);
+        Cookie cookie = loginResponse.getCookie("CHIRPER_SESSION");
+        Files.write(directory.resolve(cookie.getValue() + ".session"), new byte[]{1, 7, 99});
+
+        // When
+        MockHttpServletRequest next = request(new MockHttpServletResponse());
+        next.setCookies(cookie);
+
+        // Then
+        assertEquals(SessionData.EMPTY, store.load(next));
+        assertFalse(Files.exists(directory.resolve(cookie.getValue() + ".session")));
+    }
+
+    private FileSessionStore newStore(Duration timeout) {
+        return new FileSessionStore("CHIRPER_SESSION", false, directory, timeout, Duration.ZERO);
+    }
+
+    private void ageAllFiles(Duration age) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+            }
+        }
+    }
+
+    private MockHttpServletRequest request(MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return request;
+    }
+}
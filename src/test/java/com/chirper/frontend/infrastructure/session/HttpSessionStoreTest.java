@@ -0,0 +1,47 @@
+package com.chirper.frontend.infrastructure.session;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpSessionStoreTest {
+
+    private final HttpSessionStore store = new HttpSessionStore();
+
+    @Test
+    void shouldStoreDataAsSessionAttributes() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // When
+        store.save(request, new SessionData("test-token", "user123", "testuser"));
+
+        // Then
+        assertEquals("test-token", request.getSession(false).getAttribute("JWT_TOKEN"));
+        assertEquals("user123", request.getSession(false).getAttribute("USER_ID"));
+        assertEquals("testuser", request.getSession(false).getAttribute("USERNAME"));
+        assertEquals(new SessionData("test-token", "user123", "testuser"), store.load(request));
+    }
+
+    @Test
+    void shouldReturnEmptyWithoutSession() {
+        // When & Then
+        assertEquals(SessionData.EMPTY, store.load(new MockHttpServletRequest()));
+    }
+
+    @Test
+    void shouldInvalidateSessionOnClear() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpSession session = new MockHttpSession();
+        request.setSession(session);
+
+        // When
+        store.clear(request);
+
+        // Then
+        assertTrue(session.isInvalid());
+    }
+}
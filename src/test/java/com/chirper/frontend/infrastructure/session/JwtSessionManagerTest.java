@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,7 +26,7 @@ class JwtSessionManagerTest {
 
     @BeforeEach
     void setUp() {
-        sessionManager = new JwtSessionManager();
+        sessionManager = new JwtSessionManager(new HttpSessionStore());
     }
 
     @Test
@@ -208,4 +210,72 @@ class JwtSessionManagerTest {
         // Then
         assertNull(result);
     }
+
+    @Test
+    void shouldReadSessionOnlyOncePerRequest() {
+        // Given
+        MockHttpServletRequest servletRequest = spy(new MockHttpServletRequest());
+        MockHttpSession httpSession = new MockHttpSession();
+        httpSession.setAttribute("JWT_TOKEN", "test-token");
+        httpSession.setAttribute("USER_ID", "user123");
+        httpSession.setAttribute("USERNAME", "testuser");
+        servletRequest.setSession(httpSession);
+
+        // When
+        boolean authenticated = sessionManager.isAuthenticated(servletRequest);
+        String jwtToken = sessionManager.getJwtToken(servletRequest);
+        String userId = sessionManager.getUserId(servletRequest);
+        String username = sessionManager.getUsername(servletRequest);
+
+        // Then
+        assertTrue(authenticated);
+        assertEquals("test-token", jwtToken);
+        assertEquals("user123", userId);
+        assertEquals("testuser", username);
+        verify(servletRequest, times(1)).getSession(false);
+    }
+
+    @Test
+    void shouldRememberMissingSessionForTheRequest() {
+        // Given
+        MockHttpServletRequest servletRequest = spy(new MockHttpServletRequest());
+
+        // When
+        sessionManager.isAuthenticated(servletRequest);
+        sessionManager.getUserId(servletRequest);
+
+        // Then
+        verify(servletRequest, times(1)).getSession(false);
+    }
+
+    @Test
+    void shouldWriteThroughSnapshotOnSave() {
+        // Given
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        assertNull(sessionManager.getJwtToken(servletRequest));
+
+        // When
+        sessionManager.saveJwtToken(servletRequest, "new-token", "user123", "testuser");
+
+        // Then - 同じリクエスト内の以降の参照に保存内容が反映される
+        assertEquals("new-token", sessionManager.getJwtToken(servletRequest));
+        assertEquals("user123", sessionManager.getUserId(servletRequest));
+        assertEquals("testuser", sessionManager.getUsername(servletRequest));
+        assertEquals("new-token", servletRequest.getSession(false).getAttribute("JWT_TOKEN"));
+    }
+
+    @Test
+    void shouldWriteThroughSnapshotOnClear() {
+        // Given
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        sessionManager.saveJwtToken(servletRequest, "test-token", "user123", "testuser");
+        assertTrue(sessionManager.isAuthenticated(servletRequest));
+
+        // When
+        sessionManager.clearSession(servletRequest);
+
+        // Then
+        assertFalse(sessionManager.isAuthenticated(servletRequest));
+        assertNull(sessionManager.getUsername(servletRequest));
+    }
 }
@@ -0,0 +1,234 @@
+package com.chirper.frontend.infrastructure.session;
+
+import jakarta.servlet.http.Cookie;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemorySessionStoreTest {
+
+    private static final SessionData DATA = new SessionData("header.payload.signature", "user123", "testuser");
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemorySessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new MemorySessionStore("CHIRPER_SESSION", false, Duration.ofMinutes(30), 16, 1_000_000, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldLoadSavedDataWithIssuedCookie() {
+        // Given
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        store.save(request(loginResponse), DATA);
+        Cookie cookie = loginResponse.getCookie("CHIRPER_SESSION");
+
+        // When
+        MockHttpServletRequest next = request(new MockHttpServletResponse());
+        next.setCookies(cookie);
+        SessionData loaded = store.load(next);
+
+        // Then
+        assertEquals(DATA, loaded);
+        assertTrue(cookie.isHttpOnly());
+        assertNull(next.getSession(false), "HttpSessionは作成しない");
+    }
+
+    @Test
+    void shouldReturnEmptyWithoutCookie() {
+        // When & Then
+        assertEquals(SessionData.EMPTY, store.load(request(new MockHttpServletResponse())));
+    }
+
+    @Test
+    void shouldIgnoreMalformedCookieValue() {
+        // Given
+        MockHttpServletRequest request = request(new MockHttpServletResponse());
+        request.setCookies(new Cookie("CHIRPER_SESSION", "../../etc/passwd"));
+
+        // When & Then
+        assertEquals(SessionData.EMPTY, store.load(request));
+    }
+
+    @Test
+    void shouldRotateKeyAndDropOldDataOnSave() {
+        // Given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        store.save(request(first), DATA);
+        Cookie oldCookie = first.getCookie("CHIRPER_SESSION");
+
+        // When
+        MockHttpServletRequest again = request(new MockHttpServletResponse());
+        again.setCookies(oldCookie);
+        store.save(again, new SessionData("new-token", "user123", "testuser"));
+
+        // Then
+        MockHttpServletRequest withOldCookie = request(new MockHttpServletResponse());
+        withOldCookie.setCookies(oldCookie);
+        assertEquals(SessionData.EMPTY, store.load(withOldCookie));
+        assertEquals("new-token", store.load(again).jwtToken(), "同じリクエスト内では新しいキーを使う");
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void shouldDeleteDataAndExpireCookieOnClear() {
+        // Given
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        store.save(request(loginResponse), DATA);
+        MockHttpServletResponse logoutResponse = new MockHttpServletResponse();
+        MockHttpServletRequest logout = request(logoutResponse);
+        logout.setCookies(loginResponse.getCookie("CHIRPER_SESSION"));
+
+        // When
+        store.clear(logout);
+
+        // Then
+        assertEquals(0, store.size());
+        assertEquals(0, logoutResponse.getCookie("CHIRPER_SESSION").getMaxAge());
+        assertEquals(SessionData.EMPTY, store.load(logout));
+    }
+
+    @Test
+    void shouldInvalidateHttpSessionOnClear() {
+        // Given: CSRFトークンなどを保持したHttpSession
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        store.save(request(loginResponse), DATA);
+        MockHttpServletRequest logout = request(new MockHttpServletResponse());
+        logout.setCookies(loginResponse.getCookie("CHIRPER_SESSION"));
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("csrf", "token");
+        logout.setSession(session);
+
+        // When
+        store.clear(logout);
+
+        // Then
+        assertTrue(session.isInvalid());
+    }
+
+    @Test
+    void shouldInvalidateHttpSessionOnClearWithoutSessionCookie() {
+        // Given
+        MockHttpServletRequest logout = request(new MockHttpServletResponse());
+        MockHttpSession session = new MockHttpSession();
+        logout.setSession(session);
+
+        // When
+        store.clear(logout);
+
+        // Then
+        assertTrue(session.isInvalid());
+    }
+
+    @Test
+    void shouldExpireIdleSessions() throws InterruptedException {
+        // Given
+        MemorySessionStore shortLived = new MemorySessionStore(
+                "CHIRPER_SESSION", false, Duration.ofMillis(1), 4, 1_000_000, new SimpleMeterRegistry());
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        shortLived.save(request(loginResponse), DATA);
+        Thread.sleep(10);
+
+        // When
+        MockHttpServletRequest next = request(new MockHttpServletResponse());
+        next.setCookies(loginResponse.getCookie("CHIRPER_SESSION"));
+
+        // Then
+        assertEquals(SessionData.EMPTY, shortLived.load(next));
+        assertEquals(0, shortLived.size());
+    }
+
+    @Test
+    void shouldRoundStripeCountUpToPowerOfTwo() {
+        // When & Then
+        assertEquals(16, store.stripeCount());
+        assertEquals(32, new MemorySessionStore(
+                "CHIRPER_SESSION", false, Duration.ofMinutes(1), 20, 1_000_000, new SimpleMeterRegistry()).stripeCount());
+    }
+
+    @Test
+    void shouldAccountBytesPerSession() {
+        // When
+        store.save(request(new MockHttpServletResponse()), DATA);
+        store.save(request(new MockHttpServletResponse()), DATA);
+
+        // Then
+        long expected = 2L * (SessionDataCodec.encode(DATA).length + MemorySessionStore.ENTRY_OVERHEAD_BYTES);
+        assertEquals(expected, store.totalBytes());
+        assertEquals(2.0, meterRegistry.get("chirper.sessions.active").gauge().value());
+        assertEquals((double) expected, meterRegistry.get("chirper.sessions.bytes").gauge().value());
+    }
+
+    @Test
+    void shouldReleaseBytesOnClear() {
+        // Given
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        store.save(request(loginResponse), DATA);
+        MockHttpServletRequest logout = request(new MockHttpServletResponse());
+        logout.setCookies(loginResponse.getCookie("CHIRPER_SESSION"));
+
+        // When
+        store.clear(logout);
+
+        // Then
+        assertEquals(0, store.totalBytes());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedSessionsWhenOverCapacity() {
+        // Given - 1ストライプに3件分の上限
+        long entryBytes = SessionDataCodec.encode(DATA).length + MemorySessionStore.ENTRY_OVERHEAD_BYTES;
+        SimpleMeterRegistry boundedRegistry = new SimpleMeterRegistry();
+        MemorySessionStore bounded = new MemorySessionStore(
+                "CHIRPER_SESSION", false, Duration.ofMinutes(30), 1, 2 * 3 * entryBytes, boundedRegistry);
+        Cookie[] cookies = new Cookie[4];
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            bounded.save(request(response), DATA);
+            cookies[i] = response.getCookie("CHIRPER_SESSION");
+        }
+
+        // When - 最初のセッションにアクセスしてから4件目を追加する（ストライプは2つ）
+        for (int i = 0; i < 50; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            bounded.save(request(response), DATA);
+            cookies[3] = response.getCookie("CHIRPER_SESSION");
+            assertEquals(DATA, bounded.load(withCookie(cookies[0])));
+        }
+
+        // Then - 上限を超えず、アクセスし続けたセッションと最新のセッションは残る
+        assertTrue(bounded.totalBytes() <= 2 * 3 * entryBytes);
+        assertEquals(DATA, bounded.load(withCookie(cookies[0])));
+        assertEquals(DATA, bounded.load(withCookie(cookies[3])));
+        assertTrue(boundedRegistry.get("chirper.sessions.removed").tag("reason", "evicted").counter().count() > 0);
+    }
+
+    private MockHttpServletRequest withCookie(Cookie cookie) {
+        MockHttpServletRequest request = request(new MockHttpServletResponse());
+        request.setCookies(cookie);
+        return request;
+    }
+
+    private MockHttpServletRequest request(MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return request;
+    }
+}
@@ -0,0 +1,115 @@
+package com.chirper.frontend.infrastructure.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionDataCodecTest {
+
+    // {"alg":"HS256"}.{"sub":"user123","iat":1700000000,"exp":1700003600}.署名
+    private static final String JWT = "eyJhbGciOiJIUzI1NiJ9"
+            + ".eyJzdWIiOiJ1c2VyMTIzIiwiaWF0IjoxNzAwMDAwMDAwLCJleHAiOjE3MDAwMDM2MDB9"
+            + ".SflKxwRJSMeKKF2QT4fwpMeJf36POk6yJV_adQssw5c";
+
+    @Test
+    void shouldRoundTripAllFields() {
+        // Given
+        SessionData data = new SessionData(JWT, "user123", "テストユーザー");
+
+        // When
+        SessionData decoded = SessionDataCodec.decode(SessionDataCodec.encode(data));
+
+        // Then
+        assertEquals(data, decoded);
+    }
+
+    @Test
+    void shouldRoundTripMissingFields() {
+        // Given
+        SessionData data = new SessionData(JWT, "user123", null);
+
+        // When & Then
+        assertEquals(data, SessionDataCodec.decode(SessionDataCodec.encode(data)));
+        assertEquals(SessionData.EMPTY, SessionDataCodec.decode(SessionDataCodec.encode(SessionData.EMPTY)));
+    }
+
+    @Test
+    void shouldReplaceKnownHeaderWithDictionaryReference() {
+        // Given
+        SessionData data = new SessionData(JWT, null, null);
+
+        // When
+        byte[] encoded = SessionDataCodec.encode(data);
+
+        // Then - ヘッダー文字列は含まれず、ペイロード・署名はBase64デコード分小さくなる
+        assertFalse(new String(encoded, java.nio.charset.StandardCharsets.ISO_8859_1).contains("eyJhbGci"));
+        assertTrue(encoded.length < (JWT.length() - 20) * 3 / 4 + 10,
+                "encoded size was " + encoded.length);
+    }
+
+    @Test
+    void shouldKeepUnknownHeaderInline() {
+        // Given - {"alg":"ES256","kid":"k1"}
+        String jwt = "eyJhbGciOiJFUzI1NiIsImtpZCI6ImsxIn0.eyJzdWIiOiJ1MSJ9.c2ln";
+        SessionData data = new SessionData(jwt, "u1", "user");
+
+        // When & Then
+        assertEquals(data, SessionDataCodec.decode(SessionDataCodec.encode(data)));
+    }
+
+    @Test
+    void shouldKeepNonCanonicalTokensVerbatim() {
+        // Given - Base64URLとして正規形でない・JWT形式でないトークン
+        String[] tokens = {"opaque-session-token", "a.b", "a.b.c.d", "eyJhbGciOiJIUzI1NiJ9.e30=.c2ln", "x.QR.c2ln", ""};
+
+        for (String token : tokens) {
+            // When
+            SessionData data = new SessionData(token, "u", "n");
+
+            // Then
+            assertEquals(data, SessionDataCodec.decode(SessionDataCodec.encode(data)), token);
+        }
+    }
+
+    @Test
+    void shouldBeSmallerThanJavaSerialization() throws IOException {
+        // Given
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("JWT_TOKEN", JWT);
+        attributes.put("USER_ID", "user123");
+        attributes.put("USERNAME", "testuser");
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+            out.writeObject(attributes);
+        }
+
+        // When
+        byte[] encoded = SessionDataCodec.encode(new SessionData(JWT, "user123", "testuser"));
+
+        // Then
+        assertTrue(encoded.length * 2 < serialized.size(),
+                encoded.length + " bytes vs " + serialized.size() + " bytes");
+    }
+
+    @Test
+    void shouldRejectMalformedData() {
+        // Given
+        byte[] valid = SessionDataCodec.encode(new SessionData(JWT, "user123", "testuser"));
+        byte[] truncated = java.util.Arrays.copyOf(valid, valid.length - 3);
+        byte[] wrongVersion = valid.clone();
+        wrongVersion[0] = 99;
+        byte[] trailing = java.util.Arrays.copyOf(valid, valid.length + 1);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> SessionDataCodec.decode(truncated));
+        assertThrows(IllegalArgumentException.class, () -> SessionDataCodec.decode(wrongVersion));
+        assertThrows(IllegalArgumentException.class, () -> SessionDataCodec.decode(trailing));
+        assertThrows(IllegalArgumentException.class, () -> SessionDataCodec.decode(new byte[0]));
+    }
+}
@@ -0,0 +1,53 @@
+package com.chirper.frontend.infrastructure.session;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 本番プロファイルでセッションのメトリクスがActuatorから取得できることのテスト
+ */
+@SpringBootTest(properties = "chirper.warmup.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("prod")
+class SessionMetricsActuatorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    @Test
+    void shouldUseBoundedMemoryStoreByDefault() {
+        // Then
+        assertInstanceOf(MemorySessionStore.class, sessionStore);
+    }
+
+    @Test
+    void shouldExposeSessionBytesGauge() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/metrics/chirper.sessions.bytes").with(user("ops")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("chirper.sessions.bytes"))
+                .andExpect(jsonPath("$.baseUnit").value("bytes"));
+    }
+
+    @Test
+    void shouldRequireAuthenticationForMetrics() throws Exception {
+        // When
+        int status = mockMvc.perform(get("/actuator/metrics/chirper.sessions.bytes"))
+                .andReturn().getResponse().getStatus();
+
+        // Then
+        assertNotEquals(200, status);
+    }
+}
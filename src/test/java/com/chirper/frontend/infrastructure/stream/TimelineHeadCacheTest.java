@@ -0,0 +1,108 @@
+package com.chirper.frontend.infrastructure.stream;
+
+import com.chirper.frontend.application.dto.TimelineDto;
+import com.chirper.frontend.application.dto.TweetDto;
+import com.chirper.frontend.domain.repository.IBackendApiRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineHeadCacheTest {
+
+    private static final String FEED_KEY = "user123";
+    private static final String JWT_TOKEN = "valid-token";
+
+    @Mock
+    private IBackendApiRepository apiRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimelineHeadCache headCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        headCache = new TimelineHeadCache(apiRepository, meterRegistry, Duration.ofMinutes(1), 3, 100);
+    }
+
+    @Test
+    void shouldLoadFromBackendOnlyOnceWithinTtl() {
+        // Given
+        when(apiRepository.getTimeline(JWT_TOKEN, 0, 3, TimelineHeadCache.HEAD_FIELDS)).thenReturn(timeline("tweet2", "tweet1"));
+
+        // When
+        List<String> first = headCache.getHead(FEED_KEY, JWT_TOKEN);
+        List<String> second = headCache.getHead(FEED_KEY, JWT_TOKEN);
+
+        // Then
+        assertEquals(List.of("tweet2", "tweet1"), first);
+        assertEquals(first, second);
+        verify(apiRepository, times(1)).getTimeline(JWT_TOKEN, 0, 3, TimelineHeadCache.HEAD_FIELDS);
+        assertEquals(1.0, count("hit"));
+        assertEquals(1.0, count("miss"));
+    }
+
+    @Test
+    void shouldAnswerFromRecordedHeadWithoutBackend() {
+        // Given - タイムライン表示時などに記録済み
+        headCache.update(FEED_KEY, timeline("tweet5", "tweet4", "tweet3", "tweet2").tweets());
+
+        // When
+        List<String> head = headCache.getHead(FEED_KEY, JWT_TOKEN);
+
+        // Then - depth件までに切り詰めて記録される
+        assertEquals(List.of("tweet5", "tweet4", "tweet3"), head);
+        verifyNoInteractions(apiRepository);
+    }
+
+    @Test
+    void shouldReloadAfterTtlExpires() throws InterruptedException {
+        // Given
+        TimelineHeadCache shortLived = new TimelineHeadCache(apiRepository, meterRegistry, Duration.ofMillis(1), 3, 100);
+        when(apiRepository.getTimeline(JWT_TOKEN, 0, 3, TimelineHeadCache.HEAD_FIELDS)).thenReturn(timeline("tweet1"));
+
+        // When
+        shortLived.getHead(FEED_KEY, JWT_TOKEN);
+        Thread.sleep(10);
+        shortLived.getHead(FEED_KEY, JWT_TOKEN);
+
+        // Then
+        verify(apiRepository, times(2)).getTimeline(JWT_TOKEN, 0, 3, TimelineHeadCache.HEAD_FIELDS);
+    }
+
+    @Test
+    void shouldNotGrowBeyondMaxEntries() {
+        // Given
+        TimelineHeadCache small = new TimelineHeadCache(apiRepository, meterRegistry, Duration.ofMinutes(1), 3, 1);
+
+        // When
+        small.update("user1", timeline("tweet1").tweets());
+        small.update("user2", timeline("tweet2").tweets());
+
+        // Then
+        assertEquals(1, small.size());
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("chirper.timeline.head.lookups").tag("result", result).counter().count();
+    }
+
+    private TimelineDto timeline(String... tweetIds) {
+        List<TweetDto> tweets = Arrays.stream(tweetIds)
+                .map(id -> new TweetDto(id, "user1", "testuser", "content " + id,
+                        Instant.now(), 0, 0, false, false))
+                .toList();
+        return new TimelineDto(tweets, 0, 1, tweets.size());
+    }
+}
@@ -0,0 +1,213 @@
+package com.chirper.frontend.infrastructure.stream;
+
+import com.chirper.frontend.application.dto.TimelineDto;
+import com.chirper.frontend.application.dto.TweetDto;
+import com.chirper.frontend.application.service.ITimelineFormattingService;
+import com.chirper.frontend.domain.model.TimelineViewModel;
+import com.chirper.frontend.domain.repository.IBackendApiRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineUpdateBroadcasterTest {
+
+    private static final String FEED_KEY = "user123";
+    private static final String JWT_TOKEN = "valid-token";
+
+    @Mock
+    private IBackendApiRepository apiRepository;
+
+    @Mock
+    private ITimelineFormattingService formattingService;
+
+    @Mock
+    private TweetFragmentRenderer fragmentRenderer;
+
+    @Mock
+    private TimelineHeadCache headCache;
+
+    private TimelineUpdateBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // 自動ポーリングが走らないよう十分長い間隔にし、pollNowで明示的にポーリングする
+        broadcaster = new TimelineUpdateBroadcaster(
+                apiRepository, formattingService, fragmentRenderer, headCache, new SimpleMeterRegistry(),
+                Duration.ofHours(1), Duration.ofMinutes(10), 3, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void shouldShareOneFeedAcrossSubscribersOfSameUser() {
+        // When
+        broadcaster.subscribe(FEED_KEY, JWT_TOKEN, "tweet1");
+        broadcaster.subscribe(FEED_KEY, JWT_TOKEN, "tweet1");
+        broadcaster.subscribe("other-user", "other-token", null);
+
+        // Then
+        assertEquals(2, broadcaster.feedCount());
+        assertEquals(3, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void shouldPollBackendOncePerFeedRegardlessOfSubscribers() {
+        // Given
+        when(apiRepository.getTimeline(JWT_TOKEN, 0, 3)).thenReturn(timeline("tweet1"));
+        for (int i = 0; i < 100; i++) {
+            broadcaster.subscribe(FEED_KEY, JWT_TOKEN, "tweet1");
+        }
+
+        // When
+        broadcaster.pollNow(FEED_KEY);
+
+        // Then
+        verify(apiRepository, times(1)).getTimeline(JWT_TOKEN, 0, 3);
+        verify(headCache).update(eq(FEED_KEY), anyList());
+        verifyNoInteractions(fragmentRenderer);
+    }
+
+    @Test
+    void shouldRenderOnlyTweetsNewerThanHead() {
+        // Given
+        broadcaster.subscribe(FEED_KEY, JWT_TOKEN, "tweet1");
+        when(apiRepository.getTimeline(JWT_TOKEN, 0, 3)).thenReturn(timeline("tweet3", "tweet2", "tweet1"));
+        when(formattingService.formatTimeline(anyList(), eq(0), eq(1)))
+                .thenReturn(new TimelineViewModel(List.of(), 0, 1));
+        when(fragmentRenderer.render(anyList())).thenReturn("<div></div>");
+
+        // When
+        broadcaster.pollNow(FEED_KEY);
+
+        // Then
+        verify(formattingService).formatTimeline(argThat(tweets -> tweets.size() == 2
+                && tweets.get(0).tweetId().equals("tweet3")
+                && tweets.get(1).tweetId().equals("tweet2")), eq(0), eq(1));
+        verify(fragmentRenderer, times(1)).render(anyList());
+        assertEquals("tweet3", broadcaster.headTweetId(FEED_KEY));
+    }
+
+    @Test
+    void shouldNotRenderAgainWhenNothingNew() {
+        // Given
+        broadcaster.subscribe(FEED_KEY, JWT_TOKEN, "tweet1");
+        when(apiRepository.getTimeline(JWT_TOKEN, 0, 3))
+                .thenReturn(timeline("tweet2", "tweet1"))
+                .thenReturn(timeline("tweet2", "tweet1"));
+        when(formattingService.formatTimeline(anyList(), eq(0), eq(1)))
+                .thenReturn(new TimelineViewModel(List.of(), 0, 1));
+        when(fragmentRenderer.render(anyList())).thenReturn("<div></div>");
+
+        // When
+        broadcaster.pollNow(FEED_KEY);
+        broadcaster.pollNow(FEED_KEY);
+
+        // Then
+        verify(fragmentRenderer, times(1)).render(anyList());
+    }
+
+    @Test
+    void shouldStopFeedWhenLastSubscriberLeaves() {
+        // Given
+        SseEmitter first = broadcaster.subscribe(FEED_KEY, JWT_TOKEN, null);
+        SseEmitter second = broadcaster.subscribe(FEED_KEY, JWT_TOKEN, null);
+
+        // When & Then
+        broadcaster.unsubscribe(FEED_KEY, first);
+        assertEquals(1, broadcaster.feedCount());
+
+        broadcaster.unsubscribe(FEED_KEY, second);
+        assertEquals(0, broadcaster.feedCount());
+    }
+
+    @Test
+    void shouldKeepFeedWhenBackendFails() {
+        // Given
+        broadcaster.subscribe(FEED_KEY, JWT_TOKEN, "tweet1");
+        when(apiRepository.getTimeline(JWT_TOKEN, 0, 3)).thenThrow(new RuntimeException("backend down"));
+
+        // When & Then
+        assertDoesNotThrow(() -> broadcaster.pollNow(FEED_KEY));
+        assertEquals("tweet1", broadcaster.headTweetId(FEED_KEY));
+        assertEquals(1, broadcaster.feedCount());
+    }
+
+    @Test
+    void shouldCompleteEmitterAndUnsubscribeOnTimeout() throws Exception {
+        // Given: 実際の非同期処理でエミッターを返す
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(broadcaster)).build();
+        MvcResult result = mockMvc.perform(get("/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(1, broadcaster.subscriberCount());
+
+        // When: エミッターのタイムアウトを発生させる
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        // Then: AsyncRequestTimeoutExceptionにならずに完了し、購読を解除する
+        MvcResult dispatched = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertNull(dispatched.getResolvedException());
+        assertEquals(0, broadcaster.subscriberCount());
+        assertEquals(0, broadcaster.feedCount());
+    }
+
+    private TimelineDto timeline(String... tweetIds) {
+        List<TweetDto> tweets = Arrays.stream(tweetIds)
+                .map(id -> new TweetDto(id, "user1", "testuser", "content " + id,
+                        Instant.now(), 0, 0, false, false))
+                .toList();
+        return new TimelineDto(tweets, 0, 1, tweets.size());
+    }
+
+    /**
+     * 購読を返すだけのテスト用コントローラー
+     */
+    @RestController
+    static class StreamController {
+
+        private final TimelineUpdateBroadcaster broadcaster;
+
+        StreamController(TimelineUpdateBroadcaster broadcaster) {
+            this.broadcaster = broadcaster;
+        }
+
+        @GetMapping("/stream")
+        SseEmitter stream() {
+            return broadcaster.subscribe(FEED_KEY, JWT_TOKEN, null);
+        }
+    }
+}
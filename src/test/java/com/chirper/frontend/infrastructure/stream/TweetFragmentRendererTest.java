@@ -0,0 +1,63 @@
+package com.chirper.frontend.infrastructure.stream;
+
+import com.chirper.frontend.domain.model.TweetViewModel;
+import com.chirper.frontend.domain.valueobject.DisplayTimestamp;
+import com.chirper.frontend.domain.valueobject.TweetContent;
+import com.chirper.frontend.infrastructure.config.ThymeleafConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TweetFragmentRendererTest {
+
+    private TweetFragmentRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setCharacterEncoding("UTF-8");
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        ThymeleafConfig.offlineLinkBuilderPostProcessor(new MockEnvironment())
+                .postProcessBeforeInitialization(templateEngine, "templateEngine");
+
+        renderer = new TweetFragmentRenderer(templateEngine);
+    }
+
+    @Test
+    void shouldRenderTweetsOutsideOfRequest() {
+        // Given
+        TweetViewModel tweet = new TweetViewModel(
+                "tweet123", "user123", "testuser", "Test User", null,
+                new TweetContent("Hello, Chirper!"), new DisplayTimestamp(Instant.now()),
+                3, 1, true, false);
+
+        // When
+        String html = renderer.render(List.of(tweet));
+
+        // Then - コンテキスト相対URLも解決される
+        assertTrue(html.contains("data-tweet-id=\"tweet123\""));
+        assertTrue(html.contains("Hello, Chirper!"));
+        assertTrue(html.contains("/api/tweets/tweet123/like"));
+        assertFalse(html.contains("<html"), "フラグメントのみが描画される");
+    }
+
+    @Test
+    void shouldRenderNothingForEmptyList() {
+        // When
+        String html = renderer.render(List.of());
+
+        // Then
+        assertFalse(html.contains("data-tweet-id"));
+    }
+}
@@ -0,0 +1,125 @@
+package com.chirper.frontend.infrastructure.warmup;
+
+import com.chirper.frontend.infrastructure.stream.TweetFragmentRenderer;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RenderingWarmupTest {
+
+    @Mock
+    private TweetFragmentRenderer fragmentRenderer;
+
+    private MockWebServer server;
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private final List<Boolean> authorizedDuringRun = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void shouldRenderEveryPageForEachIteration() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("local.server.port", String.valueOf(server.getPort()));
+        RenderingWarmup warmup = new RenderingWarmup(fragmentRenderer, environment, 2);
+        server.setDispatcher(recordingDispatcher(warmup, 200));
+
+        // When
+        warmup.run(new DefaultApplicationArguments());
+
+        // Then
+        int pagesPerIteration = RenderingWarmup.PUBLIC_PAGES.size() + RenderingWarmup.SYNTHETIC_PAGES.size();
+        assertEquals(2 * pagesPerIteration, requests.size());
+        verify(fragmentRenderer, times(2)).render(anyList());
+
+        List<String> paths = new ArrayList<>();
+        requests.forEach(request -> paths.add(request.getPath()));
+        assertTrue(paths.contains("/login"));
+        assertTrue(paths.contains("/internal/warmup/timeline"));
+        assertTrue(paths.contains("/internal/warmup/profile-edit"));
+    }
+
+    @Test
+    void shouldAuthorizeOnlyItsOwnTokenWhileRunning() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("local.server.port", String.valueOf(server.getPort()));
+        RenderingWarmup warmup = new RenderingWarmup(fragmentRenderer, environment, 1);
+        server.setDispatcher(recordingDispatcher(warmup, 200));
+
+        // When
+        warmup.run(new DefaultApplicationArguments());
+
+        // Then - 実行中は発行したトークンが有効、終了後は無効
+        assertFalse(authorizedDuringRun.isEmpty());
+        assertTrue(authorizedDuringRun.stream().allMatch(Boolean::booleanValue));
+        String token = requests.get(0).getHeader(RenderingWarmup.TOKEN_HEADER);
+        assertFalse(warmup.isAuthorized(token));
+        assertFalse(warmup.isAuthorized(null));
+    }
+
+    @Test
+    void shouldNotFailStartupWhenRenderingFails() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("local.server.port", String.valueOf(server.getPort()));
+        RenderingWarmup warmup = new RenderingWarmup(fragmentRenderer, environment, 1);
+        server.setDispatcher(recordingDispatcher(warmup, 500));
+        when(fragmentRenderer.render(anyList())).thenThrow(new IllegalStateException("template error"));
+
+        // When & Then
+        assertDoesNotThrow(() -> warmup.run(new DefaultApplicationArguments()));
+    }
+
+    @Test
+    void shouldSkipHttpWarmupWithoutServerPort() {
+        // Given
+        RenderingWarmup warmup = new RenderingWarmup(fragmentRenderer, new MockEnvironment(), 3);
+
+        // When
+        warmup.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(fragmentRenderer, times(3)).render(anyList());
+        assertEquals(0, server.getRequestCount());
+    }
+
+    private Dispatcher recordingDispatcher(RenderingWarmup warmup, int status) {
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                requests.add(request);
+                authorizedDuringRun.add(warmup.isAuthorized(request.getHeader(RenderingWarmup.TOKEN_HEADER)));
+                return new MockResponse().setResponseCode(status).setBody("<html></html>");
+            }
+        };
+    }
+}
@@ -1,12 +1,19 @@
 package com.chirper.frontend.presentation.controller;
 
 import com.chirper.frontend.infrastructure.config.SecurityConfig;
+import com.chirper.frontend.infrastructure.config.StaticResourceConfig;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -14,7 +21,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * HomeController のテスト
  */
 @WebMvcTest(HomeController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, StaticResourceConfig.class})
 class HomeControllerTest {
 
     @Autowired
@@ -26,4 +33,67 @@ class HomeControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(view().name("home"));
     }
+
+    @Test
+    void shouldLinkFingerprintedSelfHostedAssets() throws Exception {
+        // Act & Assert - 静的リソースは内容ハッシュ付きURLで参照し、CDNは使わない
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(matchesPattern("(?s).*/css/style-[0-9a-f]{32}\\.css.*")))
+                .andExpect(content().string(matchesPattern("(?s).*/js/app-[0-9a-f]{32}\\.js.*")))
+                .andExpect(content().string(containsString("/vendor/bootstrap/")))
+                .andExpect(content().string(not(containsString("cdn.jsdelivr.net"))));
+    }
+
+    @Test
+    void shouldServeFingerprintedAssetsWithImmutableCaching() throws Exception {
+        // Arrange
+        String stylesheet = fingerprintedUrl("/css/style-[0-9a-f]{32}\\.css");
+
+        // Act & Assert
+        mockMvc.perform(get(stylesheet))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+    }
+
+    @Test
+    void shouldRevalidateAssetsRequestedWithoutFingerprint() throws Exception {
+        // Act & Assert - ハッシュなしのURLは内容が変わっても同じため、長期キャッシュさせない
+        mockMvc.perform(get("/css/style.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, not(containsString("immutable"))));
+    }
+
+    @Test
+    void shouldKeepImmutableCachingForPrecompressedFingerprintedAssets() throws Exception {
+        // Arrange
+        String script = fingerprintedUrl("/js/app-[0-9a-f]{32}\\.js");
+
+        // Act & Assert
+        mockMvc.perform(get(script).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+    }
+
+    @Test
+    void shouldServePrecompressedVariantWhenAccepted() throws Exception {
+        // Act & Assert - ビルド時に生成した .gz を返す
+        mockMvc.perform(get("/js/app.js").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString("Accept-Encoding")));
+    }
+
+    /**
+     * ホーム画面のHTMLから内容ハッシュ付きURLを取り出すヘルパーメソッド
+     */
+    private String fingerprintedUrl(String regex) throws Exception {
+        String html = mockMvc.perform(get("/")).andReturn().getResponse().getContentAsString();
+        Matcher matcher = Pattern.compile(regex).matcher(html);
+        assertTrue(matcher.find(), "内容ハッシュ付きURLが見つからない: " + regex);
+        return matcher.group();
+    }
 }
@@ -48,7 +48,7 @@ class ProfileControllerTest {
                 "user-123", "testuser", "test@example.com",
                 "Test Bio", 10, 5, false
         );
-        when(displayUserProfileUseCase.execute("testuser"))
+        when(displayUserProfileUseCase.execute(eq("testuser"), any()))
                 .thenReturn(profile);
         when(sessionManager.getUsername(any())).thenReturn("viewer");
 
@@ -60,7 +60,8 @@ class ProfileControllerTest {
                 .andExpect(model().attributeExists("profile"))
                 .andExpect(model().attribute("isOwner", false));
 
-        verify(displayUserProfileUseCase).execute("testuser");
+        // 所有者以外のプロフィールではメールアドレスを取得しない
+        verify(displayUserProfileUseCase).execute(eq("testuser"), argThat(fields -> !fields.includes("email")));
     }
 
     @Test
@@ -70,7 +71,7 @@ class ProfileControllerTest {
                 "user-123", "testuser", "test@example.com",
                 "Test Bio", 10, 5, false
         );
-        when(displayUserProfileUseCase.execute("testuser"))
+        when(displayUserProfileUseCase.execute(eq("testuser"), any()))
                 .thenReturn(profile);
         when(sessionManager.getUsername(any())).thenReturn("testuser");
 
@@ -82,7 +83,7 @@ class ProfileControllerTest {
                 .andExpect(model().attributeExists("profile"))
                 .andExpect(model().attribute("isOwner", true));
 
-        verify(displayUserProfileUseCase).execute("testuser");
+        verify(displayUserProfileUseCase).execute(eq("testuser"), argThat(fields -> fields.includes("email")));
     }
 
     @Test
@@ -100,7 +101,7 @@ class ProfileControllerTest {
                 "Test Bio", 10, 5, false
         );
         when(sessionManager.getUsername(any())).thenReturn("testuser");
-        when(displayUserProfileUseCase.execute("testuser"))
+        when(displayUserProfileUseCase.execute(eq("testuser"), any()))
                 .thenReturn(profile);
 
         // Act & Assert
@@ -165,14 +166,14 @@ class ProfileControllerTest {
                 .andExpect(model().attributeExists("error"))
                 .andExpect(model().attribute("error", "ログインが必要です"));
 
-        verify(displayUserProfileUseCase, never()).execute(anyString());
+        verify(displayUserProfileUseCase, never()).execute(anyString(), any());
     }
 
     @Test
     void shouldHandleExceptionInEditProfileForm() throws Exception {
         // Given
         when(sessionManager.getUsername(any())).thenReturn("testuser");
-        when(displayUserProfileUseCase.execute("testuser"))
+        when(displayUserProfileUseCase.execute(eq("testuser"), any()))
                 .thenThrow(new RuntimeException("API Error"));
 
         // When & Then
@@ -193,7 +194,7 @@ class ProfileControllerTest {
                 null, // bio is null
                 10, 5, false
         );
-        when(displayUserProfileUseCase.execute("testuser")).thenReturn(profileWithNullBio);
+        when(displayUserProfileUseCase.execute(eq("testuser"), any())).thenReturn(profileWithNullBio);
 
         // When & Then
         mockMvc.perform(get("/profile/edit")
@@ -203,7 +204,7 @@ class ProfileControllerTest {
                 .andExpect(model().attributeExists("profileForm"));
 
         // Verify that empty string is used for null bio
-        verify(displayUserProfileUseCase).execute("testuser");
+        verify(displayUserProfileUseCase).execute(eq("testuser"), any());
     }
 
     @Test
@@ -231,7 +232,7 @@ class ProfileControllerTest {
                 "user123", "testuser", "test@example.com",
                 "Test bio", 10, 5, false
         );
-        when(displayUserProfileUseCase.execute("testuser")).thenReturn(profile);
+        when(displayUserProfileUseCase.execute(eq("testuser"), any())).thenReturn(profile);
         when(sessionManager.getUsername(any())).thenReturn(null);
 
         // When & Then
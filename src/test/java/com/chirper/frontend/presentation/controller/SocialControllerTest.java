@@ -4,6 +4,7 @@ import com.chirper.frontend.application.dto.FollowListDto;
 import com.chirper.frontend.application.usecase.FollowUserUseCase;
 import com.chirper.frontend.application.usecase.UnfollowUserUseCase;
 import com.chirper.frontend.domain.repository.IBackendApiRepository;
+import com.chirper.frontend.domain.valueobject.FieldProjection;
 import com.chirper.frontend.infrastructure.config.SecurityConfig;
 import com.chirper.frontend.infrastructure.session.JwtSessionManager;
 import org.junit.jupiter.api.Test;
@@ -116,7 +117,7 @@ class SocialControllerTest {
         String jwtToken = "valid-token";
         FollowListDto followersDto = new FollowListDto(Collections.emptyList(), 0, 1, 0);
         when(sessionManager.getJwtToken(any())).thenReturn(jwtToken);
-        when(apiRepository.getFollowers(eq(jwtToken), eq("testuser"), eq(0), eq(20)))
+        when(apiRepository.getFollowers(eq(jwtToken), eq("testuser"), eq(0), eq(20), any()))
                 .thenReturn(followersDto);
 
         // Act & Assert
@@ -127,10 +128,13 @@ class SocialControllerTest {
                 .andExpect(model().attribute("username", "testuser"))
                 .andExpect(model().attributeExists("followers"))
                 .andExpect(model().attribute("currentPage", 0))
-                .andExpect(model().attribute("totalPages", 1));
+                .andExpect(model().attribute("totalPages", 1))
+                .andExpect(model().attributeExists("pagination"));
 
         verify(sessionManager).getJwtToken(any());
-        verify(apiRepository).getFollowers(eq(jwtToken), eq("testuser"), eq(0), eq(20));
+        // 一覧で表示するユーザー名と自己紹介だけを取得する
+        verify(apiRepository).getFollowers(eq(jwtToken), eq("testuser"), eq(0), eq(20),
+                eq(FieldProjection.of("username", "bio")));
     }
 
     @Test
@@ -139,7 +143,7 @@ class SocialControllerTest {
         String jwtToken = "valid-token";
         FollowListDto followingDto = new FollowListDto(Collections.emptyList(), 0, 1, 0);
         when(sessionManager.getJwtToken(any())).thenReturn(jwtToken);
-        when(apiRepository.getFollowing(eq(jwtToken), eq("testuser"), eq(0), eq(20)))
+        when(apiRepository.getFollowing(eq(jwtToken), eq("testuser"), eq(0), eq(20), any()))
                 .thenReturn(followingDto);
 
         // Act & Assert
@@ -150,10 +154,13 @@ class SocialControllerTest {
                 .andExpect(model().attribute("username", "testuser"))
                 .andExpect(model().attributeExists("following"))
                 .andExpect(model().attribute("currentPage", 0))
-                .andExpect(model().attribute("totalPages", 1));
+                .andExpect(model().attribute("totalPages", 1))
+                .andExpect(model().attributeExists("pagination"));
 
         verify(sessionManager).getJwtToken(any());
-        verify(apiRepository).getFollowing(eq(jwtToken), eq("testuser"), eq(0), eq(20));
+        // 一覧で表示するユーザー名と自己紹介だけを取得する
+        verify(apiRepository).getFollowing(eq(jwtToken), eq("testuser"), eq(0), eq(20),
+                eq(FieldProjection.of("username", "bio")));
     }
 
     @Test
@@ -171,7 +178,7 @@ class SocialControllerTest {
                 .andExpect(model().attribute("followers", Collections.emptyList()));
 
         verify(sessionManager).getJwtToken(any());
-        verify(apiRepository, never()).getFollowers(any(), any(), anyInt(), anyInt());
+        verify(apiRepository, never()).getFollowers(any(), any(), anyInt(), anyInt(), any());
     }
 
     @Test
@@ -189,7 +196,7 @@ class SocialControllerTest {
                 .andExpect(model().attribute("following", Collections.emptyList()));
 
         verify(sessionManager).getJwtToken(any());
-        verify(apiRepository, never()).getFollowing(any(), any(), anyInt(), anyInt());
+        verify(apiRepository, never()).getFollowing(any(), any(), anyInt(), anyInt(), any());
     }
 
     @Test
@@ -197,7 +204,7 @@ class SocialControllerTest {
         // Arrange
         String jwtToken = "valid-token";
         when(sessionManager.getJwtToken(any())).thenReturn(jwtToken);
-        when(apiRepository.getFollowers(eq(jwtToken), eq("testuser"), eq(0), eq(20)))
+        when(apiRepository.getFollowers(eq(jwtToken), eq("testuser"), eq(0), eq(20), any()))
                 .thenThrow(new RuntimeException("API エラー"));
 
         // Act & Assert
@@ -215,7 +222,7 @@ class SocialControllerTest {
         // Arrange
         String jwtToken = "valid-token";
         when(sessionManager.getJwtToken(any())).thenReturn(jwtToken);
-        when(apiRepository.getFollowing(eq(jwtToken), eq("testuser"), eq(0), eq(20)))
+        when(apiRepository.getFollowing(eq(jwtToken), eq("testuser"), eq(0), eq(20), any()))
                 .thenThrow(new RuntimeException("API エラー"));
 
         // Act & Assert
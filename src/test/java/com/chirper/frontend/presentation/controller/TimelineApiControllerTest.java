@@ -0,0 +1,77 @@
+package com.chirper.frontend.presentation.controller;
+
+import com.chirper.frontend.application.dto.NewTweetsResponse;
+import com.chirper.frontend.application.exception.UnauthorizedException;
+import com.chirper.frontend.application.usecase.CheckNewTweetsUseCase;
+import com.chirper.frontend.infrastructure.config.SecurityConfig;
+import com.chirper.frontend.infrastructure.exception.BackendApiException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * TimelineApiController のテスト
+ */
+@WebMvcTest(TimelineApiController.class)
+@Import(SecurityConfig.class)
+class TimelineApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CheckNewTweetsUseCase checkNewTweetsUseCase;
+
+    @Test
+    void shouldReturnNewTweetsCount() throws Exception {
+        // Arrange
+        when(checkNewTweetsUseCase.execute(any(), eq("tweet1")))
+                .thenReturn(new NewTweetsResponse(2, "tweet3", false));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/timeline/new-count")
+                        .with(user("testuser"))
+                        .param("since", "tweet1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.cursor").value("tweet3"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void shouldReturnUnauthorizedWhenNotLoggedIn() throws Exception {
+        // Arrange
+        when(checkNewTweetsUseCase.execute(any(), any()))
+                .thenThrow(new UnauthorizedException("ログインが必要です"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/timeline/new-count")
+                        .with(user("testuser")))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("UNAUTHORIZED"));
+    }
+
+    @Test
+    void shouldReturnBadGatewayWhenBackendFails() throws Exception {
+        // Arrange
+        when(checkNewTweetsUseCase.execute(any(), any()))
+                .thenThrow(new BackendApiException("Backend APIエラー", 500));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/timeline/new-count")
+                        .with(user("testuser"))
+                        .param("since", "tweet1"))
+                .andExpect(status().isBadGateway())
+                .andExpect(jsonPath("$.code").value("BACKEND_ERROR"));
+    }
+}
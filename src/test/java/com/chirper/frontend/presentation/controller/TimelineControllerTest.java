@@ -111,4 +111,45 @@ class TimelineControllerTest {
 
         verify(displayTimelineUseCase).execute(any(), eq(0), eq(100));
     }
+
+    @Test
+    void shouldReturnTweetListFragmentForInfiniteScroll() throws Exception {
+        // Arrange
+        TimelineViewModel timeline = new TimelineViewModel(
+                List.of(), 3, 10
+        );
+        when(displayTimelineUseCase.execute(any(), eq(3), eq(20)))
+                .thenReturn(timeline);
+
+        // Act & Assert - レイアウトを含まないツイート一覧フラグメントのみを返す
+        mockMvc.perform(get("/timeline/fragment")
+                        .with(user("testuser"))
+                        .param("page", "3"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("components/tweet-list :: tweetList"))
+                .andExpect(model().attribute("timeline", timeline))
+                .andExpect(model().attribute("pageSize", 20))
+                .andExpect(model().attributeDoesNotExist("tweetForm"));
+
+        verify(displayTimelineUseCase).execute(any(), eq(3), eq(20));
+    }
+
+    @Test
+    void shouldNormalizeFragmentParameters() throws Exception {
+        // Arrange
+        TimelineViewModel timeline = new TimelineViewModel(
+                List.of(), 0, 1
+        );
+        when(displayTimelineUseCase.execute(any(), eq(0), eq(100)))
+                .thenReturn(timeline);
+
+        // Act & Assert - 負のpageは0に、過大なsizeは100に正規化される
+        mockMvc.perform(get("/timeline/fragment")
+                        .with(user("testuser"))
+                        .param("page", "-5")
+                        .param("size", "500"))
+                .andExpect(status().isOk());
+
+        verify(displayTimelineUseCase).execute(any(), eq(0), eq(100));
+    }
 }
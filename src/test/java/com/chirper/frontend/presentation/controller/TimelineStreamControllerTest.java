@@ -0,0 +1,63 @@
+package com.chirper.frontend.presentation.controller;
+
+import com.chirper.frontend.application.exception.UnauthorizedException;
+import com.chirper.frontend.application.usecase.SubscribeTimelineUpdatesUseCase;
+import com.chirper.frontend.infrastructure.config.SecurityConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * TimelineStreamController のテスト
+ */
+@WebMvcTest(TimelineStreamController.class)
+@Import(SecurityConfig.class)
+class TimelineStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SubscribeTimelineUpdatesUseCase subscribeTimelineUpdatesUseCase;
+
+    @Test
+    void shouldOpenEventStream() throws Exception {
+        // Arrange
+        when(subscribeTimelineUpdatesUseCase.execute(any(), eq("tweet1"))).thenReturn(new SseEmitter());
+
+        // Act & Assert
+        mockMvc.perform(get("/timeline/stream")
+                        .with(user("testuser"))
+                        .param("since", "tweet1")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Accel-Buffering", "no"));
+
+        verify(subscribeTimelineUpdatesUseCase).execute(any(), eq("tweet1"));
+    }
+
+    @Test
+    void shouldReturnUnauthorizedWhenNotLoggedIn() throws Exception {
+        // Arrange
+        when(subscribeTimelineUpdatesUseCase.execute(any(), isNull()))
+                .thenThrow(new UnauthorizedException("ログインが必要です"));
+
+        // Act & Assert - リダイレクトではなく401を返す
+        mockMvc.perform(get("/timeline/stream")
+                        .with(user("testuser"))
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isUnauthorized());
+    }
+}
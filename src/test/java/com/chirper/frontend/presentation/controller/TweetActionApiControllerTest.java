@@ -0,0 +1,124 @@
+package com.chirper.frontend.presentation.controller;
+
+import com.chirper.frontend.application.exception.UnauthorizedException;
+import com.chirper.frontend.application.usecase.LikeTweetUseCase;
+import com.chirper.frontend.application.usecase.RetweetUseCase;
+import com.chirper.frontend.application.usecase.UnlikeTweetUseCase;
+import com.chirper.frontend.infrastructure.config.SecurityConfig;
+import com.chirper.frontend.infrastructure.exception.BackendApiException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * TweetActionApiController のテスト
+ */
+@WebMvcTest(TweetActionApiController.class)
+@Import(SecurityConfig.class)
+class TweetActionApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LikeTweetUseCase likeTweetUseCase;
+
+    @MockBean
+    private UnlikeTweetUseCase unlikeTweetUseCase;
+
+    @MockBean
+    private RetweetUseCase retweetUseCase;
+
+    @Test
+    void shouldLikeTweetAndReturnState() throws Exception {
+        // Act & Assert - /api/** はCSRF除外のためトークン不要
+        mockMvc.perform(post("/api/tweets/tweet123/like")
+                        .with(user("testuser")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tweetId").value("tweet123"))
+                .andExpect(jsonPath("$.active").value(true))
+                .andExpect(jsonPath("$.count").doesNotExist());
+
+        verify(likeTweetUseCase).execute(any(), eq("tweet123"));
+    }
+
+    @Test
+    void shouldUnlikeTweetAndReturnState() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/api/tweets/tweet123/like")
+                        .with(user("testuser")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active").value(false));
+
+        verify(unlikeTweetUseCase).execute(any(), eq("tweet123"));
+    }
+
+    @Test
+    void shouldNotEchoClientSuppliedCount() throws Exception {
+        // Act & Assert - クライアントが送った件数をサーバーの値として返さない
+        mockMvc.perform(post("/api/tweets/tweet123/like")
+                        .with(user("testuser"))
+                        .param("currentCount", "999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").doesNotExist());
+    }
+
+    @Test
+    void shouldRetweetAndReturnState() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/tweets/tweet123/retweet")
+                        .with(user("testuser")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active").value(true));
+
+        verify(retweetUseCase).execute(any(), eq("tweet123"));
+    }
+
+    @Test
+    void shouldReturnUnauthorizedWhenNotLoggedIn() throws Exception {
+        // Arrange
+        doThrow(new UnauthorizedException("ログインが必要です"))
+                .when(likeTweetUseCase).execute(any(), eq("tweet123"));
+
+        // Act & Assert - リダイレクトではなく401を返す
+        mockMvc.perform(post("/api/tweets/tweet123/like")
+                        .with(user("testuser")))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("UNAUTHORIZED"));
+    }
+
+    @Test
+    void shouldReturnBadGatewayWhenBackendFails() throws Exception {
+        // Arrange
+        doThrow(new BackendApiException("Backend APIエラー", 500))
+                .when(retweetUseCase).execute(any(), eq("tweet123"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tweets/tweet123/retweet")
+                        .with(user("testuser")))
+                .andExpect(status().isBadGateway())
+                .andExpect(jsonPath("$.code").value("BACKEND_ERROR"));
+    }
+
+    @Test
+    void shouldPassThroughBackendClientErrors() throws Exception {
+        // Arrange
+        doThrow(new BackendApiException("Backend APIエラー", 404))
+                .when(likeTweetUseCase).execute(any(), eq("missing"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tweets/missing/like")
+                        .with(user("testuser")))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -38,19 +38,33 @@ class TweetControllerTest {
     void shouldSubmitTweetSuccessfully() throws Exception {
         // Arrange
         TweetDto tweet = mock(TweetDto.class);
-        when(submitTweetUseCase.execute(any(), eq("Hello, World!")))
+        when(submitTweetUseCase.execute(any(), eq("Hello, World!"), eq("key-123")))
                 .thenReturn(tweet);
 
         // Act & Assert
         mockMvc.perform(post("/tweets")
                         .with(csrf())
                         .with(user("testuser"))
-                        .param("content", "Hello, World!"))
+                        .param("content", "Hello, World!")
+                        .param("idempotencyKey", "key-123"))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/timeline"))
                 .andExpect(flash().attribute("success", "ツイートを投稿しました"));
 
-        verify(submitTweetUseCase).execute(any(), eq("Hello, World!"));
+        verify(submitTweetUseCase).execute(any(), eq("Hello, World!"), eq("key-123"));
+    }
+
+    @Test
+    void shouldSubmitTweetWithoutIdempotencyKey() throws Exception {
+        // Act & Assert - キーなしの送信（古いフォームなど）も受け付ける
+        mockMvc.perform(post("/tweets")
+                        .with(csrf())
+                        .with(user("testuser"))
+                        .param("content", "Hello, World!"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attribute("success", "ツイートを投稿しました"));
+
+        verify(submitTweetUseCase).execute(any(), eq("Hello, World!"), isNull());
     }
 
     @Test
@@ -66,13 +80,27 @@ class TweetControllerTest {
                 .andExpect(flash().attributeExists("tweetForm"))
                 .andExpect(flash().attributeExists("org.springframework.validation.BindingResult.tweetForm"));
 
-        verify(submitTweetUseCase, never()).execute(any(), anyString());
+        verify(submitTweetUseCase, never()).execute(any(), anyString(), any());
+    }
+
+    @Test
+    void shouldRejectTweetExceedingWeightedLength() throws Exception {
+        // Act & Assert - 全角文字は2文字として数えるため141文字で上限を超える
+        mockMvc.perform(post("/tweets")
+                        .with(csrf())
+                        .with(user("testuser"))
+                        .param("content", "あ".repeat(141)))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/timeline"))
+                .andExpect(flash().attribute("error", "ツイート内容に誤りがあります"));
+
+        verify(submitTweetUseCase, never()).execute(any(), anyString(), any());
     }
 
     @Test
     void shouldHandleSubmitTweetFailure() throws Exception {
         // Arrange
-        when(submitTweetUseCase.execute(any(), eq("Test tweet")))
+        when(submitTweetUseCase.execute(any(), eq("Test tweet"), any()))
                 .thenThrow(new RuntimeException("投稿に失敗しました"));
 
         // Act & Assert
@@ -0,0 +1,81 @@
+package com.chirper.frontend.presentation.controller;
+
+import com.chirper.frontend.infrastructure.config.SecurityConfig;
+import com.chirper.frontend.infrastructure.warmup.RenderingWarmup;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * WarmupController のテスト
+ */
+@WebMvcTest(controllers = WarmupController.class, properties = "chirper.warmup.enabled=true")
+@Import(SecurityConfig.class)
+class WarmupControllerTest {
+
+    private static final String TOKEN = "warmup-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RenderingWarmup renderingWarmup;
+
+    @Test
+    void shouldRenderTimelineWithSyntheticData() throws Exception {
+        // Arrange
+        when(renderingWarmup.isAuthorized(TOKEN)).thenReturn(true);
+
+        // Act & Assert - ログインなしでも合成データで描画できる
+        mockMvc.perform(get("/internal/warmup/timeline")
+                        .header(RenderingWarmup.TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(view().name("timeline"))
+                .andExpect(content().string(containsString("warmup-tweet-0")));
+    }
+
+    @Test
+    void shouldRenderEverySyntheticPage() throws Exception {
+        // Arrange
+        when(renderingWarmup.isAuthorized(TOKEN)).thenReturn(true);
+
+        // Act & Assert
+        for (String page : new String[]{"tweet-list", "profile", "profile-edit", "followers", "following"}) {
+            mockMvc.perform(get("/internal/warmup/" + page)
+                            .header(RenderingWarmup.TOKEN_HEADER, TOKEN))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void shouldReturnNotFoundWithoutValidToken() throws Exception {
+        // Arrange
+        when(renderingWarmup.isAuthorized(any())).thenReturn(false);
+
+        // Act & Assert
+        mockMvc.perform(get("/internal/warmup/timeline")
+                        .header(RenderingWarmup.TOKEN_HEADER, "guess"))
+                .andExpect(status().isNotFound())
+                .andExpect(view().name("error/404"));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownPage() throws Exception {
+        // Arrange
+        when(renderingWarmup.isAuthorized(TOKEN)).thenReturn(true);
+
+        // Act & Assert
+        mockMvc.perform(get("/internal/warmup/unknown")
+                        .header(RenderingWarmup.TOKEN_HEADER, TOKEN))
+                .andExpect(status().isNotFound());
+    }
+}
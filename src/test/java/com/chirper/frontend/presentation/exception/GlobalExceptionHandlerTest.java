@@ -6,31 +6,47 @@ import com.chirper.frontend.domain.valueobject.FieldError;
 import com.chirper.frontend.infrastructure.exception.BackendApiException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
-import org.springframework.ui.ExtendedModelMap;
-import org.springframework.ui.Model;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 /**
  * GlobalExceptionHandler のテスト
  */
 class GlobalExceptionHandlerTest {
 
+    private static final String ERROR_500_HTML = "<html><h1>500</h1><p>サーバーエラーが発生しました</p></html>";
+    private static final String ERROR_404_HTML = "<html><h1>404</h1></html>";
+
+    private ITemplateEngine templateEngine;
     private GlobalExceptionHandler handler;
     private RedirectAttributes redirectAttributes;
-    private Model model;
 
     @BeforeEach
     void setUp() {
-        handler = new GlobalExceptionHandler();
+        templateEngine = mock(ITemplateEngine.class);
+        when(templateEngine.process(eq("error/500"), any(IContext.class))).thenReturn(ERROR_500_HTML);
+        when(templateEngine.process(eq("error/404"), any(IContext.class))).thenReturn(ERROR_404_HTML);
+        handler = new GlobalExceptionHandler(templateEngine);
         redirectAttributes = new RedirectAttributesModelMap();
-        model = new ExtendedModelMap();
     }
 
     @Test
@@ -121,12 +137,14 @@ class GlobalExceptionHandlerTest {
         BackendApiException exception = new BackendApiException("バックエンドAPI呼び出しに失敗しました", 500, "Internal Server Error");
 
         // Act
-        String result = handler.handleBackendApiException(exception, model);
+        ResponseEntity<byte[]> result = handler.handleBackendApiException(exception);
 
         // Assert
-        assertEquals("error/500", result);
-        assertEquals("サーバーエラーが発生しました", model.getAttribute("error"));
-        assertEquals("バックエンドAPI呼び出しに失敗しました", model.getAttribute("message"));
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
+        assertTrue(MediaType.TEXT_HTML.isCompatibleWith(result.getHeaders().getContentType()));
+        assertEquals(ERROR_500_HTML, new String(result.getBody(), StandardCharsets.UTF_8));
+        // 例外メッセージは画面に出さない
+        assertFalse(new String(result.getBody(), StandardCharsets.UTF_8).contains("バックエンドAPI呼び出しに失敗しました"));
     }
 
     @Test
@@ -135,11 +153,75 @@ class GlobalExceptionHandlerTest {
         Exception exception = new RuntimeException("予期しないエラー");
 
         // Act
-        String result = handler.handleException(exception, model);
+        ResponseEntity<byte[]> result = handler.handleException(exception);
+
+        // Assert
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
+        assertEquals(ERROR_500_HTML, new String(result.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldHandleMissingResourceAsNotFound() {
+        // Arrange
+        NoResourceFoundException exception = new NoResourceFoundException(HttpMethod.GET, "missing.png");
+
+        // Act
+        ResponseEntity<byte[]> result = handler.handleNotFound(exception);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+        assertEquals(ERROR_404_HTML, new String(result.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldHandleAsyncRequestTimeoutWithoutErrorPage() {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        handler.handleAsyncRequestTimeout(new AsyncRequestTimeoutException(), response);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+        assertEquals(0, response.getContentLength());
+        verify(templateEngine, never()).process(anyString(), any(IContext.class));
+    }
+
+    @Test
+    void shouldLeaveOpenEventStreamUntouchedOnAsyncRequestTimeout() throws Exception {
+        // Arrange - SSEのヘッダー送信済み
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.flushBuffer();
+
+        // Act
+        handler.handleAsyncRequestTimeout(new AsyncRequestTimeoutException(), response);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(MediaType.TEXT_EVENT_STREAM_VALUE, response.getContentType());
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    void shouldRenderEachErrorPageOnlyOnce() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            handler.handleBackendApiException(new BackendApiException("Backend APIエラー", 503));
+            handler.handleException(new IllegalStateException("error"));
+        }
+
+        // Assert - 2回目以降は描画済みのバイト列を返す
+        verify(templateEngine, times(1)).process(eq("error/500"), any(IContext.class));
+    }
+
+    @Test
+    void shouldReturnSameCachedBytesForRepeatedErrors() {
+        // Act
+        byte[] first = handler.handleException(new RuntimeException("1")).getBody();
+        byte[] second = handler.handleException(new RuntimeException("2")).getBody();
 
         // Assert
-        assertEquals("error/500", result);
-        assertEquals("予期しないエラーが発生しました", model.getAttribute("error"));
-        assertEquals("予期しないエラー", model.getAttribute("message"));
+        assertSame(first, second);
     }
 }